@@ -3,11 +3,25 @@ package ru.company.news.api;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+/**
+ * News API application.
+ * The cache advice is ordered outside the transaction advice, so that the evictions of the transactional methods
+ * run after the commit: evicted before it, an entry can be loaded again from the old committed rows.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
 @SpringBootApplication
-@EnableCaching
+@EnableCaching(order = Application.CACHE_ORDER)
+@EnableTransactionManagement(order = Application.TRANSACTION_ORDER)
 public class Application {
 
+    public static final int CACHE_ORDER = Ordered.LOWEST_PRECEDENCE - 1;
+    public static final int TRANSACTION_ORDER = Ordered.LOWEST_PRECEDENCE;
+
     public static void main(String[] args) {
         SpringApplication.run(Application.class, args);
     }
@@ -0,0 +1,206 @@
+package ru.company.news.api.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import ru.company.news.api.config.LogProperties;
+import ru.company.news.api.dto.log.response.AuditLogResponse;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous log of the controller and service calls.
+ * The aspects publish rendered messages into a bounded ring buffer, a background thread writes them to the log,
+ * so the request thread does not wait for the log output.
+ * If the buffer is full, the message is dropped or the request thread waits for free space, depending on the policy.
+ * The thread name, MDC and time of the request thread are captured with the message and written with it.
+ * If disabled, messages are written by the request thread.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class AuditLog implements DisposableBean {
+
+    private static final long IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long BLOCK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final LogProperties.Audit options;
+    private final RingBuffer<Event> events;
+    private final Thread writer;
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder writtenCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder blockedCount = new LongAdder();
+    private volatile boolean running = true;
+
+    /**
+     * @param logProperties logging options.
+     */
+    public AuditLog(LogProperties logProperties) {
+        this.options = logProperties.getAudit();
+        this.events = new RingBuffer<>(options.getCapacity());
+        this.writer = new CustomizableThreadFactory("audit-log-").newThread(this::write);
+        if (options.isEnabled()) {
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    /**
+     * Method for publishing a message at the INFO level.
+     *
+     * @param logger    logger of the called class.
+     * @param pattern   message pattern.
+     * @param arguments rendered arguments of the message.
+     */
+    public void publish(Logger logger, String pattern, String... arguments) {
+        if (!options.isEnabled()) {
+            logger.info(pattern, (Object[]) arguments);
+            return;
+        }
+        Event event = new Event(logger, pattern, arguments);
+        publishedCount.increment();
+        if (events.offer(event)) {
+            return;
+        }
+        if (options.getOverflowPolicy() == LogProperties.OverflowPolicy.DROP) {
+            droppedCount.increment();
+            return;
+        }
+        blockedCount.increment();
+        while (!events.offer(event)) {
+            if (!running) {
+                droppedCount.increment();
+                return;
+            }
+            LockSupport.parkNanos(BLOCK_NANOS);
+        }
+    }
+
+    /**
+     * @return state of the buffer: depth, published, written and dropped messages.
+     */
+    public AuditLogResponse getStats() {
+        return AuditLogResponse.builder()
+                .enabled(options.isEnabled())
+                .overflowPolicy(options.getOverflowPolicy())
+                .capacity(events.capacity())
+                .queueDepth(events.size())
+                .publishedCount(publishedCount.sum())
+                .writtenCount(writtenCount.sum())
+                .droppedCount(droppedCount.sum())
+                .blockedCount(blockedCount.sum())
+                .build();
+    }
+
+    /**
+     * Stopping the writer, the messages left in the buffer are written.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void write() {
+        while (true) {
+            Event event = events.poll();
+            if (event != null) {
+                writeSafely(event);
+            } else if (running) {
+                LockSupport.parkNanos(IDLE_NANOS);
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void writeSafely(Event event) {
+        try {
+            event.write();
+            writtenCount.increment();
+        } catch (RuntimeException e) {
+            log.warn("Audit message of {} is not written", event.logger.getName(), e);
+        }
+    }
+
+    /**
+     * Message with the already rendered arguments and the logging context of the publishing thread.
+     */
+    private static final class Event {
+
+        private static final String FQCN = AuditLog.class.getName();
+
+        private final Logger logger;
+        private final String pattern;
+        private final Object[] arguments;
+        private final long timestamp;
+        private final String threadName;
+        private final Map<String, String> mdc;
+
+        private Event(Logger logger, String pattern, Object[] arguments) {
+            this.logger = logger;
+            this.pattern = pattern;
+            this.arguments = arguments;
+            this.timestamp = System.currentTimeMillis();
+            this.threadName = Thread.currentThread().getName();
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            this.mdc = mdc == null ? Collections.emptyMap() : mdc;
+        }
+
+        private void write() {
+            if (logger instanceof ch.qos.logback.classic.Logger) {
+                writeEvent((ch.qos.logback.classic.Logger) logger);
+            } else {
+                writeInContext();
+            }
+        }
+
+        /**
+         * The Logback event takes the time, thread and MDC of the publication as they are.
+         */
+        private void writeEvent(ch.qos.logback.classic.Logger logbackLogger) {
+            if (!logbackLogger.isInfoEnabled()) {
+                return;
+            }
+            LoggingEvent event = new LoggingEvent(FQCN, logbackLogger, Level.INFO, pattern, null, arguments);
+            event.setTimeStamp(timestamp);
+            event.setThreadName(threadName);
+            event.setMDCPropertyMap(mdc);
+            logbackLogger.callAppenders(event);
+        }
+
+        /**
+         * Other logging backends take the thread name and MDC of the writer thread,
+         * so they are substituted for the call; the time is that of the writing.
+         */
+        private void writeInContext() {
+            Thread thread = Thread.currentThread();
+            String writerName = thread.getName();
+            Map<String, String> writerMdc = MDC.getCopyOfContextMap();
+            thread.setName(threadName);
+            MDC.setContextMap(mdc);
+            try {
+                logger.info(pattern, arguments);
+            } finally {
+                thread.setName(writerName);
+                if (writerMdc == null) {
+                    MDC.clear();
+                } else {
+                    MDC.setContextMap(writerMdc);
+                }
+            }
+        }
+    }
+}
@@ -2,16 +2,18 @@ package ru.company.news.api.aop;
 
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.reflect.CodeSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
+import ru.company.news.api.config.LogProperties;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * A class contains patterns for data logging.
+ * Calls are logged with the logger of the called class, so the log level is set per package.
+ * The arguments and the result are rendered only for the calls being logged,
+ * the messages are written asynchronously by the {@link AuditLog}.
  *
  * @author Anton Salazhkov
  * @version 1.0
@@ -31,6 +33,55 @@ public class BaseAspect {
     public static final String BEFORE_PATTERN_CONTROLLER = PREFIX_CONTROLLER_BEFORE + "{}" + " {}:" + URI + "{}, " + ARGS + "{}";
     public static final String AFTER_PATTERN_CONTROLLER = PREFIX_CONTROLLER_AFTER + "{}" + " {}:" + URI + "{}, result is {}, " + ARGS + "{}";
 
+    private final LogProperties logProperties;
+    private final LogRenderer logRenderer;
+    private final AuditLog auditLog;
+
+    /**
+     * @param logProperties logging options.
+     * @param auditLog      asynchronous log.
+     */
+    public BaseAspect(LogProperties logProperties, AuditLog auditLog) {
+        this.logProperties = logProperties;
+        this.auditLog = auditLog;
+        this.logRenderer = new LogRenderer(logProperties.getMaxStringLength(), logProperties.getMaxCollectionSize());
+    }
+
+    /**
+     * Method for obtaining the logger of the called class.
+     *
+     * @param point Getting arguments from a specific location.
+     * @return logger named after the class of the called object.
+     */
+    protected Logger getLogger(JoinPoint point) {
+        return LoggerFactory.getLogger(point.getTarget().getClass());
+    }
+
+    /**
+     * Method for deciding whether the call is logged, before anything is rendered.
+     *
+     * @param logger logger of the called class.
+     * @return true if the INFO level is enabled and the call falls into the sampled share.
+     */
+    protected boolean isLogged(Logger logger) {
+        if (!logger.isInfoEnabled()) {
+            return false;
+        }
+        double sampleRate = logProperties.getSampleRate();
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Method for writing a message at the INFO level.
+     *
+     * @param logger    logger of the called class.
+     * @param pattern   message pattern.
+     * @param arguments rendered arguments of the message.
+     */
+    protected void log(Logger logger, String pattern, String... arguments) {
+        auditLog.publish(logger, pattern, arguments);
+    }
+
     /**
      * Method for composing a string from processed arguments.
      *
@@ -45,7 +96,7 @@ public class BaseAspect {
             stringBuilder
                     .append(parameterNames[i])
                     .append("=")
-                    .append(getStringInstanceOf(Optional.ofNullable(args[i]).orElse("not defined")));
+                    .append(getStringInstanceOf(args[i]));
             if (i != args.length - 1) {
                 stringBuilder.append(", ");
             }
@@ -56,21 +107,13 @@ public class BaseAspect {
 
     /**
      * A method for converting received objects, collections, or strings into a string.
+     * Entities are rendered with identifiers and counts only, without loading lazy associations,
+     * long strings and collections are truncated.
      *
      * @param result object, collection, or string.
      * @return the resulting {@code result} as a string.
      */
     protected String getStringInstanceOf(Object result) {
-        if (result instanceof Object[]) {
-            return Arrays.toString((Object[]) result);
-        }
-        if (result instanceof HashMap) {
-            Map<Object, Object> resultMap = (Map) result;
-            return resultMap.entrySet()
-                    .stream()
-                    .map(entry -> String.join("#", entry.getKey().toString(), entry.getValue().toString()))
-                    .collect(Collectors.joining(", ", "(", ")"));
-        }
-        return Optional.ofNullable(result).orElse("not defined").toString();
+        return logRenderer.render(result);
     }
 }
@@ -1,17 +1,16 @@
 package ru.company.news.api.aop;
 
-import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import ru.company.news.api.config.LogProperties;
 
 import javax.servlet.http.HttpServletRequest;
-import java.util.Optional;
 
 /**
  * Controller data logging.
@@ -19,11 +18,18 @@ import java.util.Optional;
  * @author Anton Salazhkov
  * @version 1.0
  */
-@Slf4j
 @Aspect
 @Component
 public class ControllerLogAspect extends BaseAspect {
 
+    /**
+     * @param logProperties logging options.
+     * @param auditLog      asynchronous log.
+     */
+    public ControllerLogAspect(LogProperties logProperties, AuditLog auditLog) {
+        super(logProperties, auditLog);
+    }
+
     /**
      * Determining where the aspect applies.
      */
@@ -32,38 +38,36 @@ public class ControllerLogAspect extends BaseAspect {
     }
 
     /**
-     * Logging before method execution.
+     * Logging before and after method execution.
+     * Nothing is rendered if the log level is disabled or the call is not sampled.
      *
      * @param joinPoint Getting arguments from a specific location.
+     * @return the result of executing the method at a specific location.
+     * @throws Throwable exception of the method.
      */
-    @Before("around()")
-    public void logControllersBefore(JoinPoint joinPoint) {
+    @Around("around()")
+    public Object logControllers(ProceedingJoinPoint joinPoint) throws Throwable {
+        Logger logger = getLogger(joinPoint);
+        if (!isLogged(logger)) {
+            return joinPoint.proceed();
+        }
         final HttpServletRequest request =
                 ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
 
-        log.info(BEFORE_PATTERN_CONTROLLER,
+        log(logger, BEFORE_PATTERN_CONTROLLER,
                 request.getMethod(),
                 joinPoint.getSignature().toShortString(),
                 request.getRequestURI(),
                 getArgsWithNames(joinPoint));
-    }
 
-    /**
-     * Logging after method execution.
-     *
-     * @param joinPoint Getting arguments from a specific location.
-     * @param result    the result of executing the method at a specific location.
-     */
-    @AfterReturning(pointcut = "around()", returning = "result")
-    public void logControllerAfter(JoinPoint joinPoint, Object result) {
-        final HttpServletRequest request =
-                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        Object result = joinPoint.proceed();
 
-        log.info(AFTER_PATTERN_CONTROLLER,
+        log(logger, AFTER_PATTERN_CONTROLLER,
                 request.getMethod(),
                 joinPoint.getSignature().toShortString(),
                 request.getRequestURI(),
-                getStringInstanceOf(Optional.ofNullable(result).orElse("not defined")),
+                getStringInstanceOf(result),
                 getArgsWithNames(joinPoint));
+        return result;
     }
 }
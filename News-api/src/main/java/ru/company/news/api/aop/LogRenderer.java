@@ -0,0 +1,151 @@
+package ru.company.news.api.aop;
+
+import org.hibernate.Hibernate;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import ru.company.news.api.entity.comment.Comment;
+import ru.company.news.api.entity.news.News;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Rendering of arguments and results of calls for the log, safe for the persistence layer.
+ * Entities are rendered with their identifiers and the number of loaded comments only,
+ * uninitialized Hibernate proxies and collections are never loaded.
+ * Strings are truncated and collections are cut to the configured limits.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class LogRenderer {
+
+    public static final String NOT_DEFINED = "not defined";
+    public static final String NOT_LOADED = "not loaded";
+
+    private final int maxStringLength;
+    private final int maxCollectionSize;
+
+    /**
+     * @param maxStringLength   maximum number of characters of a string.
+     * @param maxCollectionSize maximum number of rendered elements of a collection, array or map.
+     */
+    public LogRenderer(int maxStringLength, int maxCollectionSize) {
+        this.maxStringLength = maxStringLength;
+        this.maxCollectionSize = maxCollectionSize;
+    }
+
+    /**
+     * @param value argument or result of a call.
+     * @return value as a string.
+     */
+    public String render(Object value) {
+        StringBuilder builder = new StringBuilder();
+        render(value, builder);
+        return builder.toString();
+    }
+
+    private void render(Object value, StringBuilder builder) {
+        if (value == null) {
+            builder.append(NOT_DEFINED);
+        } else if (value instanceof HibernateProxy) {
+            renderProxy((HibernateProxy) value, builder);
+        } else if (!Hibernate.isInitialized(value)) {
+            builder.append(NOT_LOADED);
+        } else if (value instanceof News) {
+            News news = (News) value;
+            builder.append("News(id=").append(news.getId()).append(", comments=");
+            appendSize(news.getComments(), builder);
+            builder.append(')');
+        } else if (value instanceof Comment) {
+            Comment comment = (Comment) value;
+            builder.append("Comment(id=").append(comment.getId()).append(", news=");
+            appendId(comment.getNews(), builder);
+            builder.append(')');
+        } else if (value instanceof HttpEntity) {
+            renderEntity((HttpEntity<?>) value, builder);
+        } else if (value instanceof byte[]) {
+            builder.append("byte[").append(((byte[]) value).length).append(']');
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            renderElements(Arrays.asList(array).iterator(), array.length, "[", "]", builder);
+        } else if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            renderElements(collection.iterator(), collection.size(), "[", "]", builder);
+        } else if (value instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            renderElements(map.entrySet().iterator(), map.size(), "(", ")", builder);
+        } else if (value instanceof Map.Entry) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) value;
+            render(entry.getKey(), builder);
+            builder.append('#');
+            render(entry.getValue(), builder);
+        } else {
+            appendTruncated(value.toString(), builder);
+        }
+    }
+
+    private void renderProxy(HibernateProxy proxy, StringBuilder builder) {
+        if (proxy.getHibernateLazyInitializer().isUninitialized()) {
+            builder.append(proxy.getHibernateLazyInitializer().getPersistentClass().getSimpleName())
+                    .append("(id=").append(proxy.getHibernateLazyInitializer().getIdentifier()).append(')');
+            return;
+        }
+        render(proxy.getHibernateLazyInitializer().getImplementation(), builder);
+    }
+
+    private void renderEntity(HttpEntity<?> entity, StringBuilder builder) {
+        builder.append('<');
+        if (entity instanceof ResponseEntity) {
+            builder.append(((ResponseEntity<?>) entity).getStatusCodeValue()).append(", ");
+        }
+        render(entity.getBody(), builder);
+        builder.append('>');
+    }
+
+    private void renderElements(Iterator<?> elements, int size, String prefix, String suffix, StringBuilder builder) {
+        builder.append(prefix);
+        for (int i = 0; i < Math.min(size, maxCollectionSize) && elements.hasNext(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            render(elements.next(), builder);
+        }
+        if (size > maxCollectionSize) {
+            builder.append(", ... (").append(size).append(" in total)");
+        }
+        builder.append(suffix);
+    }
+
+    private void appendTruncated(String string, StringBuilder builder) {
+        if (string.length() <= maxStringLength) {
+            builder.append(string);
+            return;
+        }
+        builder.append(string, 0, maxStringLength)
+                .append("... (").append(string.length()).append(" characters)");
+    }
+
+    private void appendSize(Collection<?> collection, StringBuilder builder) {
+        if (collection == null) {
+            builder.append(NOT_DEFINED);
+        } else if (Hibernate.isInitialized(collection)) {
+            builder.append(collection.size());
+        } else {
+            builder.append(NOT_LOADED);
+        }
+    }
+
+    private void appendId(News news, StringBuilder builder) {
+        if (news instanceof HibernateProxy) {
+            builder.append(((HibernateProxy) news).getHibernateLazyInitializer().getIdentifier());
+        } else if (news != null) {
+            builder.append(news.getId());
+        } else {
+            builder.append(NOT_DEFINED);
+        }
+    }
+}
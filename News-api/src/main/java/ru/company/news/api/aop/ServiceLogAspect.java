@@ -1,14 +1,12 @@
 package ru.company.news.api.aop;
 
-import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
-import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
 import org.aspectj.lang.annotation.Pointcut;
+import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
-
-import java.util.Optional;
+import ru.company.news.api.config.LogProperties;
 
 /**
  * Service data logging.
@@ -16,11 +14,18 @@ import java.util.Optional;
  * @author Anton Salazhkov
  * @version 1.0
  */
-@Slf4j
 @Aspect
 @Component
 public class ServiceLogAspect extends BaseAspect {
 
+    /**
+     * @param logProperties logging options.
+     * @param auditLog      asynchronous log.
+     */
+    public ServiceLogAspect(LogProperties logProperties, AuditLog auditLog) {
+        super(logProperties, auditLog);
+    }
+
     /**
      * Determining where the aspect applies.
      */
@@ -29,30 +34,29 @@ public class ServiceLogAspect extends BaseAspect {
     }
 
     /**
-     * Logging before method execution.
+     * Logging before and after method execution.
+     * Nothing is rendered if the log level is disabled or the call is not sampled.
      *
      * @param joinPoint Getting arguments from a specific location.
+     * @return the result of executing the method at a specific location.
+     * @throws Throwable exception of the method.
      */
-    @Before("around()")
-    public void logServicesBefore(JoinPoint joinPoint) {
-
-        log.info(BEFORE_SERVICE_PATTERN,
+    @Around("around()")
+    public Object logServices(ProceedingJoinPoint joinPoint) throws Throwable {
+        Logger logger = getLogger(joinPoint);
+        if (!isLogged(logger)) {
+            return joinPoint.proceed();
+        }
+        log(logger, BEFORE_SERVICE_PATTERN,
                 joinPoint.getSignature().toShortString(),
                 getArgsWithNames(joinPoint));
-    }
 
-    /**
-     * Logging after method execution.
-     *
-     * @param joinPoint Getting arguments from a specific location.
-     * @param result    the result of executing the method at a specific location.
-     */
-    @AfterReturning(pointcut = "around()", returning = "result")
-    public void logServicesAfter(JoinPoint joinPoint, Object result) {
+        Object result = joinPoint.proceed();
 
-        log.info(AFTER_SERVICE_PATTERN,
+        log(logger, AFTER_SERVICE_PATTERN,
                 joinPoint.getSignature().toShortString(),
-                getStringInstanceOf(Optional.ofNullable(result).orElse("not defined")),
+                getStringInstanceOf(result),
                 getArgsWithNames(joinPoint));
+        return result;
     }
 }
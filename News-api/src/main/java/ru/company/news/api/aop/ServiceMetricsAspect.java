@@ -0,0 +1,67 @@
+package ru.company.news.api.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.stereotype.Component;
+
+/**
+ * Timing of the news and comment service calls.
+ * Each call is recorded by the "service.calls" timer tagged with the class, the method, the outcome
+ * and the exception thrown, the percentiles and histogram buckets are set by the
+ * "management.metrics.distribution" properties. Controller calls are timed by "http.server.requests".
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String TIMER = "service.calls";
+    public static final String SUCCESS = "SUCCESS";
+    public static final String ERROR = "ERROR";
+    public static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Determining where the aspect applies.
+     */
+    @Pointcut("execution(* ru.company.news.api.service.news.NewsService+.*(..))"
+            + " || execution(* ru.company.news.api.service.comment.CommentService+.*(..))")
+    public void around() {
+    }
+
+    /**
+     * Recording the duration of the method execution.
+     *
+     * @param joinPoint Getting arguments from a specific location.
+     * @return the result of executing the method at a specific location.
+     * @throws Throwable exception of the method.
+     */
+    @Around("around()")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NONE;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(TIMER)
+                    .description("Duration of the news and comment service calls")
+                    .tag("class", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", NONE.equals(exception) ? SUCCESS : ERROR)
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package ru.company.news.api.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.Map;
+
+/**
+ * Class for defining cache options.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    /**
+     * Bounded caches with the lifetime, refresh time and size limits from the "news-api.cache" properties.
+     * Entries of the "news", "newsDetails", "newsById" and "comment" caches are tagged with the news they depend on.
+     */
+    @Bean
+    public GuavaCacheManager cacheManager(CacheProperties cacheProperties) {
+        return new GuavaCacheManager(cacheProperties, Map.<String, CacheTagger>of(
+                "news", CacheTaggers::news,
+                "newsDetails", CacheTaggers::newsDetails,
+                "newsById", CacheTaggers::newsById,
+                "comment", CacheTaggers::comment));
+    }
+
+    /**
+     * Exposes the calls of the cacheable methods, so that the reloads repeat them through the proxy.
+     * Ordered before the cache interceptor.
+     */
+    @Bean
+    public static Advisor cacheInvocationAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(Cacheable.class), new CacheInvocationInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * Keys of the cached pages, keeping the page parameters for tagging.
+     */
+    @Bean
+    public PageKeyGenerator pageKeyGenerator() {
+        return new PageKeyGenerator();
+    }
+}
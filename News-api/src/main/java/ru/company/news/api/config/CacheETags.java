@@ -0,0 +1,66 @@
+package ru.company.news.api.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Strong ETags of the responses built from cached values.
+ * The ETag is the version of the cache entry holding the value returned by the service,
+ * which changes whenever the entry is evicted or replaced, or reloaded with a different value.
+ * The value is read from the cache as usual, so that no cache key is built outside the service
+ * and a stale entry is reloaded, while a conditional request for a cached value is answered without rendering JSON.
+ * Representations of the same value differing in encoding or in the requested fields get different ETags.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheETags {
+
+    private final GuavaCacheManager cacheManager;
+
+    /**
+     * Method for checking the "If-None-Match" header of the request against the value returned by the cache.
+     * If the value is not modified, the response status is set to 304 with the ETag header.
+     *
+     * @param request   current request.
+     * @param cacheName cache name.
+     * @param value     value returned by the cacheable service method.
+     * @param variant   variant of the representation of the value, for example the content encoding "gzip".
+     *                  May be missing.
+     * @return true if the value matches the ETag of the request and the response should be empty.
+     */
+    public boolean checkNotModified(WebRequest request, String cacheName, Object value, String variant) {
+        String eTag = getETag(cacheName, value, variant);
+        return eTag != null && request.checkNotModified(eTag);
+    }
+
+    /**
+     * Method for obtaining the ETag header of the value returned by the cache.
+     *
+     * @param cacheName cache name.
+     * @param value     value returned by the cacheable service method.
+     * @param variant   variant of the representation of the value, for example the content encoding "gzip".
+     *                  May be missing.
+     * @return headers with the ETag, empty if the value is not cached.
+     */
+    public HttpHeaders getHeaders(String cacheName, Object value, String variant) {
+        HttpHeaders headers = new HttpHeaders();
+        String eTag = getETag(cacheName, value, variant);
+        if (eTag != null) {
+            headers.setETag(eTag);
+        }
+        return headers;
+    }
+
+    private String getETag(String cacheName, Object value, String variant) {
+        String version = cacheManager.getCache(cacheName).getVersion(value);
+        if (version == null) {
+            return null;
+        }
+        return "\"" + cacheName + "-" + version + (variant == null ? "" : "-" + variant) + "\"";
+    }
+}
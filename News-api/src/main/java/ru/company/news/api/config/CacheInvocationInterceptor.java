@@ -0,0 +1,65 @@
+package ru.company.news.api.config;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+
+/**
+ * Interceptor of the cacheable methods, exposing the current call to the cache.
+ * To reload an entry older than the refresh time, the cache repeats the call through the proxy,
+ * so that the reload passes all the advice of the method, such as the transaction,
+ * instead of calling the one-shot value loader of the original call on another thread.
+ * Must be ordered before the cache interceptor.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class CacheInvocationInterceptor implements MethodInterceptor {
+
+    private static final ThreadLocal<ProxyMethodInvocation> CURRENT_INVOCATION = new ThreadLocal<>();
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (!(invocation instanceof ProxyMethodInvocation)) {
+            return invocation.proceed();
+        }
+        ProxyMethodInvocation previousInvocation = CURRENT_INVOCATION.get();
+        CURRENT_INVOCATION.set((ProxyMethodInvocation) invocation);
+        try {
+            return invocation.proceed();
+        } finally {
+            if (previousInvocation == null) {
+                CURRENT_INVOCATION.remove();
+            } else {
+                CURRENT_INVOCATION.set(previousInvocation);
+            }
+        }
+    }
+
+    /**
+     * Method for obtaining the repetition of the current call of a cacheable method.
+     *
+     * @return call of the method through the proxy with the same arguments,
+     * null if no cacheable method is being called on this thread.
+     */
+    public static Callable<Object> getCurrentInvocation() {
+        ProxyMethodInvocation invocation = CURRENT_INVOCATION.get();
+        if (invocation == null) {
+            return null;
+        }
+        Object proxy = invocation.getProxy();
+        Method method = invocation.getMethod();
+        Object[] arguments = invocation.getArguments().clone();
+        return () -> {
+            try {
+                return method.invoke(proxy, arguments);
+            } catch (InvocationTargetException e) {
+                throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        };
+    }
+}
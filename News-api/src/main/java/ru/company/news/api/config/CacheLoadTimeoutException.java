@@ -0,0 +1,21 @@
+package ru.company.news.api.config;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when the load of a cache value by another call has not finished within the load timeout.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class CacheLoadTimeoutException extends RuntimeException {
+
+    /**
+     * @param cacheName   cache name.
+     * @param key         cache key.
+     * @param loadTimeout load timeout.
+     */
+    public CacheLoadTimeoutException(String cacheName, Object key, Duration loadTimeout) {
+        super(String.format("Cache %s: the value of key %s was not loaded within %s", cacheName, key, loadTimeout));
+    }
+}
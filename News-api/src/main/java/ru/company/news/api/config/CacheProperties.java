@@ -0,0 +1,126 @@
+package ru.company.news.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache options, set by the "news-api.cache" properties.
+ * Options of a cache that is not listed in "caches" are taken from "defaults".
+ * Reloads after the refresh time are performed by "refresh-threads" background threads,
+ * with at most "refresh-queue-capacity" waiting reloads.
+ * The caches are filled at startup with the options of "warm-up".
+ * Rendered JSON of the cached pages is kept with the options of "json".
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "news-api.cache")
+public class CacheProperties {
+
+    private int refreshThreads = 2;
+    private int refreshQueueCapacity = 100;
+    private WarmUp warmUp = new WarmUp();
+    private Json json = new Json();
+    private Spec defaults = new Spec();
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /**
+     * @param name cache name.
+     * @return options of the cache.
+     */
+    public Spec getSpec(String name) {
+        return caches.getOrDefault(name, defaults);
+    }
+
+    /**
+     * Options of filling the caches at startup.
+     */
+    @Data
+    public static class WarmUp {
+
+        private boolean enabled = true;
+
+        /**
+         * Number of the first feed pages loaded with the default page parameters.
+         */
+        private int feedPages = 3;
+
+        /**
+         * Number of the news with the most comments whose details are loaded.
+         */
+        private int topNews = 20;
+
+        /**
+         * Maximum duration of the warm-up, the remaining entries are not loaded after it.
+         */
+        private Duration timeBudget = Duration.ofSeconds(30);
+    }
+
+    /**
+     * Options of keeping the rendered JSON of the cached pages.
+     */
+    @Data
+    public static class Json {
+
+        /**
+         * If disabled, the JSON is rendered for each response.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum size of the kept JSON.
+         */
+        private DataSize maximumWeight = DataSize.ofMegabytes(32);
+
+        /**
+         * Compression of the responses for clients accepting gzip.
+         */
+        private boolean gzip = true;
+
+        /**
+         * Minimum size of the JSON to be compressed.
+         */
+        private DataSize gzipMinSize = DataSize.ofKilobytes(1);
+    }
+
+    /**
+     * Options of one cache.
+     */
+    @Data
+    public static class Spec {
+
+        /**
+         * Maximum number of entries, used if the maximum weight is not set.
+         */
+        private long maximumSize = 1000;
+
+        /**
+         * Maximum estimated size of the cached values, for example "16MB".
+         * Takes precedence over the maximum number of entries.
+         */
+        private DataSize maximumWeight;
+
+        /**
+         * Entry lifetime after it was written (hard TTL), bounds how long a stale entry can be returned.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(30);
+
+        /**
+         * Entry age after which it is reloaded in the background on the next read (soft TTL).
+         * Until the reload is finished, reads get the current value.
+         * May be missing.
+         */
+        private Duration refreshAfterWrite;
+
+        /**
+         * Maximum time to wait for the load of the same key started by another call.
+         */
+        private Duration loadTimeout = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,93 @@
+package ru.company.news.api.config;
+
+import org.hibernate.Hibernate;
+import ru.company.news.api.dto.comment.response.CommentDetailsResponse;
+import ru.company.news.api.dto.comment.response.CommentResponse;
+import ru.company.news.api.dto.news.response.NewsDetailsResponse;
+import ru.company.news.api.dto.news.response.NewsResponse;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
+import ru.company.news.api.entity.comment.Comment;
+import ru.company.news.api.entity.news.News;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Estimation of the heap size of cached values, used as the weight of cache entries.
+ * The estimate is approximate (64-bit JVM, compressed references) and only needs to grow with the real size.
+ * Collections of comments that have not been loaded are not counted and are not initialized.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class CacheSizeEstimator {
+
+    private static final long REFERENCE = 4;
+    private static final long OBJECT_HEADER = 16;
+    private static final long STRING = 40;
+    private static final long COLLECTION = 40;
+    private static final long UUID_SIZE = 32;
+    private static final long DATE_SIZE = 72;
+
+    private CacheSizeEstimator() {
+    }
+
+    /**
+     * @param value cached value.
+     * @return estimated size of the value in bytes.
+     */
+    public static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String) {
+            return STRING + ((String) value).length() * 2L;
+        }
+        if (value instanceof UUID) {
+            return UUID_SIZE;
+        }
+        if (value instanceof News) {
+            News news = (News) value;
+            return OBJECT_HEADER + 5 * REFERENCE + UUID_SIZE + DATE_SIZE
+                    + estimate(news.getTitle()) + estimate(news.getText()) + estimateComments(news.getComments());
+        }
+        if (value instanceof CommentDetailsResponse) {
+            CommentDetailsResponse comment = (CommentDetailsResponse) value;
+            return OBJECT_HEADER + 5 * REFERENCE + 2 * UUID_SIZE + DATE_SIZE
+                    + estimate(comment.getText()) + estimate(comment.getUsername());
+        }
+        if (value instanceof NewsSummaryResponse) {
+            NewsSummaryResponse news = (NewsSummaryResponse) value;
+            return OBJECT_HEADER + 4 * REFERENCE + UUID_SIZE + DATE_SIZE
+                    + estimate(news.getTitle()) + estimate(news.getExcerpt());
+        }
+        if (value instanceof NewsResponse) {
+            NewsResponse news = (NewsResponse) value;
+            return OBJECT_HEADER + 4 * REFERENCE + UUID_SIZE + DATE_SIZE
+                    + estimate(news.getTitle()) + estimate(news.getText());
+        }
+        if (value instanceof CommentResponse) {
+            CommentResponse comment = (CommentResponse) value;
+            return OBJECT_HEADER + 4 * REFERENCE + UUID_SIZE + DATE_SIZE
+                    + estimate(comment.getText()) + estimate(comment.getUsername());
+        }
+        if (value instanceof NewsDetailsResponse) {
+            NewsDetailsResponse news = (NewsDetailsResponse) value;
+            return OBJECT_HEADER + 5 * REFERENCE + UUID_SIZE + DATE_SIZE
+                    + estimate(news.getTitle()) + estimate(news.getText()) + estimate(news.getComments());
+        }
+        if (value instanceof Collection) {
+            long size = COLLECTION;
+            for (Object element : (Collection<?>) value) {
+                size += REFERENCE + estimate(element);
+            }
+            return size;
+        }
+        return OBJECT_HEADER + 4 * REFERENCE;
+    }
+
+    private static long estimateComments(List<Comment> comments) {
+        return Hibernate.isInitialized(comments) ? estimate(comments) : COLLECTION;
+    }
+}
@@ -0,0 +1,32 @@
+package ru.company.news.api.config;
+
+import lombok.Value;
+
+import java.util.UUID;
+
+/**
+ * Tag of cache entries that depend on the same data.
+ * Evicting a tag from the cache removes all entries marked with it, for example:
+ * {@code @CacheEvict(cacheNames = "news", key = "T(ru.company.news.api.config.CacheTag).news(#id)")}.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Value
+public class CacheTag {
+
+    /**
+     * Entries into which a new news item can get: first pages and pages that are not full.
+     */
+    public static final CacheTag NEW_NEWS = new CacheTag("news:new");
+
+    String name;
+
+    /**
+     * @param id UUID identifier of the entity - news.
+     * @return tag of the entries containing the news or its comments.
+     */
+    public static CacheTag news(UUID id) {
+        return new CacheTag("news:" + id);
+    }
+}
@@ -0,0 +1,25 @@
+package ru.company.news.api.config;
+
+import java.util.Set;
+
+/**
+ * Definition of the tags of a cache entry when it is written.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface CacheTagger {
+
+    /**
+     * Entries without tags, they are evicted only by key.
+     */
+    CacheTagger NONE = (key, value) -> Set.of();
+
+    /**
+     * @param key   cache key.
+     * @param value cached value.
+     * @return tags of the entry.
+     */
+    Set<CacheTag> getTags(Object key, Object value);
+}
@@ -0,0 +1,80 @@
+package ru.company.news.api.config;
+
+import org.springframework.data.domain.Pageable;
+import ru.company.news.api.dto.comment.response.CommentDetailsResponse;
+import ru.company.news.api.dto.news.response.NewsDetailsResponse;
+import ru.company.news.api.dto.news.response.NewsResponse;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tags of the news, news details, news by identifier and comment cache entries.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class CacheTaggers {
+
+    private CacheTaggers() {
+    }
+
+    /**
+     * A list of news summaries is marked with the tags of each news in it.
+     * The first page and a page that is not full are also marked with {@link CacheTag#NEW_NEWS},
+     * since a new news item can get into them.
+     *
+     * @param key   cache key, {@link PageKey} for pages.
+     * @param value list of news summaries.
+     * @return tags of the entry.
+     */
+    public static Set<CacheTag> news(Object key, Object value) {
+        Set<CacheTag> tags = new HashSet<>();
+        List<?> newsList = (List<?>) value;
+        for (Object news : newsList) {
+            tags.add(CacheTag.news(((NewsSummaryResponse) news).getId()));
+        }
+        Pageable pageable = key instanceof PageKey ? ((PageKey) key).getPageable() : Pageable.unpaged();
+        if (pageable.isUnpaged() || pageable.getOffset() == 0 || newsList.size() < pageable.getPageSize()) {
+            tags.add(CacheTag.NEW_NEWS);
+        }
+        return tags;
+    }
+
+    /**
+     * A comment is marked with the tag of its news.
+     *
+     * @param key   cache key.
+     * @param value comment with the identifier of its news.
+     * @return tags of the entry.
+     */
+    public static Set<CacheTag> comment(Object key, Object value) {
+        UUID newsId = ((CommentDetailsResponse) value).getNewsId();
+        return newsId == null ? Set.of() : Set.of(CacheTag.news(newsId));
+    }
+
+    /**
+     * Details of a news item are marked with the tag of the news.
+     *
+     * @param key   cache key.
+     * @param value details of the news.
+     * @return tags of the entry.
+     */
+    public static Set<CacheTag> newsDetails(Object key, Object value) {
+        return Set.of(CacheTag.news(((NewsDetailsResponse) value).getId()));
+    }
+
+    /**
+     * A news item cached by identifier is marked with the tag of the news.
+     *
+     * @param key   cache key.
+     * @param value news without comments.
+     * @return tags of the entry.
+     */
+    public static Set<CacheTag> newsById(Object key, Object value) {
+        return Set.of(CacheTag.news(((NewsResponse) value).getId()));
+    }
+}
@@ -0,0 +1,135 @@
+package ru.company.news.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.data.web.SpringDataWebProperties;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import ru.company.news.api.dto.cache.response.CacheWarmUpResponse;
+import ru.company.news.api.repository.comment.CommentRepository;
+import ru.company.news.api.service.KeysetPagination;
+import ru.company.news.api.service.news.NewsService;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class for filling the caches at startup, before the application reports that it is ready to accept traffic.
+ * The first feed pages and the details of the news with the most comments are loaded
+ * with the default page parameters of the controllers, so the first requests after a deploy hit the cache:
+ * the page size of the "spring.data.web.pageable" properties and the sort by date.
+ * The warm-up is stopped when the time budget is exhausted.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmUp implements ApplicationRunner {
+
+    private static final Sort SORT = Sort.by(KeysetPagination.SORT_PROPERTY);
+
+    private final CacheProperties cacheProperties;
+    private final SpringDataWebProperties springDataWebProperties;
+    private final NewsService newsService;
+    private final CommentRepository commentRepository;
+
+    private final AtomicInteger plannedCount = new AtomicInteger();
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private final AtomicInteger failedCount = new AtomicInteger();
+    private volatile long elapsedMillis;
+    private volatile boolean finished;
+    private volatile boolean timedOut;
+
+    /**
+     * Running the warm-up within the time budget.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        CacheProperties.WarmUp warmUp = cacheProperties.getWarmUp();
+        if (!warmUp.isEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("cache-warm-up-"));
+        Future<?> task = executor.submit(() -> warmUp(warmUp));
+        try {
+            task.get(warmUp.getTimeBudget().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            timedOut = true;
+            task.cancel(true);
+            log.warn("Cache warm-up exceeded the time budget of {}", warmUp.getTimeBudget());
+        } catch (ExecutionException e) {
+            log.warn("Cache warm-up failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+            elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            finished = true;
+            log.info("Cache warm-up finished in {} ms: {} of {} entries loaded, {} failed",
+                    elapsedMillis, loadedCount.get(), plannedCount.get(), failedCount.get());
+        }
+    }
+
+    /**
+     * @return progress of the warm-up.
+     */
+    public CacheWarmUpResponse getProgress() {
+        return CacheWarmUpResponse.builder()
+                .enabled(cacheProperties.getWarmUp().isEnabled())
+                .finished(finished)
+                .timedOut(timedOut)
+                .plannedCount(plannedCount.get())
+                .loadedCount(loadedCount.get())
+                .failedCount(failedCount.get())
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private void warmUp(CacheProperties.WarmUp warmUp) {
+        List<UUID> topNewsIds = warmUp.getTopNews() > 0
+                ? commentRepository.getMostCommentedNewsIds(PageRequest.of(0, warmUp.getTopNews()))
+                : List.of();
+        plannedCount.set(warmUp.getFeedPages() + topNewsIds.size());
+        int pageSize = springDataWebProperties.getPageable().getDefaultPageSize();
+        for (int page = 0; page < warmUp.getFeedPages(); page++) {
+            PageRequest pageable = PageRequest.of(page, pageSize, SORT);
+            if (!load(() -> newsService.getNews(pageable, null))) {
+                return;
+            }
+        }
+        PageRequest commentPage = PageRequest.of(0, pageSize, SORT);
+        for (UUID id : topNewsIds) {
+            if (!load(() -> newsService.readNews(id, commentPage, null))) {
+                return;
+            }
+        }
+    }
+
+    private boolean load(Runnable loader) {
+        if (Thread.currentThread().isInterrupted()) {
+            return false;
+        }
+        try {
+            loader.run();
+            loadedCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.debug("Cache warm-up entry was not loaded", e);
+        }
+        return true;
+    }
+}
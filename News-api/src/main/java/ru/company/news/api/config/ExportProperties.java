@@ -0,0 +1,29 @@
+package ru.company.news.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Options of the NDJSON export of all entities, the "news-api.export" properties.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties("news-api.export")
+public class ExportProperties {
+
+    /**
+     * Number of rows fetched from the database at a time: large enough to avoid a round trip per few rows
+     * and small enough to keep the memory constant.
+     */
+    private int fetchSize = 500;
+
+    /**
+     * Time limit of one export, after it the response is completed with a timeout.
+     * Applies only to the export requests, the other asynchronous requests keep the default timeout.
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+}
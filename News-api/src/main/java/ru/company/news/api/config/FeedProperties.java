@@ -0,0 +1,20 @@
+package ru.company.news.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Options of the news feed and search, the "news-api.feed" properties.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties("news-api.feed")
+public class FeedProperties {
+
+    /**
+     * Number of the first characters of the text of a news item returned in the feed.
+     */
+    private int excerptLength = 200;
+}
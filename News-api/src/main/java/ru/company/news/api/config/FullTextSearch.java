@@ -0,0 +1,62 @@
+package ru.company.news.api.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+
+/**
+ * Class for preparing full-text search of news.
+ * For PostgreSQL, a generated "tsvector" column with the Russian text search configuration
+ * (title - weight "A", text - weight "B") and a GIN index on it are created.
+ * For other databases, full-text search is not available.
+ * Depends on the entity manager factory, so the schema has already been created.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class FullTextSearch {
+
+    public static final String POSTGRESQL = "PostgreSQL";
+
+    private static final String ADD_SEARCH_VECTOR = "alter table news add column if not exists search_vector tsvector "
+            + "generated always as (setweight(to_tsvector('russian', coalesce(title, '')), 'A') "
+            + "|| setweight(to_tsvector('russian', coalesce(text, '')), 'B')) stored";
+    private static final String CREATE_SEARCH_VECTOR_INDEX =
+            "create index if not exists news_search_vector_idx on news using gin (search_vector)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private boolean available;
+
+    /**
+     * Creation of the search column and index, if the database supports it.
+     */
+    @PostConstruct
+    public void init() {
+        String databaseProductName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!POSTGRESQL.equals(databaseProductName)) {
+            log.info("Full-text search is not available for {}, substring search is used", databaseProductName);
+            return;
+        }
+        jdbcTemplate.execute(ADD_SEARCH_VECTOR);
+        jdbcTemplate.execute(CREATE_SEARCH_VECTOR_INDEX);
+        available = true;
+    }
+
+    /**
+     * @return true if full-text search can be used.
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+}
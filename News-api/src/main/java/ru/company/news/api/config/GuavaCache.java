@@ -0,0 +1,624 @@
+package ru.company.news.api.config;
+
+import com.google.common.cache.AbstractCache;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
+import com.google.common.cache.Weigher;
+import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.Striped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
+
+/**
+ * Spring cache on top of a bounded Guava cache.
+ * The cache is limited by the number of entries or by the estimated size of the values,
+ * entries expire after the lifetime (hard TTL). An entry older than the refresh time (soft TTL) is still returned,
+ * while one background task reloads it (stale-while-revalidate).
+ * The reload of a cacheable method repeats its call through the proxy, see {@link CacheInvocationInterceptor}.
+ * Concurrent misses of the same key are coalesced: one call loads the value, the others wait for it
+ * no longer than the load timeout. Several keys read at once are coalesced the same way,
+ * the keys missing without a load in flight are loaded together.
+ * A load or reload in flight is invalidated by an eviction of its key, of a tag or by clearing the cache:
+ * its value is returned to the waiting calls, but not cached, as it may have been read before the eviction.
+ * Entries are marked with tags when written, evicting a {@link CacheTag} key removes all entries marked with it.
+ * Writes of the same key are serialized, so that the tags of a key always belong to its current entry:
+ * the tags are registered after the entry is written and unregistered when the entry is replaced or removed.
+ * Hits, misses, evictions, load times and coalesced calls are recorded.
+ * Every written entry gets a new version, so that an unchanged entry can be recognized by clients (ETag).
+ * A reload returning a value equal to the cached one keeps its version, so that the periodic reloads
+ * of unchanged entries do not change their ETags.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Slf4j
+public class GuavaCache extends AbstractValueAdaptingCache {
+
+    private static final int WRITE_LOCK_STRIPES = 64;
+    private static final ThreadLocal<Refresh> REFRESHES = new ThreadLocal<>();
+
+    private final String name;
+    private final Cache<Object, Entry> cache;
+    private final Duration refreshAfterWrite;
+    private final Duration loadTimeout;
+    private final Executor refreshExecutor;
+    private final CacheTagger tagger;
+    private final ConcurrentMap<CacheTag, ConcurrentMap<Object, Entry>> taggedKeys = new ConcurrentHashMap<>();
+    private final Striped<Lock> writeLocks = Striped.lock(WRITE_LOCK_STRIPES);
+    private final ConcurrentMap<Object, Load> loads = new ConcurrentHashMap<>();
+    private final AbstractCache.SimpleStatsCounter loadStats = new AbstractCache.SimpleStatsCounter();
+    private final LongAdder coalescedCount = new LongAdder();
+    private final LongAdder loadTimeoutCount = new LongAdder();
+    private final AtomicLong lastVersion = new AtomicLong();
+    private final Cache<Object, Long> versions = CacheBuilder.newBuilder().weakKeys().build();
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    /**
+     * @param name cache name.
+     * @param spec cache options.
+     */
+    public GuavaCache(String name, CacheProperties.Spec spec) {
+        this(name, spec, CacheTagger.NONE, Runnable::run);
+    }
+
+    /**
+     * @param name            cache name.
+     * @param spec            cache options.
+     * @param tagger          definition of the entry tags.
+     * @param refreshExecutor executor of the reloads after the refresh time.
+     */
+    public GuavaCache(String name, CacheProperties.Spec spec, CacheTagger tagger, Executor refreshExecutor) {
+        super(false);
+        this.name = name;
+        this.refreshAfterWrite = spec.getRefreshAfterWrite();
+        this.loadTimeout = spec.getLoadTimeout();
+        this.refreshExecutor = refreshExecutor;
+        this.tagger = tagger;
+        CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .removalListener((RemovalListener<Object, Object>) this::onRemoval)
+                .recordStats();
+        if (spec.getMaximumWeight() != null) {
+            builder = builder.maximumWeight(spec.getMaximumWeight().toBytes())
+                    .weigher((Weigher<Object, Object>) (key, entry) ->
+                            Ints.saturatedCast(CacheSizeEstimator.estimate(((Entry) entry).value)));
+        } else {
+            builder = builder.maximumSize(spec.getMaximumSize());
+        }
+        this.cache = builder.build();
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return cache;
+    }
+
+    /**
+     * @return hit, miss, eviction and load statistics, including reloads after the refresh time.
+     */
+    public CacheStats getStats() {
+        return cache.stats().plus(loadStats.snapshot());
+    }
+
+    /**
+     * @return number of calls that waited for the load of another call instead of loading the value.
+     */
+    public long getCoalescedCount() {
+        return coalescedCount.sum();
+    }
+
+    /**
+     * @return number of calls that did not wait for the load of another call within the load timeout.
+     */
+    public long getLoadTimeoutCount() {
+        return loadTimeoutCount.sum();
+    }
+
+    /**
+     * @return approximate number of entries.
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+    /**
+     * Method for obtaining the version of a value returned by the cache, the value is matched by identity.
+     * The version changes on each write of the entry, except for a reload returning an equal value,
+     * and is not repeated after a restart of the application.
+     * Since the value is returned by the cache, reading it has already triggered the reload of a stale entry.
+     *
+     * @param value value returned by the cache.
+     *              May be missing.
+     * @return version of the entry written with the value, null if the value was not written to the cache.
+     */
+    public String getVersion(Object value) {
+        Long version = value == null ? null : versions.getIfPresent(value);
+        return version == null ? null : epoch + "-" + version;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Entry entry = cache.getIfPresent(key);
+        return entry == null ? null : entry.value;
+    }
+
+    /**
+     * On a miss, the first call loads the value and concurrent calls with the same key wait for it.
+     * If the entry is older than the refresh time, the current value is returned
+     * and the reload is passed to the refresh executor, one at a time for a key.
+     * The reload repeats the call of the cacheable method through the proxy, which reaches this method again
+     * and reloads the entry with the value loader of the repeated call.
+     * Without a cacheable method call, the reload calls the value loader.
+     *
+     * @throws CacheLoadTimeoutException if the load of another call has not finished within the load timeout.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Refresh refresh = REFRESHES.get();
+        if (refresh != null && refresh.cache == this && refresh.key.equals(key)) {
+            REFRESHES.remove();
+            return (T) fromStoreValue(refresh(key, refresh.entry, valueLoader).value);
+        }
+        Entry entry = cache.getIfPresent(key);
+        if (entry == null) {
+            return (T) fromStoreValue(load(key, valueLoader).value);
+        }
+        if (refreshAfterWrite != null && entry.isOlderThan(refreshAfterWrite) && entry.claimRefresh()) {
+            refreshAsync(key, entry, valueLoader);
+        }
+        return (T) fromStoreValue(entry.value);
+    }
+
+    /**
+     * Method for reading several keys at once.
+     * The cached values are returned as they are. The missing keys without a load in flight
+     * are loaded with one call of the bulk loader, the other missing keys wait for the loads in flight.
+     * The loaded values are cached unless their keys were evicted during the load, like the ones of single loads.
+     * Keys without a value are not cached.
+     *
+     * @param keys       keys, may repeat.
+     * @param bulkLoader loader of the values of the missing keys, the keys without a value are skipped.
+     * @param <K>        key type.
+     * @param <V>        value type.
+     * @return values by key, without the keys that have no value.
+     * @throws CacheLoadTimeoutException if the load of another call has not finished within the load timeout.
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, V> values = new HashMap<>();
+        Map<K, Load> claimedLoads = new LinkedHashMap<>();
+        Map<K, Load> inFlightLoads = new LinkedHashMap<>();
+        for (K key : new LinkedHashSet<>(keys)) {
+            Entry entry = cache.getIfPresent(key);
+            if (entry != null) {
+                values.put(key, (V) fromStoreValue(entry.value));
+                continue;
+            }
+            Load load = new Load();
+            Load inFlightLoad = loads.putIfAbsent(key, load);
+            if (inFlightLoad == null) {
+                claimedLoads.put(key, load);
+            } else {
+                inFlightLoads.put(key, inFlightLoad);
+            }
+        }
+        if (!claimedLoads.isEmpty()) {
+            values.putAll(loadAll(claimedLoads, bulkLoader));
+        }
+        inFlightLoads.forEach((key, inFlightLoad) -> {
+            Entry entry = await(key, inFlightLoad.result, null);
+            if (entry != null) {
+                values.put(key, (V) fromStoreValue(entry.value));
+            }
+        });
+        return values;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        write(key, newEntry(key, toStoreValue(value)));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Entry entry = newEntry(key, toStoreValue(value));
+        Lock lock = writeLocks.get(key);
+        lock.lock();
+        try {
+            Entry currentEntry = cache.asMap().putIfAbsent(key, entry);
+            if (currentEntry != null) {
+                return toValueWrapper(currentEntry.value);
+            }
+            tag(key, entry);
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * If the key is a {@link CacheTag}, all entries marked with it are removed.
+     */
+    @Override
+    public void evict(Object key) {
+        if (key instanceof CacheTag) {
+            loads.keySet().forEach(this::invalidateLoad);
+            Map<Object, Entry> entries = taggedKeys.remove(key);
+            if (entries != null) {
+                entries.forEach((taggedKey, entry) -> cache.asMap().remove(taggedKey, entry));
+            }
+            return;
+        }
+        invalidateLoad(key);
+        cache.invalidate(key);
+    }
+
+    /**
+     * The tags are unregistered by the removal of the entries.
+     */
+    @Override
+    public void clear() {
+        loads.keySet().forEach(this::invalidateLoad);
+        cache.invalidateAll();
+    }
+
+    private Entry newEntry(Object key, Object value) {
+        return new Entry(value, tagger.getTags(key, value), lastVersion.incrementAndGet());
+    }
+
+    /**
+     * The reloaded entry keeps the version of the current one if their values are equal.
+     * Values that cannot be compared, such as entities with lazy associations outside their session,
+     * are taken as changed.
+     */
+    private Entry newRefreshedEntry(Object key, Entry entry, Object value) {
+        boolean unchanged;
+        try {
+            unchanged = Objects.equals(entry.value, value);
+        } catch (RuntimeException e) {
+            log.debug("Cache {}: reloaded value of key {} cannot be compared", name, key, e);
+            unchanged = false;
+        }
+        long version = unchanged ? entry.version : lastVersion.incrementAndGet();
+        return new Entry(value, tagger.getTags(key, value), version);
+    }
+
+    private void write(Object key, Entry entry) {
+        Lock lock = writeLocks.get(key);
+        lock.lock();
+        try {
+            cache.put(key, entry);
+            tag(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Registers the version and the tags of the written entry, called under the write lock of the key after the write.
+     * The versions are kept by the values while they are referenced.
+     * A tag shared with the replaced entry is moved to the new one.
+     * An entry evicted right away by the size limit may have been removed before its tags were registered.
+     */
+    private void tag(Object key, Entry entry) {
+        versions.put(entry.value, entry.version);
+        for (CacheTag tag : entry.tags) {
+            taggedKeys.compute(tag, (t, entries) -> {
+                ConcurrentMap<Object, Entry> taggedEntries = entries == null ? new ConcurrentHashMap<>() : entries;
+                taggedEntries.put(key, entry);
+                return taggedEntries;
+            });
+        }
+        if (!entry.tags.isEmpty() && cache.asMap().get(key) != entry) {
+            untag(key, entry);
+        }
+    }
+
+    /**
+     * Unregisters the tags of the removed or replaced entry, unless they were moved to the entry replacing it.
+     */
+    private void untag(Object key, Entry entry) {
+        for (CacheTag tag : entry.tags) {
+            taggedKeys.computeIfPresent(tag, (t, entries) -> {
+                entries.remove(key, entry);
+                return entries.isEmpty() ? null : entries;
+            });
+        }
+    }
+
+    private void onRemoval(RemovalNotification<Object, Object> notification) {
+        if (notification.getValue() != null) {
+            untag(notification.getKey(), (Entry) notification.getValue());
+        }
+    }
+
+    /**
+     * The entry may have been written by a load that finished after the miss, then it is not loaded again.
+     * A load of several keys finds no value for some of them, then the waiting call loads its key itself.
+     */
+    private Entry load(Object key, Callable<?> valueLoader) {
+        Load load = new Load();
+        Load inFlightLoad = loads.putIfAbsent(key, load);
+        if (inFlightLoad != null) {
+            Entry entry = await(key, inFlightLoad.result, valueLoader);
+            return entry != null ? entry : load(key, valueLoader);
+        }
+        long start = System.nanoTime();
+        try {
+            Entry entry = cache.asMap().get(key);
+            if (entry == null) {
+                entry = newEntry(key, toStoreValue(valueLoader.call()));
+                loadStats.recordLoadSuccess(System.nanoTime() - start);
+                writeLoaded(key, load, entry);
+            }
+            load.result.complete(entry);
+            return entry;
+        } catch (Throwable e) {
+            loadStats.recordLoadException(System.nanoTime() - start);
+            load.result.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    /**
+     * The keys are claimed by the given loads, the entries written after the miss are not loaded again.
+     * The loads of the keys without a value are completed without an entry.
+     */
+    @SuppressWarnings("unchecked")
+    private <K, V> Map<K, V> loadAll(Map<K, Load> claimedLoads, Function<Set<K>, Map<K, V>> bulkLoader) {
+        Map<K, V> values = new HashMap<>();
+        try {
+            Set<K> missingKeys = new LinkedHashSet<>();
+            claimedLoads.forEach((key, load) -> {
+                Entry entry = cache.asMap().get(key);
+                if (entry != null) {
+                    values.put(key, (V) fromStoreValue(entry.value));
+                    load.result.complete(entry);
+                } else {
+                    missingKeys.add(key);
+                }
+            });
+            if (missingKeys.isEmpty()) {
+                return values;
+            }
+            long start = System.nanoTime();
+            Map<K, V> loadedValues;
+            try {
+                loadedValues = bulkLoader.apply(missingKeys);
+            } catch (RuntimeException | Error e) {
+                loadStats.recordLoadException(System.nanoTime() - start);
+                throw e;
+            }
+            loadStats.recordLoadSuccess(System.nanoTime() - start);
+            for (K key : missingKeys) {
+                Load load = claimedLoads.get(key);
+                V value = loadedValues.get(key);
+                Entry entry = value == null ? null : newEntry(key, toStoreValue(value));
+                if (entry != null) {
+                    writeLoaded(key, load, entry);
+                    values.put(key, value);
+                }
+                load.result.complete(entry);
+            }
+            return values;
+        } catch (RuntimeException | Error e) {
+            claimedLoads.values().forEach(load -> load.result.completeExceptionally(e));
+            throw e;
+        } finally {
+            claimedLoads.forEach(loads::remove);
+        }
+    }
+
+    private void writeLoaded(Object key, Load load, Entry entry) {
+        Lock lock = writeLocks.get(key);
+        lock.lock();
+        try {
+            if (!load.invalidated) {
+                cache.put(key, entry);
+                tag(key, entry);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The invalidated load is forgotten, so that the next miss of the key does not wait for it.
+     */
+    private void invalidateLoad(Object key) {
+        Lock lock = writeLocks.get(key);
+        lock.lock();
+        try {
+            Load load = loads.remove(key);
+            if (load != null) {
+                load.invalidated = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry await(Object key, CompletableFuture<Entry> inFlightLoad, Callable<?> valueLoader) {
+        coalescedCount.increment();
+        try {
+            return inFlightLoad.get(loadTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (TimeoutException e) {
+            loadTimeoutCount.increment();
+            throw new CacheLoadTimeoutException(name, key, loadTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    private void refreshAsync(Object key, Entry entry, Callable<?> valueLoader) {
+        Callable<Object> invocation = CacheInvocationInterceptor.getCurrentInvocation();
+        try {
+            refreshExecutor.execute(invocation == null
+                    ? () -> refresh(key, entry, valueLoader)
+                    : () -> reinvoke(key, entry, invocation));
+        } catch (RejectedExecutionException e) {
+            entry.releaseRefresh();
+            log.debug("Cache {}: reload of key {} is postponed, the refresh queue is full", name, key);
+        }
+    }
+
+    /**
+     * The repeated call is expected to reach {@link #get(Object, Callable)} with the key on this thread.
+     */
+    private void reinvoke(Object key, Entry entry, Callable<Object> invocation) {
+        Refresh refresh = new Refresh(this, key, entry);
+        REFRESHES.set(refresh);
+        try {
+            invocation.call();
+        } catch (Exception e) {
+            log.warn("Cache {}: reload call of key {} failed", name, key, e);
+        } finally {
+            if (REFRESHES.get() == refresh) {
+                REFRESHES.remove();
+                entry.releaseRefresh();
+                log.warn("Cache {}: reload call of key {} did not reach the cache", name, key);
+            }
+        }
+    }
+
+    /**
+     * The reload is registered as the load of the key, so that it is invalidated by evictions as well.
+     *
+     * @return reloaded entry, or the current one if the reload failed or another load is in flight.
+     */
+    private Entry refresh(Object key, Entry entry, Callable<?> valueLoader) {
+        Load load = new Load();
+        if (loads.putIfAbsent(key, load) != null) {
+            entry.releaseRefresh();
+            return entry;
+        }
+        long start = System.nanoTime();
+        try {
+            Entry newEntry = newRefreshedEntry(key, entry, toStoreValue(valueLoader.call()));
+            loadStats.recordLoadSuccess(System.nanoTime() - start);
+            if (!writeRefreshed(key, load, entry, newEntry)) {
+                entry.releaseRefresh();
+            }
+            load.result.complete(newEntry);
+            return newEntry;
+        } catch (Exception e) {
+            loadStats.recordLoadException(System.nanoTime() - start);
+            entry.releaseRefresh();
+            load.result.completeExceptionally(e);
+            log.warn("Cache {}: reload of key {} failed, the current value is used", name, key, e);
+            return entry;
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    private boolean writeRefreshed(Object key, Load load, Entry entry, Entry newEntry) {
+        Lock lock = writeLocks.get(key);
+        lock.lock();
+        try {
+            if (load.invalidated || !cache.asMap().replace(key, entry, newEntry)) {
+                return false;
+            }
+            tag(key, newEntry);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Reload of an entry by the repeated call of the cacheable method on the current thread.
+     */
+    private static final class Refresh {
+
+        private final GuavaCache cache;
+        private final Object key;
+        private final Entry entry;
+
+        private Refresh(GuavaCache cache, Object key, Entry entry) {
+            this.cache = cache;
+            this.key = key;
+            this.entry = entry;
+        }
+    }
+
+    /**
+     * Load of a key in flight, the calls missing the key wait for its result.
+     */
+    private static final class Load {
+
+        private final CompletableFuture<Entry> result = new CompletableFuture<>();
+
+        /**
+         * Guarded by the write lock of the key.
+         */
+        private boolean invalidated;
+    }
+
+    /**
+     * Cached value with its tags, version and the time it was written.
+     */
+    private static final class Entry {
+
+        private final Object value;
+        private final Set<CacheTag> tags;
+        private final long version;
+        private final long writeTime = System.nanoTime();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(Object value, Set<CacheTag> tags, long version) {
+            this.value = value;
+            this.tags = tags;
+            this.version = version;
+        }
+
+        private boolean isOlderThan(Duration duration) {
+            return System.nanoTime() - writeTime >= duration.toNanos();
+        }
+
+        private boolean claimRefresh() {
+            return refreshing.compareAndSet(false, true);
+        }
+
+        private void releaseRefresh() {
+            refreshing.set(false);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package ru.company.news.api.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache manager creating bounded Guava caches with the options of {@link CacheProperties}
+ * and the entry tags of the given taggers.
+ * Reloads of the entries older than the refresh time are performed by a bounded pool of background threads,
+ * when the queue is full, the reload is postponed until the next read.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class GuavaCacheManager implements CacheManager, DisposableBean {
+
+    private final CacheProperties cacheProperties;
+    private final Map<String, CacheTagger> taggers;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final ConcurrentMap<String, GuavaCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param cacheProperties cache options.
+     * @param taggers         definitions of the entry tags by cache name.
+     */
+    public GuavaCacheManager(CacheProperties cacheProperties, Map<String, CacheTagger> taggers) {
+        this.cacheProperties = cacheProperties;
+        this.taggers = taggers;
+        this.refreshExecutor = new ThreadPoolExecutor(cacheProperties.getRefreshThreads(), cacheProperties.getRefreshThreads(),
+                0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(cacheProperties.getRefreshQueueCapacity()),
+                new CustomizableThreadFactory("cache-refresh-"));
+    }
+
+    @Override
+    public GuavaCache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> new GuavaCache(cacheName, cacheProperties.getSpec(cacheName),
+                taggers.getOrDefault(cacheName, CacheTagger.NONE), refreshExecutor));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * @return caches created so far.
+     */
+    public Collection<GuavaCache> getCaches() {
+        return Collections.unmodifiableCollection(caches.values());
+    }
+
+    /**
+     * Stopping the background reloads.
+     */
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,146 @@
+package ru.company.news.api.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse fieldsets of the JSON responses, the "fields" request parameter.
+ * The requested fields are checked against the JSON properties of the response type,
+ * the value is rendered with its JSON view and only the requested top-level fields of it,
+ * or of each element of a list, are kept.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Component
+public class JsonFields {
+
+    private static final String SEPARATOR = ",";
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, Set<String>> propertyNames = new ConcurrentHashMap<>();
+
+    /**
+     * @param objectMapper JSON mapper of the application.
+     */
+    public JsonFields(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Method for parsing the "fields" request parameter.
+     *
+     * @param fields comma-separated names of the fields.
+     *               May be missing.
+     * @param type   type of the response or of the elements of the response list.
+     * @return requested fields in the order of the request, null if all fields are requested.
+     * @throws UnknownFieldException if the type has no requested field.
+     */
+    public Set<String> parse(String fields, Class<?> type) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> available = propertyNames.computeIfAbsent(type, this::getPropertyNames);
+        Set<String> requested = Arrays.stream(fields.split(SEPARATOR))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (String field : requested) {
+            if (!available.contains(field)) {
+                throw new UnknownFieldException(field, available);
+            }
+        }
+        return requested;
+    }
+
+    /**
+     * Method for obtaining the variant of the response for its ETag.
+     *
+     * @param fields   requested fields, null if all fields are requested.
+     * @param encoding content encoding of the response, for example "gzip".
+     *                 May be missing.
+     * @return variant of the response, null if it is the full response without encoding.
+     */
+    public String getVariant(Set<String> fields, String encoding) {
+        if (fields == null) {
+            return encoding;
+        }
+        String variant = String.join(".", fields);
+        return encoding == null ? variant : variant + "-" + encoding;
+    }
+
+    /**
+     * Method for rendering only the requested fields of the value.
+     *
+     * @param value  value, a list or a single object.
+     * @param view   JSON view of the value.
+     *               May be missing.
+     * @param fields requested fields, null if all fields are requested.
+     * @return JSON tree of the value with the requested fields.
+     */
+    public JsonNode filter(Object value, Class<?> view, Set<String> fields) {
+        ObjectWriter writer = view == null ? objectMapper.writer() : objectMapper.writerWithView(view);
+        JsonNode tree = toTree(writer, value);
+        if (fields == null) {
+            return tree;
+        }
+        if (tree.isArray()) {
+            tree.forEach(element -> retain(element, fields));
+        } else {
+            retain(tree, fields);
+        }
+        return tree;
+    }
+
+    /**
+     * Method for rendering only the requested fields of the value as JSON.
+     *
+     * @see #filter(Object, Class, Set)
+     */
+    public byte[] write(Object value, Class<?> view, Set<String> fields) {
+        try {
+            return objectMapper.writeValueAsBytes(filter(value, view, fields));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private JsonNode toTree(ObjectWriter writer, Object value) {
+        try (TokenBuffer buffer = new TokenBuffer(objectMapper, false)) {
+            writer.writeValue(buffer, value);
+            return objectMapper.readTree(buffer.asParser());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void retain(JsonNode node, Set<String> fields) {
+        if (node.isObject()) {
+            ((ObjectNode) node).retain(fields);
+        }
+    }
+
+    private Set<String> getPropertyNames(Class<?> type) {
+        return objectMapper.getSerializationConfig()
+                .introspect(objectMapper.constructType(type))
+                .findProperties()
+                .stream()
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
@@ -0,0 +1,131 @@
+package ru.company.news.api.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streaming of values as newline-delimited JSON (NDJSON): one JSON value per line.
+ * The values are written to the output stream one by one as they are passed, without being collected,
+ * the output is flushed by the buffer of the stream, not after each value.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Component
+public class JsonLines {
+
+    private static final String GZIP = "gzip";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final int GZIP_BUFFER_SIZE = 8192;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Source of the values, passes them one by one to the writer.
+     */
+    @FunctionalInterface
+    public interface Values {
+
+        /**
+         * @param writer writer of each value.
+         */
+        void forEach(Consumer<Object> writer);
+    }
+
+    /**
+     * @param objectMapper JSON mapper of the application.
+     */
+    public JsonLines(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Method for writing the values, each on its own line.
+     * The output stream is not closed.
+     *
+     * @param values       source of the values.
+     * @param view         JSON view of the values.
+     *                     May be missing.
+     * @param outputStream output stream.
+     * @return number of written values.
+     */
+    public long write(Values values, Class<?> view, OutputStream outputStream) {
+        ObjectWriter writer = (view == null ? objectMapper.writer() : objectMapper.writerWithView(view))
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator(LINE_SEPARATOR);
+        long[] count = {0};
+        try (JsonGenerator generator = writer.createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            values.forEach(value -> {
+                try {
+                    writer.writeValue(generator, value);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+            if (count[0] > 0) {
+                generator.writeRaw(LINE_SEPARATOR);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count[0];
+    }
+
+    /**
+     * Method for writing the values to the response as NDJSON.
+     * For clients accepting gzip, the body is compressed while it is written.
+     * If the values fail before the response is committed, the response is reset,
+     * so that the error is returned instead; after that the body is left unfinished,
+     * so that the client does not take it for a complete one.
+     *
+     * @param values         source of the values.
+     * @param view           JSON view of the values.
+     *                       May be missing.
+     * @param acceptEncoding "Accept-Encoding" header of the request.
+     *                       May be missing.
+     * @param response       response, is not completed.
+     * @return number of written values.
+     * @throws IOException if the response cannot be written.
+     */
+    public long write(Values values, Class<?> view, String acceptEncoding,
+                      HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains(GZIP);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        try {
+            OutputStream outputStream = response.getOutputStream();
+            if (!gzip) {
+                long count = write(values, view, outputStream);
+                outputStream.flush();
+                return count;
+            }
+            GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+            long count = write(values, view, gzipOutputStream);
+            gzipOutputStream.finish();
+            gzipOutputStream.flush();
+            return count;
+        } catch (RuntimeException | IOException e) {
+            if (!response.isCommitted()) {
+                response.reset();
+            }
+            throw e;
+        }
+    }
+}
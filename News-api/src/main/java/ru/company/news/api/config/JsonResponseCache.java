@@ -0,0 +1,161 @@
+package ru.company.news.api.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.Weigher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache of the rendered JSON of cached values, so that a cache hit is not serialized again.
+ * The JSON is kept for the value instance returned by the cache: when the cache entry is evicted or replaced,
+ * the new value is rendered again and the old JSON is collected together with the old value.
+ * Thus the keys and the invalidation are the same as those of the cache holding the value.
+ * The response body is written to the output stream as is, optionally compressed with gzip.
+ * Responses with only some of the fields requested are rendered for each request and are not kept.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Component
+public class JsonResponseCache {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper objectMapper;
+    private final JsonFields jsonFields;
+    private final CacheProperties.Json options;
+    private final Cache<Object, Rendered> renderedValues;
+
+    /**
+     * @param objectMapper    JSON mapper of the application.
+     * @param jsonFields      sparse fieldsets of the responses.
+     * @param cacheProperties cache options.
+     */
+    public JsonResponseCache(ObjectMapper objectMapper, JsonFields jsonFields, CacheProperties cacheProperties) {
+        this.objectMapper = objectMapper;
+        this.jsonFields = jsonFields;
+        this.options = cacheProperties.getJson();
+        this.renderedValues = CacheBuilder.newBuilder()
+                .weakKeys()
+                .maximumWeight(options.getMaximumWeight().toBytes())
+                .weigher((Weigher<Object, Rendered>) (value, rendered) -> rendered.json.length)
+                .build();
+    }
+
+    /**
+     * Method for building a JSON response from the value.
+     *
+     * @param value          value, usually returned by a cache.
+     * @param view           JSON view of the value.
+     * @param headers        additional response headers.
+     * @param acceptEncoding "Accept-Encoding" header of the request.
+     *                       May be missing.
+     * @return response with the rendered JSON.
+     */
+    public ResponseEntity<byte[]> toResponse(Object value, Class<?> view, HttpHeaders headers, String acceptEncoding) {
+        return toResponse(getRendered(value, view), headers, acceptEncoding);
+    }
+
+    /**
+     * Method for building a JSON response with the requested fields of the value.
+     *
+     * @param value          value, usually returned by a cache.
+     * @param view           JSON view of the value.
+     * @param fields         requested fields, null if all fields are requested.
+     * @param headers        additional response headers.
+     * @param acceptEncoding "Accept-Encoding" header of the request.
+     *                       May be missing.
+     * @return response with the rendered JSON.
+     */
+    public ResponseEntity<byte[]> toResponse(Object value, Class<?> view, Set<String> fields,
+                                             HttpHeaders headers, String acceptEncoding) {
+        if (fields == null) {
+            return toResponse(value, view, headers, acceptEncoding);
+        }
+        return toResponse(new Rendered(view, jsonFields.write(value, view, fields)), headers, acceptEncoding);
+    }
+
+    private ResponseEntity<byte[]> toResponse(Rendered rendered, HttpHeaders headers, String acceptEncoding) {
+        HttpHeaders responseHeaders = new HttpHeaders();
+        responseHeaders.addAll(headers);
+        responseHeaders.setContentType(MediaType.APPLICATION_JSON);
+        if (!options.isGzip()) {
+            return ResponseEntity.ok().headers(responseHeaders).body(rendered.json);
+        }
+        responseHeaders.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (getEncoding(acceptEncoding) == null || rendered.json.length < options.getGzipMinSize().toBytes()) {
+            return ResponseEntity.ok().headers(responseHeaders).body(rendered.json);
+        }
+        responseHeaders.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        return ResponseEntity.ok().headers(responseHeaders).body(rendered.getGzipJson());
+    }
+
+    /**
+     * @param acceptEncoding "Accept-Encoding" header of the request.
+     *                       May be missing.
+     * @return "gzip" if the response for the request may be compressed, null otherwise.
+     */
+    public String getEncoding(String acceptEncoding) {
+        return options.isGzip() && acceptEncoding != null && acceptEncoding.contains(GZIP) ? GZIP : null;
+    }
+
+    private Rendered getRendered(Object value, Class<?> view) {
+        if (!options.isEnabled()) {
+            return render(value, view);
+        }
+        Rendered rendered = renderedValues.getIfPresent(value);
+        if (rendered == null || rendered.view != view) {
+            rendered = render(value, view);
+            renderedValues.put(value, rendered);
+        }
+        return rendered;
+    }
+
+    private Rendered render(Object value, Class<?> view) {
+        try {
+            return new Rendered(view, objectMapper.writerWithView(view).writeValueAsBytes(value));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * JSON of a value, the compressed JSON is created on the first request.
+     */
+    private static final class Rendered {
+
+        private final Class<?> view;
+        private final byte[] json;
+        private volatile byte[] gzipJson;
+
+        private Rendered(Class<?> view, byte[] json) {
+            this.view = view;
+            this.json = json;
+        }
+
+        private byte[] getGzipJson() {
+            if (gzipJson == null) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream(json.length / 4);
+                try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+                    gzip.write(json);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                gzipJson = bytes.toByteArray();
+            }
+            return gzipJson;
+        }
+    }
+}
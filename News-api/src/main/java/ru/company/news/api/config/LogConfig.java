@@ -0,0 +1,15 @@
+package ru.company.news.api.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Class for defining logging options.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Configuration
+@EnableConfigurationProperties(LogProperties.class)
+public class LogConfig {
+}
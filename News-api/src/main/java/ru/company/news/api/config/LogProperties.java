@@ -0,0 +1,70 @@
+package ru.company.news.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Logging options of the controller and service calls, the "news-api.log" properties.
+ * The log levels are set per package by the "logging.level" properties,
+ * the calls are logged with the loggers of the called classes.
+ * The messages are written asynchronously with the options of "audit".
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties("news-api.log")
+public class LogProperties {
+
+    /**
+     * Share of the calls being logged, from 0 to 1.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Maximum number of logged characters of a string argument or result.
+     */
+    private int maxStringLength = 200;
+
+    /**
+     * Maximum number of logged elements of a collection, array or map.
+     */
+    private int maxCollectionSize = 10;
+
+    private Audit audit = new Audit();
+
+    /**
+     * Behavior of the asynchronous log when its buffer is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The message is dropped, the request is not delayed.
+         */
+        DROP,
+
+        /**
+         * The request thread waits until there is free space in the buffer.
+         */
+        BLOCK
+    }
+
+    /**
+     * Options of the asynchronous log.
+     */
+    @Data
+    public static class Audit {
+
+        /**
+         * If disabled, the messages are written by the request thread.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Maximum number of messages waiting to be written, rounded up to a power of two.
+         */
+        private int capacity = 8192;
+
+        private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    }
+}
@@ -0,0 +1,37 @@
+package ru.company.news.api.config;
+
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Arrays;
+
+/**
+ * Cache key of a method returning a page, which keeps the page parameters for tagging the entry.
+ * Equal to a {@link SimpleKey} with the same parameters.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class PageKey extends SimpleKey {
+
+    private final transient Pageable pageable;
+
+    /**
+     * @param params method parameters, one of which is the page parameters.
+     */
+    public PageKey(Object... params) {
+        super(params);
+        this.pageable = Arrays.stream(params)
+                .filter(Pageable.class::isInstance)
+                .map(Pageable.class::cast)
+                .findFirst()
+                .orElse(Pageable.unpaged());
+    }
+
+    /**
+     * @return page parameters, unpaged if the method has none.
+     */
+    public Pageable getPageable() {
+        return pageable;
+    }
+}
@@ -0,0 +1,19 @@
+package ru.company.news.api.config;
+
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+
+/**
+ * Generator of {@link PageKey} cache keys for methods returning a page.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class PageKeyGenerator implements KeyGenerator {
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        return new PageKey(params);
+    }
+}
@@ -0,0 +1,61 @@
+package ru.company.news.api.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Counting of the JDBC statements of each HTTP request.
+ * The number is recorded by the "http.server.requests.queries" summary tagged with the method and the URI pattern,
+ * a request exceeding the threshold is logged as a warning, which usually means an N+1 problem.
+ * Only the request thread is counted: the statements of asynchronous exports and of cache refreshes
+ * run on other threads and are not in the number, and a cached result executes none.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String SUMMARY = "http.server.requests.queries";
+    public static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final QueryCountProperties queryCountProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start(queryCountProperties.isHeader());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            record(request, QueryCounter.stop());
+        }
+    }
+
+    private void record(HttpServletRequest request, int queryCount) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? UNKNOWN_URI : pattern.toString();
+        DistributionSummary.builder(SUMMARY)
+                .description("Number of JDBC statements of the HTTP requests")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(queryCount);
+        if (queryCount > queryCountProperties.getWarnThreshold()) {
+            log.warn("{} {} executed {} statements, more than {}: check for N+1 queries",
+                    request.getMethod(), request.getRequestURI(), queryCount, queryCountProperties.getWarnThreshold());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package ru.company.news.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Options of counting the JDBC statements of the HTTP requests, set by the "news-api.query-count" properties.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "news-api.query-count")
+public class QueryCountProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Whether the number of statements is returned in the "X-Query-Count" response header.
+     * Intended for non-production profiles and tests.
+     */
+    private boolean header = false;
+
+    /**
+     * Number of statements of a request above which a warning is logged.
+     */
+    private int warnThreshold = 10;
+}
@@ -0,0 +1,37 @@
+package ru.company.news.api.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adding the number of JDBC statements of the request to the "X-Query-Count" response header,
+ * if it is enabled by the "news-api.query-count.header" property.
+ * The header is set right before the body is written, statements executed during serialization are not included.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@RestControllerAdvice
+public class QueryCountResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        Integer queryCount = QueryCounter.getHeaderValue();
+        if (queryCount != null) {
+            response.getHeaders().set(QueryCounter.QUERY_COUNT_HEADER, queryCount.toString());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,68 @@
+package ru.company.news.api.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counter of the JDBC statements prepared by Hibernate in the current thread.
+ * Counting is started for an HTTP request by the {@link QueryCountFilter}, statements of other threads are not counted.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class QueryCounter implements StatementInspector {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+
+    private static final ThreadLocal<Count> COUNT = new ThreadLocal<>();
+
+    /**
+     * Method for starting the count in the current thread.
+     *
+     * @param header whether the count is returned in the "X-Query-Count" response header.
+     */
+    public static void start(boolean header) {
+        COUNT.set(new Count(header));
+    }
+
+    /**
+     * Method for stopping the count in the current thread.
+     *
+     * @return number of statements since the start, 0 if the count was not started.
+     */
+    public static int stop() {
+        Count count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count.value;
+    }
+
+    /**
+     * @return number of statements since the start, null if the count is not started
+     * or is not returned in the response header.
+     */
+    public static Integer getHeaderValue() {
+        Count count = COUNT.get();
+        return count == null || !count.header ? null : count.value;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Count count = COUNT.get();
+        if (count != null) {
+            count.value++;
+        }
+        return sql;
+    }
+
+    /**
+     * Number of statements of a thread.
+     */
+    private static final class Count {
+
+        private final boolean header;
+        private int value;
+
+        private Count(boolean header) {
+            this.header = header;
+        }
+    }
+}
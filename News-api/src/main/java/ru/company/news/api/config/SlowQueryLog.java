@@ -0,0 +1,198 @@
+package ru.company.news.api.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import ru.company.news.api.dto.log.response.SlowQueryResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Log of the statements executed longer than the threshold.
+ * The slowest distinct statements are kept in a table of a limited size, the plan of a select
+ * is captured with "EXPLAIN" once, with the bind values of its first slow execution completed normally.
+ * The plan is captured in the background, on a separate connection, so the request neither waits for it
+ * nor shares its transaction with it.
+ * The bind values may contain personal data, they are logged and kept in the table only at the DEBUG level.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class SlowQueryLog implements DisposableBean {
+
+    private static final int EXPLAIN_QUEUE_CAPACITY = 16;
+    private static final String PLAN_PENDING = "pending";
+
+    private final SlowQueryProperties options;
+    private final Map<String, SlowQuery> slowQueries = new HashMap<>();
+    private final ThreadPoolExecutor explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(EXPLAIN_QUEUE_CAPACITY), new CustomizableThreadFactory("slow-query-explain-"));
+
+    /**
+     * @param slowQueryProperties options of the slow statement log.
+     */
+    public SlowQueryLog(SlowQueryProperties slowQueryProperties) {
+        this.options = slowQueryProperties;
+    }
+
+    /**
+     * @param nanos execution time of a statement.
+     * @return true if the statement is logged.
+     */
+    public boolean isSlow(long nanos) {
+        return options.isEnabled() && nanos >= options.getThreshold().toNanos();
+    }
+
+    /**
+     * Method for logging a slow statement and adding it to the table.
+     *
+     * @param sql           statement.
+     * @param parameterSets bind values of a prepared statement, one set for each execution of a batch.
+     * @param nanos         execution time.
+     * @param completed     whether the statement completed normally, only then its plan is captured.
+     * @param dataSource    data source of the statement, a separate connection of it is used to capture the plan.
+     */
+    public void record(String sql, List<List<SlowQueryProxies.BindValue>> parameterSets, long nanos,
+                       boolean completed, DataSource dataSource) {
+        long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        String parameters = null;
+        if (log.isDebugEnabled()) {
+            parameters = renderParameters(parameterSets);
+            log.debug("Slow statement, {} ms: {}, parameters {}", millis, sql, parameters);
+        } else {
+            log.warn("Slow statement, {} ms: {}", millis, sql);
+        }
+        SlowQuery slowQuery = add(sql, parameters, nanos);
+        if (slowQuery != null && completed && options.isExplain() && isSelect(sql)
+                && slowQuery.plan.compareAndSet(null, PLAN_PENDING)) {
+            List<SlowQueryProxies.BindValue> bindValues = parameterSets.isEmpty() ? List.of() : parameterSets.get(0);
+            try {
+                explainExecutor.execute(() -> slowQuery.plan.set(explain(sql, bindValues, dataSource)));
+            } catch (RejectedExecutionException e) {
+                slowQuery.plan.set(null);
+            }
+        }
+    }
+
+    /**
+     * @return the slowest distinct statements, starting with the slowest.
+     */
+    public synchronized List<SlowQueryResponse> getSlowQueries() {
+        return slowQueries.values().stream()
+                .sorted(Comparator.comparingLong((SlowQuery slowQuery) -> slowQuery.maxNanos).reversed())
+                .map(SlowQuery::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Stopping the plan capturing.
+     */
+    @Override
+    public void destroy() {
+        explainExecutor.shutdownNow();
+    }
+
+    private synchronized SlowQuery add(String sql, String parameters, long nanos) {
+        SlowQuery slowQuery = slowQueries.computeIfAbsent(sql, SlowQuery::new);
+        slowQuery.add(parameters, nanos);
+        if (slowQueries.size() > options.getTopSize()) {
+            slowQueries.values().stream()
+                    .min(Comparator.comparingLong(fastest -> fastest.maxNanos))
+                    .ifPresent(fastest -> slowQueries.remove(fastest.sql));
+        }
+        return slowQueries.get(sql);
+    }
+
+    private String renderParameters(List<List<SlowQueryProxies.BindValue>> parameterSets) {
+        StringJoiner sets = new StringJoiner("; ");
+        for (List<SlowQueryProxies.BindValue> bindValues : parameterSets) {
+            StringJoiner parameters = new StringJoiner(", ", "[", "]");
+            for (SlowQueryProxies.BindValue bindValue : bindValues) {
+                String value = String.valueOf(bindValue.getValue());
+                if (value.length() > options.getMaxParameterLength()) {
+                    value = value.substring(0, options.getMaxParameterLength()) + "...";
+                }
+                parameters.add(bindValue.getIndex() + "=" + value);
+            }
+            sets.add(parameters.toString());
+        }
+        return parameterSets.isEmpty() ? "[]" : sets.toString();
+    }
+
+    private boolean isSelect(String sql) {
+        return sql != null && sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+    }
+
+    private String explain(String sql, List<SlowQueryProxies.BindValue> bindValues, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (SlowQueryProxies.BindValue bindValue : bindValues) {
+                bindValue.apply(explain);
+            }
+            StringJoiner plan = new StringJoiner("\n");
+            try (ResultSet resultSet = explain.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.add(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        } catch (SQLException e) {
+            log.debug("Plan of the slow statement is not captured: {}", sql, e);
+            return "not available: " + e.getMessage();
+        }
+    }
+
+    /**
+     * Executions of a slow statement.
+     */
+    private static final class SlowQuery {
+
+        private final String sql;
+        private final AtomicReference<String> plan = new AtomicReference<>();
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private String lastParameters;
+
+        private SlowQuery(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(String parameters, long nanos) {
+            count++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            lastParameters = parameters;
+        }
+
+        private SlowQueryResponse toResponse() {
+            String capturedPlan = plan.get();
+            return SlowQueryResponse.builder()
+                    .sql(sql)
+                    .count(count)
+                    .maxMillis(TimeUnit.NANOSECONDS.toMillis(maxNanos))
+                    .averageMillis(TimeUnit.NANOSECONDS.toMillis(totalNanos / count))
+                    .lastParameters(lastParameters)
+                    .plan(PLAN_PENDING.equals(capturedPlan) ? null : capturedPlan)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package ru.company.news.api.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Options of the slow statement log, set by the "news-api.slow-query" properties.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@ConfigurationProperties(prefix = "news-api.slow-query")
+public class SlowQueryProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Execution time from which a statement is logged.
+     */
+    private Duration threshold = Duration.ofMillis(200);
+
+    /**
+     * Number of the slowest distinct statements kept in the table.
+     */
+    private int topSize = 20;
+
+    /**
+     * Whether the plan of a slow select is captured with "EXPLAIN", once for each statement of the table.
+     */
+    private boolean explain = true;
+
+    /**
+     * Maximum number of logged characters of a bind value.
+     */
+    private int maxParameterLength = 100;
+}
@@ -0,0 +1,208 @@
+package ru.company.news.api.config;
+
+import org.springframework.util.ClassUtils;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * JDBC proxies measuring the execution time of the statements.
+ * The data source returns proxies of the connections, which return proxies of the statements,
+ * the statements remember their bind values and pass the statements executed longer than the threshold
+ * to the {@link SlowQueryLog}, a batch with the bind values of each of its executions.
+ * Callable statements are not measured.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class SlowQueryProxies {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<String> BATCH_METHODS = Set.of("executeBatch", "executeLargeBatch");
+
+    private SlowQueryProxies() {
+    }
+
+    /**
+     * @param dataSource   data source.
+     * @param slowQueryLog log of the slow statements, obtained on the first slow statement.
+     * @return data source measuring the statements of its connections.
+     */
+    public static DataSource wrap(DataSource dataSource, Supplier<SlowQueryLog> slowQueryLog) {
+        return proxy(dataSource, (proxy, method, args) -> {
+            Object result = invoke(dataSource, method, args);
+            return result instanceof Connection ? wrap((Connection) result, dataSource, slowQueryLog) : result;
+        });
+    }
+
+    private static Connection wrap(Connection connection, DataSource dataSource, Supplier<SlowQueryLog> slowQueryLog) {
+        return proxy(connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (!(result instanceof Statement) || result instanceof CallableStatement) {
+                return result;
+            }
+            String sql = result instanceof PreparedStatement ? (String) args[0] : null;
+            return proxy((Statement) result, new StatementHandler((Statement) result, sql, dataSource, slowQueryLog));
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(T target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(target.getClass().getClassLoader(),
+                ClassUtils.getAllInterfaces(target), handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Bind value of a prepared statement, kept as the call of its setter.
+     */
+    public static final class BindValue {
+
+        private final Method setter;
+        private final Object[] args;
+
+        private BindValue(Method setter, Object[] args) {
+            this.setter = setter;
+            this.args = args;
+        }
+
+        /**
+         * @return index of the parameter.
+         */
+        public int getIndex() {
+            return (Integer) args[0];
+        }
+
+        /**
+         * @return value of the parameter, for "setNull" the SQL type.
+         */
+        public Object getValue() {
+            return args[1];
+        }
+
+        /**
+         * Method for setting the same value to another statement.
+         *
+         * @param statement prepared statement.
+         * @throws SQLException if the value is not set.
+         */
+        public void apply(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException() instanceof SQLException
+                        ? (SQLException) e.getTargetException()
+                        : new SQLException(e.getTargetException());
+            } catch (IllegalAccessException e) {
+                throw new SQLException(e);
+            }
+        }
+    }
+
+    /**
+     * Statement remembering its bind values and batches and measuring the executions.
+     * Used by one thread at a time, as JDBC statements are.
+     */
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private final DataSource dataSource;
+        private final Supplier<SlowQueryLog> slowQueryLog;
+        private final Map<Integer, BindValue> bindValues = new TreeMap<>();
+        private final List<List<BindValue>> batchParameters = new ArrayList<>();
+        private final List<String> batchSql = new ArrayList<>();
+
+        private StatementHandler(Statement statement, String preparedSql, DataSource dataSource,
+                                 Supplier<SlowQueryLog> slowQueryLog) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+            this.dataSource = dataSource;
+            this.slowQueryLog = slowQueryLog;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (preparedSql != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer) {
+                bindValues.put((Integer) args[0], new BindValue(method, args));
+            } else if ("clearParameters".equals(name)) {
+                bindValues.clear();
+            } else if ("addBatch".equals(name)) {
+                addBatch(args);
+            } else if ("clearBatch".equals(name)) {
+                clearBatch();
+            }
+            if (!EXECUTE_METHODS.contains(name)) {
+                return SlowQueryProxies.invoke(statement, method, args);
+            }
+            boolean batch = BATCH_METHODS.contains(name);
+            boolean completed = false;
+            long start = System.nanoTime();
+            try {
+                Object result = SlowQueryProxies.invoke(statement, method, args);
+                completed = true;
+                return result;
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                SlowQueryLog log = slowQueryLog.get();
+                if (log.isSlow(elapsed)) {
+                    log.record(getSql(args, batch), getParameterSets(batch), elapsed, completed, dataSource);
+                }
+                if (batch) {
+                    clearBatch();
+                }
+            }
+        }
+
+        private void addBatch(Object[] args) {
+            if (args != null && args.length > 0 && args[0] instanceof String) {
+                batchSql.add((String) args[0]);
+            } else {
+                batchParameters.add(new ArrayList<>(bindValues.values()));
+            }
+        }
+
+        private void clearBatch() {
+            batchParameters.clear();
+            batchSql.clear();
+        }
+
+        private String getSql(Object[] args, boolean batch) {
+            if (batch && !batchSql.isEmpty()) {
+                return String.join(";\n", batchSql);
+            }
+            return args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : preparedSql;
+        }
+
+        private List<List<BindValue>> getParameterSets(boolean batch) {
+            if (batch) {
+                return new ArrayList<>(batchParameters);
+            }
+            return bindValues.isEmpty() ? List.of() : List.of(new ArrayList<>(bindValues.values()));
+        }
+    }
+}
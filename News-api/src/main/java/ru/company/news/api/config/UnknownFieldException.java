@@ -0,0 +1,20 @@
+package ru.company.news.api.config;
+
+import java.util.Set;
+
+/**
+ * Exception thrown when the requested fields of a response contain a field the response does not have.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class UnknownFieldException extends RuntimeException {
+
+    /**
+     * @param field  requested field.
+     * @param fields fields of the response.
+     */
+    public UnknownFieldException(String field, Set<String> fields) {
+        super(String.format("Unknown field %s, the available fields: %s", field, String.join(",", fields)));
+    }
+}
@@ -0,0 +1,12 @@
+package ru.company.news.api.constant;
+
+/**
+ * Limits of the batch requests.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class Batches {
+
+    public static final int MAX_SIZE = 1000;
+}
@@ -0,0 +1,21 @@
+package ru.company.news.api.constant;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Date formats and boundaries used when displaying and filtering entities.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class Dates {
+
+    public static final String PATTERN = "dd-MM-yyyy HH:mm";
+    public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(PATTERN);
+    public static final String SQL_PATTERN = "DD-MM-YYYY HH24:MI";
+
+    public static final OffsetDateTime MIN = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    public static final OffsetDateTime MAX = OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 0, ZoneOffset.UTC);
+}
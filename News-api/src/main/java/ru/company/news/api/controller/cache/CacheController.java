@@ -0,0 +1,48 @@
+package ru.company.news.api.controller.cache;
+
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.company.news.api.dto.cache.response.CacheStatsResponse;
+import ru.company.news.api.dto.cache.response.CacheWarmUpResponse;
+import ru.company.news.api.service.cache.CacheService;
+
+import java.util.List;
+
+/**
+ * The class of cache monitoring controllers.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    private final CacheService cacheService;
+
+    /**
+     * Controller for receiving the statistics of the caches.
+     *
+     * @return statistics of each cache: size, hits, misses, evictions, load time and coalesced calls.
+     */
+    @GetMapping("/stats")
+    @ApiOperation("Controller for receiving the statistics of the caches.")
+    public List<CacheStatsResponse> getStats() {
+        return cacheService.getStats();
+    }
+
+    /**
+     * Controller for receiving the progress of filling the caches at startup.
+     *
+     * @return number of planned, loaded and failed entries and the duration of the warm-up.
+     */
+    @GetMapping("/warm-up")
+    @ApiOperation("Controller for receiving the progress of filling the caches at startup.")
+    public CacheWarmUpResponse getWarmUp() {
+        return cacheService.getWarmUp();
+    }
+}
@@ -3,17 +3,41 @@ package ru.company.news.api.controller.comment;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import ru.company.news.api.config.CacheETags;
+import ru.company.news.api.config.ExportProperties;
+import ru.company.news.api.config.JsonFields;
+import ru.company.news.api.config.JsonLines;
+import ru.company.news.api.config.UnknownFieldException;
+import ru.company.news.api.constant.Batches;
+import ru.company.news.api.constant.Dates;
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
 import ru.company.news.api.dto.comment.request.CreateCommentRequest;
 import ru.company.news.api.dto.comment.request.UpdateCommentRequest;
+import ru.company.news.api.dto.comment.response.CommentDetailsResponse;
+import ru.company.news.api.dto.comment.response.CommentExportResponse;
 import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.service.comment.CommentService;
 
 import javax.persistence.EntityNotFoundException;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -22,12 +46,17 @@ import java.util.UUID;
  * @author Anton Salazhkov
  * @version 1.0
  */
+@Validated
 @RestController
 @RequestMapping("/comment")
 @RequiredArgsConstructor
 public class CommentController {
 
     private final CommentService commentService;
+    private final CacheETags cacheETags;
+    private final JsonFields jsonFields;
+    private final JsonLines jsonLines;
+    private final ExportProperties exportProperties;
 
     /**
      * Controller for processing the creation of a new comment.
@@ -44,18 +73,98 @@ public class CommentController {
         return commentService.createComment(createCommentRequest);
     }
 
+    /**
+     * Processing controller for adding several comments in one transaction.
+     * All requests are validated before the comments are added, one invalid request rejects the whole batch.
+     *
+     * @param createCommentRequests requests to add comments, from 1 to {@value Batches#MAX_SIZE}.
+     * @return entities - comments, in the order of the requests.
+     * @throws ConstraintViolationException if the number of requests or the fields in the requests are incorrect.
+     * @throws EntityNotFoundException      if no news was found for one of the news identifiers in the requests.
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    @ApiOperation("Processing controller for adding several comments in one transaction.")
+    public List<Comment> createComment(@RequestBody @NotEmpty @Size(max = Batches.MAX_SIZE)
+                                       List<@Valid CreateCommentRequest> createCommentRequests) {
+        return commentService.createComment(createCommentRequests);
+    }
+
+    /**
+     * Processing controller for reading several comments by identifiers.
+     * The cached comments are returned from the cache, the missing ones are read with one query.
+     *
+     * @param ids UUID identifiers of the entities - comments, from 1 to {@value Batches#MAX_SIZE}, may repeat.
+     * @return results of reading in the order of the identifiers, the missing comments are marked as not found.
+     * @throws MethodArgumentTypeMismatchException if one of the comment IDs is set incorrectly.
+     * @throws ConstraintViolationException        if the number of identifiers is incorrect.
+     */
+    @GetMapping("/batch")
+    @ApiOperation("Processing controller for reading several comments by identifiers.")
+    public List<BatchReadResponse<CommentDetailsResponse>> readComment(@RequestParam @NotEmpty @Size(max = Batches.MAX_SIZE)
+                                                                       List<@NotNull UUID> ids) {
+        return commentService.readComment(ids);
+    }
+
     /**
      * Processing controller for reading the details of a single comment.
+     * The ETag of a cached comment is returned, if it matches the "If-None-Match" header, the response is 304.
+     * The comment is read without its news, so one cached comment serves every set of fields,
+     * if the fields are requested, only they are returned.
      *
-     * @param id UUID identifier of the entity - comment.
-     * @return entity - comment.
+     * @param id         UUID identifier of the entity - comment.
+     * @param fields     comma-separated fields of the comment: id, date, text, username.
+     *                   May be missing, all fields are returned.
+     * @param webRequest current request.
+     * @return comment.
      * @throws MethodArgumentTypeMismatchException if the comment ID is not set correctly.
      * @throws EntityNotFoundException             if no comment is found for the given identifier in the request.
+     * @throws UnknownFieldException               if the comment has no requested field.
      */
     @GetMapping("/details/{id}")
-    @ApiOperation("Processing controller for reading the details of a single comment.")
-    public Comment readComment(@PathVariable UUID id) {
-        return commentService.readComment(id);
+    @ApiOperation(value = "Processing controller for reading the details of a single comment.",
+            response = CommentDetailsResponse.class)
+    public ResponseEntity<Object> readComment(@PathVariable UUID id,
+                                              @RequestParam(value = "fields", required = false) String fields,
+                                              WebRequest webRequest) {
+        Set<String> fieldSet = jsonFields.parse(fields, CommentDetailsResponse.class);
+        CommentDetailsResponse comment = commentService.readComment(id);
+        String variant = jsonFields.getVariant(fieldSet, null);
+        if (cacheETags.checkNotModified(webRequest, "comment", comment, variant)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .headers(cacheETags.getHeaders("comment", comment, variant))
+                .body(fieldSet == null ? comment : jsonFields.filter(comment, null, fieldSet));
+    }
+
+    /**
+     * Processing controller for exporting the comments as NDJSON: one comment with the identifier of its news per line,
+     * sorted by date.
+     * The comments are written to the response while they are read from the database, without being collected,
+     * for clients accepting gzip the response is compressed.
+     * The export is written asynchronously with the "news-api.export.timeout" time limit.
+     *
+     * @param since          User-specified parameter: beginning of the date range "dd-MM-yyyy HH:mm", inclusive.
+     *                       May be missing, all comments are exported.
+     * @param acceptEncoding "Accept-Encoding" header of the request.
+     *                       May be missing.
+     * @param response       response, the comments are written to it.
+     * @return task writing the comments with the identifiers of their news.
+     * @throws MethodArgumentTypeMismatchException if the beginning of the date range is set incorrectly.
+     */
+    @GetMapping("/export")
+    @ApiOperation(value = "Processing controller for exporting the comments as NDJSON.",
+            response = CommentExportResponse.class)
+    public WebAsyncTask<Void> exportComment(@RequestParam(value = "since", required = false)
+                                            @DateTimeFormat(pattern = Dates.PATTERN) LocalDateTime since,
+                                            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                            String acceptEncoding,
+                                            HttpServletResponse response) {
+        return new WebAsyncTask<>(exportProperties.getTimeout().toMillis(), () -> {
+            jsonLines.write(writer -> commentService.exportComment(since, writer), null, acceptEncoding, response);
+            return null;
+        });
     }
 
     /**
@@ -8,11 +8,16 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import ru.company.news.api.config.CacheLoadTimeoutException;
+import ru.company.news.api.config.UnknownFieldException;
+import ru.company.news.api.constant.Dates;
 import ru.company.news.api.dto.exception.response.ResponseError;
+import ru.company.news.api.service.UnsupportedSortException;
 
 import javax.persistence.EntityNotFoundException;
+import javax.validation.ConstraintViolationException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 
 /**
  * Exception handling controller.
@@ -48,6 +53,18 @@ public class ControllerExceptionHandler {
         return new ResponseError(getNowLocalDateTime(), e.getMessage(), e.toString());
     }
 
+    /**
+     * Handling validation exceptions of the elements of batch requests.
+     *
+     * @param e the resulting exception.
+     * @return response including current time, message and exception name.
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseError handleConstraintViolationException(ConstraintViolationException e) {
+        return new ResponseError(getNowLocalDateTime(), e.getMessage(), e.toString());
+    }
+
     /**
      * Handling exceptions for missing required parameters in received requests.
      *
@@ -84,7 +101,55 @@ public class ControllerExceptionHandler {
         return new ResponseError(getNowLocalDateTime(), e.getMessage(), e.toString());
     }
 
+    /**
+     * Handling exceptions for invalid date parameters in received requests.
+     *
+     * @param e the resulting exception.
+     * @return response including current time, message and exception name.
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(DateTimeParseException.class)
+    public ResponseError handleDateTimeParseException(DateTimeParseException e) {
+        return new ResponseError(getNowLocalDateTime(), e.getMessage(), e.toString());
+    }
+
+    /**
+     * Handling exceptions for requesting unknown fields of the response.
+     *
+     * @param e the resulting exception.
+     * @return response including current time, message and exception name.
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(UnknownFieldException.class)
+    public ResponseError handleUnknownFieldException(UnknownFieldException e) {
+        return new ResponseError(getNowLocalDateTime(), e.getMessage(), e.toString());
+    }
+
+    /**
+     * Handling exceptions for requesting keyset pagination with an unsupported sort.
+     *
+     * @param e the resulting exception.
+     * @return response including current time, message and exception name.
+     */
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @ExceptionHandler(UnsupportedSortException.class)
+    public ResponseError handleUnsupportedSortException(UnsupportedSortException e) {
+        return new ResponseError(getNowLocalDateTime(), e.getMessage(), e.toString());
+    }
+
+    /**
+     * Handling exceptions for waiting too long for the load of a cached value by another request.
+     *
+     * @param e the resulting exception.
+     * @return response including current time, message and exception name.
+     */
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    @ExceptionHandler(CacheLoadTimeoutException.class)
+    public ResponseError handleCacheLoadTimeoutException(CacheLoadTimeoutException e) {
+        return new ResponseError(getNowLocalDateTime(), e.getMessage(), e.toString());
+    }
+
     private String getNowLocalDateTime() {
-        return LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm"));
+        return LocalDateTime.now().format(Dates.FORMATTER);
     }
 }
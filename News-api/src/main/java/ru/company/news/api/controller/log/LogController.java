@@ -0,0 +1,48 @@
+package ru.company.news.api.controller.log;
+
+import io.swagger.annotations.ApiOperation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.company.news.api.dto.log.response.AuditLogResponse;
+import ru.company.news.api.dto.log.response.SlowQueryResponse;
+import ru.company.news.api.service.log.LogService;
+
+import java.util.List;
+
+/**
+ * The class of log monitoring controllers.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@RestController
+@RequestMapping("/log")
+@RequiredArgsConstructor
+public class LogController {
+
+    private final LogService logService;
+
+    /**
+     * Controller for receiving the state of the asynchronous log of the controller and service calls.
+     *
+     * @return depth of the buffer, number of published, written and dropped messages.
+     */
+    @GetMapping("/audit")
+    @ApiOperation("Controller for receiving the state of the asynchronous log of the controller and service calls.")
+    public AuditLogResponse getAudit() {
+        return logService.getAudit();
+    }
+
+    /**
+     * Controller for receiving the slowest distinct statements executed longer than the threshold.
+     *
+     * @return statements with their execution times, bind values and plans, starting with the slowest.
+     */
+    @GetMapping("/slow-queries")
+    @ApiOperation("Controller for receiving the slowest distinct statements executed longer than the threshold.")
+    public List<SlowQueryResponse> getSlowQueries() {
+        return logService.getSlowQueries();
+    }
+}
@@ -5,24 +5,56 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import io.swagger.annotations.ApiOperation;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.web.PageableDefault;
 import org.springframework.data.web.SortDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import ru.company.news.api.config.ApiPageable;
+import ru.company.news.api.config.CacheETags;
+import ru.company.news.api.config.ExportProperties;
+import ru.company.news.api.config.JsonFields;
+import ru.company.news.api.config.JsonLines;
+import ru.company.news.api.config.JsonResponseCache;
+import ru.company.news.api.config.UnknownFieldException;
+import ru.company.news.api.constant.Batches;
+import ru.company.news.api.constant.Dates;
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
+import ru.company.news.api.dto.comment.response.CommentResponse;
 import ru.company.news.api.dto.news.request.CreateNewsRequest;
+import ru.company.news.api.dto.news.request.SearchMode;
 import ru.company.news.api.dto.news.request.UpdateNewsRequest;
+import ru.company.news.api.dto.news.response.NewsDetailsResponse;
+import ru.company.news.api.dto.news.response.NewsResponse;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
+import ru.company.news.api.dto.page.Cursor;
 import ru.company.news.api.entity.View;
 import ru.company.news.api.entity.news.News;
+import ru.company.news.api.service.KeysetPagination;
+import ru.company.news.api.service.UnsupportedSortException;
 import ru.company.news.api.service.news.NewsService;
 
 import javax.persistence.EntityNotFoundException;
+import javax.servlet.http.HttpServletResponse;
+import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 /**
  * The class of controllers of entities - news.
@@ -30,55 +62,134 @@ import java.util.UUID;
  * @author Anton Salazhkov
  * @version 1.0
  */
+@Validated
 @RestController
 @RequestMapping("/news")
 @RequiredArgsConstructor
 public class NewsController {
 
     private final NewsService newsService;
+    private final JsonResponseCache jsonResponseCache;
+    private final CacheETags cacheETags;
+    private final JsonFields jsonFields;
+    private final JsonLines jsonLines;
+    private final ExportProperties exportProperties;
 
     /**
-     * Controller for receiving the list of news, no comments.
+     * Controller for receiving the list of news summaries: identifier, date, title and excerpt of the text.
+     * If a cursor is set, keyset pagination is used instead of the page number.
+     * Cursors of the neighboring pages are returned in the "X-Next-Cursor" and "X-Previous-Cursor" headers.
+     * The rendered JSON of a cached page is reused, for clients accepting gzip it is compressed.
+     * The ETag of a cached page is returned, if it matches the "If-None-Match" header, the response is 304.
+     * If the fields are requested, only they are returned, without the excerpt it is not selected
+     * and the page is cached separately for the requested fields.
      *
-     * @param pageable page number being viewed.
-     *                 May be missing.
-     *                 Default: page - 0, number of entities per page - 10, sorting of entities - by date.
-     * @return list of entities - news, no comments.
+     * @param after          cursor, the page starts after it.
+     *                       May be missing.
+     * @param before         cursor, the page ends before it.
+     *                       May be missing.
+     * @param pageable       page number being viewed.
+     *                       May be missing.
+     *                       Default: page - 0, number of entities per page - 10, sorting of entities - by date.
+     * @param fields         comma-separated fields of the news: id, date, title, excerpt.
+     *                       May be missing, all fields are returned.
+     * @param acceptEncoding "Accept-Encoding" header of the request.
+     *                       May be missing.
+     * @param webRequest     current request.
+     * @return list of news summaries.
+     * @throws MethodArgumentTypeMismatchException if the cursor is set incorrectly.
+     * @throws UnsupportedSortException            if a cursor is set and the news are sorted not by date.
+     * @throws UnknownFieldException               if the news summary has no requested field.
      */
     @GetMapping
-    @JsonView(View.Public.class)
-    @ApiOperation("Controller for receiving the list of news, no comments.")
+    @ApiOperation(value = "Controller for receiving the list of news summaries.",
+            response = NewsSummaryResponse.class, responseContainer = "List")
     @ApiPageable
-    public List<News> getNews(@PageableDefault
-                              @SortDefault(sort = "date") Pageable pageable) {
-        return newsService.getNews(pageable);
+    public ResponseEntity<byte[]> getNews(@RequestParam(value = "after", required = false) Cursor after,
+                                          @RequestParam(value = "before", required = false) Cursor before,
+                                          @SortDefault(sort = KeysetPagination.SORT_PROPERTY) Pageable pageable,
+                                          @RequestParam(value = "fields", required = false) String fields,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                          String acceptEncoding,
+                                          WebRequest webRequest) {
+        Set<String> fieldSet = jsonFields.parse(fields, NewsSummaryResponse.class);
+        boolean keyset = after != null || before != null;
+        if (keyset) {
+            KeysetPagination.requireSupported(pageable);
+        }
+        List<NewsSummaryResponse> news = keyset
+                ? newsService.getNews(after, before, pageable, fieldSet)
+                : newsService.getNews(pageable, fieldSet);
+        String variant = jsonFields.getVariant(fieldSet, jsonResponseCache.getEncoding(acceptEncoding));
+        if (cacheETags.checkNotModified(webRequest, "news", news, variant)) {
+            return null;
+        }
+        HttpHeaders headers = getCursorHeaders(news, pageable, NewsSummaryResponse::getDate, NewsSummaryResponse::getId);
+        headers.addAll(cacheETags.getHeaders("news", news, variant));
+        return jsonResponseCache.toResponse(news, View.Public.class, fieldSet, headers, acceptEncoding);
     }
 
     /**
-     * Controller for receiving a list of news corresponding to the specified parameters, no comments.
+     * Controller for receiving a list of news summaries corresponding to the specified parameters.
+     * If the fields are requested, only they are returned, without the excerpt it is not selected
+     * and the page is cached separately for the requested fields.
      *
      * @param userInputDate  User-specified parameter: date.
-     *                       Can be empty or have a partial match.
+     *                       May be missing, empty or contain a year "yyyy", month "MM-yyyy", day "dd-MM-yyyy",
+     *                       hour "dd-MM-yyyy HH", minute "dd-MM-yyyy HH:mm" or another part of "dd-MM-yyyy HH:mm",
+     *                       partial match.
+     * @param from           User-specified parameter: beginning of the date range "dd-MM-yyyy HH:mm", inclusive.
+     *                       May be missing.
+     * @param to             User-specified parameter: end of the date range "dd-MM-yyyy HH:mm", exclusive.
+     *                       May be missing.
      * @param userInputTitle User-supplied parameter: title.
      *                       May be empty, partial match, or different case.
      * @param userInputText  User-specified parameter: text.
      *                       May be empty, partial match, or different case.
+     * @param searchMode     User-specified parameter: search mode by title and text.
+     *                       May be missing.
+     *                       Default: FULL_TEXT - full-text search, sorted by relevance;
+     *                       SUBSTRING - substring search, sorted by the page parameters.
      * @param pageable       page number being viewed.
      *                       May be missing.
      *                       Default: page - 0, number of entities per page - 10, sorting of entities - by date.
-     * @return list of entities - news, no comments.
-     * @throws MissingServletRequestParameterException if there is no parameter (at least empty): date, title and text.
+     * @param fields         comma-separated fields of the news: id, date, title, excerpt.
+     *                       May be missing, all fields are returned.
+     * @param acceptEncoding "Accept-Encoding" header of the request.
+     *                       May be missing.
+     * @param webRequest     current request.
+     * @return list of news summaries.
+     * @throws MissingServletRequestParameterException if there is no parameter (at least empty): title and text.
+     * @throws MethodArgumentTypeMismatchException     if the range boundaries or the search mode are set incorrectly.
+     * @throws DateTimeParseException                  if the date parameter is set incorrectly.
+     * @throws UnknownFieldException                   if the news summary has no requested field.
      */
     @GetMapping("/parameter")
-    @JsonView(View.Public.class)
-    @ApiOperation("Controller for receiving a list of news corresponding to the specified parameters, no comments.")
+    @ApiOperation(value = "Controller for receiving a list of news summaries corresponding to the specified parameters.",
+            response = NewsSummaryResponse.class, responseContainer = "List")
     @ApiPageable
-    public List<News> getNews(@RequestParam("date") String userInputDate,
-                              @RequestParam("title") String userInputTitle,
-                              @RequestParam("text") String userInputText,
-                              @PageableDefault
-                              @SortDefault(sort = "date") Pageable pageable) {
-        return newsService.getNews(userInputDate, userInputTitle, userInputText, pageable);
+    public ResponseEntity<byte[]> getNews(@RequestParam(value = "date", defaultValue = "") String userInputDate,
+                                          @RequestParam(value = "from", required = false)
+                                          @DateTimeFormat(pattern = Dates.PATTERN) LocalDateTime from,
+                                          @RequestParam(value = "to", required = false)
+                                          @DateTimeFormat(pattern = Dates.PATTERN) LocalDateTime to,
+                                          @RequestParam("title") String userInputTitle,
+                                          @RequestParam("text") String userInputText,
+                                          @RequestParam(value = "mode", defaultValue = "FULL_TEXT") SearchMode searchMode,
+                                          @SortDefault(sort = KeysetPagination.SORT_PROPERTY) Pageable pageable,
+                                          @RequestParam(value = "fields", required = false) String fields,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                          String acceptEncoding,
+                                          WebRequest webRequest) {
+        Set<String> fieldSet = jsonFields.parse(fields, NewsSummaryResponse.class);
+        List<NewsSummaryResponse> news = newsService.getNews(userInputDate, from, to,
+                userInputTitle, userInputText, searchMode, pageable, fieldSet);
+        String variant = jsonFields.getVariant(fieldSet, jsonResponseCache.getEncoding(acceptEncoding));
+        if (cacheETags.checkNotModified(webRequest, "news", news, variant)) {
+            return null;
+        }
+        return jsonResponseCache.toResponse(news, View.Public.class, fieldSet,
+                cacheETags.getHeaders("news", news, variant), acceptEncoding);
     }
 
     /**
@@ -96,24 +207,91 @@ public class NewsController {
         return newsService.createNews(createNewsRequest);
     }
 
+    /**
+     * Processing controller for creating several news in one transaction.
+     * All requests are validated before the news are created, one invalid request rejects the whole batch.
+     *
+     * @param createNewsRequests requests to create new news items, from 1 to {@value Batches#MAX_SIZE}.
+     * @return entities - news, no comment, in the order of the requests.
+     * @throws ConstraintViolationException if the number of requests or the fields in the requests are incorrect.
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    @JsonView(View.Public.class)
+    @ApiOperation("Processing controller for creating several news in one transaction.")
+    public List<News> createNews(@RequestBody @NotEmpty @Size(max = Batches.MAX_SIZE)
+                                 List<@Valid CreateNewsRequest> createNewsRequests) {
+        return newsService.createNews(createNewsRequests);
+    }
+
+    /**
+     * Processing controller for reading several news items by identifiers, without comments.
+     * The cached news are returned from the cache, the missing ones are read with one query.
+     *
+     * @param ids UUID identifiers of the entities - news, from 1 to {@value Batches#MAX_SIZE}, may repeat.
+     * @return results of reading in the order of the identifiers, the missing news are marked as not found.
+     * @throws MethodArgumentTypeMismatchException if one of the news IDs is set incorrectly.
+     * @throws ConstraintViolationException        if the number of identifiers is incorrect.
+     */
+    @GetMapping("/batch")
+    @JsonView(View.Public.class)
+    @ApiOperation("Processing controller for reading several news items by identifiers.")
+    public List<BatchReadResponse<NewsResponse>> readNews(@RequestParam @NotEmpty @Size(max = Batches.MAX_SIZE)
+                                                          List<@NotNull UUID> ids) {
+        return newsService.readNews(ids);
+    }
+
     /**
      * Processing controller for reading the details of one news item, with comments.
+     * If a cursor is set, keyset pagination of comments is used instead of the page number.
+     * Cursors of the neighboring comment pages are returned in the "X-Next-Cursor" and "X-Previous-Cursor" headers.
+     * The ETag of cached details is returned, if it matches the "If-None-Match" header, the response is 304.
+     * If the fields are requested, only they are returned, without the comments they are not selected
+     * and the details are cached separately for the requested fields.
      *
-     * @param id       UUID identifier of the entity - news.
-     * @param pageable the number of the comment page being viewed.
-     *                 May be missing.
-     *                 Default: page - 0, number of entities per page - 10, sorting of entities - by date.
-     * @return entity - news, with comment.
-     * @throws MethodArgumentTypeMismatchException if the news ID is set incorrectly.
+     * @param id         UUID identifier of the entity - news.
+     * @param after      cursor, the comment page starts after it.
+     *                   May be missing.
+     * @param before     cursor, the comment page ends before it.
+     *                   May be missing.
+     * @param pageable   the number of the comment page being viewed.
+     *                   May be missing.
+     *                   Default: page - 0, number of entities per page - 10, sorting of entities - by date.
+     * @param fields     comma-separated fields of the details: id, date, title, text, comments.
+     *                   May be missing, all fields are returned.
+     * @param webRequest current request.
+     * @return details of the news with the requested page of comments.
+     * @throws MethodArgumentTypeMismatchException if the news ID or the cursor is set incorrectly.
+     * @throws UnsupportedSortException            if a cursor is set and the comments are sorted not by date.
      * @throws EntityNotFoundException             if no news was found for the given identifier.
+     * @throws UnknownFieldException               if the details have no requested field.
      */
     @GetMapping("/details/{id}")
-    @ApiOperation("Processing controller for reading the details of one news item, with comments.")
+    @ApiOperation(value = "Processing controller for reading the details of one news item, with comments.",
+            response = NewsDetailsResponse.class)
     @ApiPageable
-    public News readNews(@PathVariable UUID id,
-                         @PageableDefault
-                         @SortDefault(sort = "date") Pageable pageable) {
-        return newsService.readNews(id, pageable);
+    public ResponseEntity<Object> readNews(@PathVariable UUID id,
+                                           @RequestParam(value = "after", required = false) Cursor after,
+                                           @RequestParam(value = "before", required = false) Cursor before,
+                                           @SortDefault(sort = KeysetPagination.SORT_PROPERTY) Pageable pageable,
+                                           @RequestParam(value = "fields", required = false) String fields,
+                                           WebRequest webRequest) {
+        Set<String> fieldSet = jsonFields.parse(fields, NewsDetailsResponse.class);
+        boolean keyset = after != null || before != null;
+        if (keyset) {
+            KeysetPagination.requireSupported(pageable);
+        }
+        NewsDetailsResponse news = keyset
+                ? newsService.readNews(id, after, before, pageable, fieldSet)
+                : newsService.readNews(id, pageable, fieldSet);
+        String variant = jsonFields.getVariant(fieldSet, null);
+        if (cacheETags.checkNotModified(webRequest, "newsDetails", news, variant)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .headers(getCursorHeaders(news.getComments(), pageable, CommentResponse::getDate, CommentResponse::getId))
+                .headers(cacheETags.getHeaders("newsDetails", news, variant))
+                .body(fieldSet == null ? news : jsonFields.filter(news, null, fieldSet));
     }
 
     /**
@@ -145,4 +323,60 @@ public class NewsController {
     public UUID deleteNews(@PathVariable UUID id) {
         return newsService.deleteNews(id);
     }
+
+    /**
+     * Processing controller for deleting several news in one transaction, with all their comments.
+     *
+     * @param ids UUID identifiers of the entities - news, from 1 to {@value Batches#MAX_SIZE}.
+     * @return UUID identifiers of the deleted news, the identifiers of missing news are skipped.
+     * @throws MethodArgumentTypeMismatchException if one of the news IDs is set incorrectly.
+     * @throws ConstraintViolationException        if the number of identifiers is incorrect.
+     */
+    @DeleteMapping
+    @ApiOperation("Processing controller for deleting several news in one transaction.")
+    public List<UUID> deleteNews(@RequestParam @NotEmpty @Size(max = Batches.MAX_SIZE) Set<UUID> ids) {
+        return newsService.deleteNews(ids);
+    }
+
+    /**
+     * Processing controller for exporting the news as NDJSON: one news item per line, sorted by date.
+     * The news are written to the response while they are read from the database, without being collected,
+     * for clients accepting gzip the response is compressed.
+     * The export is written asynchronously with the "news-api.export.timeout" time limit.
+     *
+     * @param since          User-specified parameter: beginning of the date range "dd-MM-yyyy HH:mm", inclusive.
+     *                       May be missing, all news are exported.
+     * @param acceptEncoding "Accept-Encoding" header of the request.
+     *                       May be missing.
+     * @param response       response, the news are written to it.
+     * @return task writing the news, no comment.
+     * @throws MethodArgumentTypeMismatchException if the beginning of the date range is set incorrectly.
+     */
+    @GetMapping("/export")
+    @ApiOperation(value = "Processing controller for exporting the news as NDJSON.", response = NewsResponse.class)
+    public WebAsyncTask<Void> exportNews(@RequestParam(value = "since", required = false)
+                                         @DateTimeFormat(pattern = Dates.PATTERN) LocalDateTime since,
+                                         @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false)
+                                         String acceptEncoding,
+                                         HttpServletResponse response) {
+        return new WebAsyncTask<>(exportProperties.getTimeout().toMillis(), () -> {
+            jsonLines.write(writer -> newsService.exportNews(since, writer), View.Public.class, acceptEncoding, response);
+            return null;
+        });
+    }
+
+    private <T> HttpHeaders getCursorHeaders(List<T> page, Pageable pageable,
+                                             Function<T, OffsetDateTime> date, Function<T, UUID> id) {
+        HttpHeaders headers = new HttpHeaders();
+        if (page == null || page.isEmpty() || !KeysetPagination.isSupported(pageable)) {
+            return headers;
+        }
+        T first = page.get(0);
+        T last = page.get(page.size() - 1);
+        headers.set(Cursor.PREVIOUS_CURSOR_HEADER, new Cursor(date.apply(first), id.apply(first)).toString());
+        if (page.size() >= pageable.getPageSize()) {
+            headers.set(Cursor.NEXT_CURSOR_HEADER, new Cursor(date.apply(last), id.apply(last)).toString());
+        }
+        return headers;
+    }
 }
@@ -0,0 +1,44 @@
+package ru.company.news.api.dto.batch.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.company.news.api.entity.View;
+
+import java.util.UUID;
+
+/**
+ * Result of reading one requested identifier of a batch: the entity, or a not-found marker without it.
+ *
+ * @param <T> entity type.
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReadResponse<T> {
+
+    @JsonView(View.Public.class)
+    private UUID id;
+
+    @JsonView(View.Public.class)
+    private boolean found;
+
+    @JsonView(View.Public.class)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private T entity;
+
+    /**
+     * @param id     requested UUID identifier.
+     * @param entity found entity.
+     *               May be missing.
+     * @param <T>    entity type.
+     * @return result of reading the identifier, not found if there is no entity.
+     */
+    public static <T> BatchReadResponse<T> of(UUID id, T entity) {
+        return new BatchReadResponse<>(id, entity != null, entity);
+    }
+}
@@ -0,0 +1,31 @@
+package ru.company.news.api.dto.cache.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Statistics of one cache.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsResponse {
+
+    private String name;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+    private long loadCount;
+    private long loadExceptionCount;
+    private double averageLoadMillis;
+    private long coalescedCount;
+    private long loadTimeoutCount;
+}
@@ -0,0 +1,27 @@
+package ru.company.news.api.dto.cache.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Progress of filling the caches at startup.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheWarmUpResponse {
+
+    private boolean enabled;
+    private boolean finished;
+    private boolean timedOut;
+    private int plannedCount;
+    private int loadedCount;
+    private int failedCount;
+    private long elapsedMillis;
+}
@@ -0,0 +1,38 @@
+package ru.company.news.api.dto.comment.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.company.news.api.constant.Dates;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Cached comment: the fields of the comment and the identifier of its news.
+ * Is selected directly by the query, the news is not joined and not read from the database.
+ * The identifier of the news is used to tag the cached comment and is not serialized.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDetailsResponse {
+
+    private UUID id;
+
+    @JsonFormat(pattern = Dates.PATTERN)
+    private OffsetDateTime date;
+
+    private String text;
+    private String username;
+
+    @JsonIgnore
+    private UUID newsId;
+}
@@ -0,0 +1,34 @@
+package ru.company.news.api.dto.comment.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.company.news.api.constant.Dates;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Comment of the export: the fields of the comment and the identifier of its news.
+ * Is selected directly by the query, the news is not read from the database.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentExportResponse {
+
+    private UUID id;
+
+    @JsonFormat(pattern = Dates.PATTERN)
+    private OffsetDateTime date;
+
+    private String text;
+    private String username;
+    private UUID newsId;
+}
@@ -0,0 +1,33 @@
+package ru.company.news.api.dto.comment.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.company.news.api.constant.Dates;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Comment of the news details: the fields of the comment without its news.
+ * Is selected directly by the query, the comment is not attached to the persistence context.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentResponse {
+
+    private UUID id;
+
+    @JsonFormat(pattern = Dates.PATTERN)
+    private OffsetDateTime date;
+
+    private String text;
+    private String username;
+}
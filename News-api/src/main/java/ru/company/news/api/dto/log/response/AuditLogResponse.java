@@ -0,0 +1,29 @@
+package ru.company.news.api.dto.log.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.company.news.api.config.LogProperties;
+
+/**
+ * State of the asynchronous log of the controller and service calls.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogResponse {
+
+    private boolean enabled;
+    private LogProperties.OverflowPolicy overflowPolicy;
+    private int capacity;
+    private int queueDepth;
+    private long publishedCount;
+    private long writtenCount;
+    private long droppedCount;
+    private long blockedCount;
+}
@@ -0,0 +1,26 @@
+package ru.company.news.api.dto.log.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Slow statement with its execution times, the bind values of the last slow execution and the plan.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQueryResponse {
+
+    private String sql;
+    private long count;
+    private long maxMillis;
+    private long averageMillis;
+    private String lastParameters;
+    private String plan;
+}
@@ -0,0 +1,21 @@
+package ru.company.news.api.dto.news.request;
+
+/**
+ * News search mode by title and text.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public enum SearchMode {
+
+    /**
+     * Full-text search with ranking by relevance.
+     * If the database does not support full-text search, substring search is used.
+     */
+    FULL_TEXT,
+
+    /**
+     * Case-insensitive substring search in title and text.
+     */
+    SUBSTRING
+}
@@ -0,0 +1,38 @@
+package ru.company.news.api.dto.news.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.company.news.api.constant.Dates;
+import ru.company.news.api.dto.comment.response.CommentResponse;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Details of one news item with the requested page of comments.
+ * Contains only the comments of the page, the full collection of comments of the news is not loaded,
+ * the comments are read as DTOs, so no entity is kept in the cached details.
+ * If the comments are not among the requested fields, they are not read and are missing.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsDetailsResponse {
+
+    private UUID id;
+
+    @JsonFormat(pattern = Dates.PATTERN)
+    private OffsetDateTime date;
+
+    private String title;
+    private String text;
+    private List<CommentResponse> comments;
+}
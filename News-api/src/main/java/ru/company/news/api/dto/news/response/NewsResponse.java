@@ -0,0 +1,41 @@
+package ru.company.news.api.dto.news.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonView;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.company.news.api.constant.Dates;
+import ru.company.news.api.entity.View;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * News item without comments: identifier, date, title and text.
+ * Is selected directly by the queries, the news is not attached to the persistence context,
+ * so it is safe to cache and share between requests.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NewsResponse {
+
+    @JsonView(View.Public.class)
+    private UUID id;
+
+    @JsonView(View.Public.class)
+    @JsonFormat(pattern = Dates.PATTERN)
+    private OffsetDateTime date;
+
+    @JsonView(View.Public.class)
+    private String title;
+
+    @JsonView(View.Public.class)
+    private String text;
+}
@@ -0,0 +1,65 @@
+package ru.company.news.api.dto.page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque position in a list sorted by date and identifier, used for keyset (seek) pagination.
+ * The client receives the cursor as a string and passes it back unchanged.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Data
+@AllArgsConstructor
+public class Cursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String PREVIOUS_CURSOR_HEADER = "X-Previous-Cursor";
+
+    private static final String SEPARATOR = "_";
+
+    private OffsetDateTime date;
+    private UUID id;
+
+    /**
+     * Method for decoding the cursor received from the client.
+     * Used by Spring to convert request parameters.
+     *
+     * @param value cursor as a string.
+     * @return cursor.
+     * @throws IllegalArgumentException if the cursor is set incorrectly.
+     */
+    public static Cursor valueOf(String value) {
+        String decoded = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("Invalid cursor: " + value);
+        }
+        try {
+            Instant instant = Instant.parse(decoded.substring(0, separator));
+            return new Cursor(instant.atZone(ZoneId.systemDefault()).toOffsetDateTime(),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+    }
+
+    /**
+     * Method for encoding the cursor to pass it to the client.
+     *
+     * @return cursor as a string.
+     */
+    @Override
+    public String toString() {
+        String decoded = date.toInstant() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(decoded.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,22 +1,30 @@
 package ru.company.news.api.entity.comment;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+import ru.company.news.api.constant.Dates;
 import ru.company.news.api.entity.news.News;
 
 import javax.persistence.*;
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 /**
  * Entity "Comment".
  * In entity, there is a @ManyToOne relation to "News".
  * For the "text" field, the initial size has been increased to 2000 characters.
+ * The "date" field is stored as a timestamp with time zone, comments of a news item
+ * are indexed by date and "id" for sorting and keyset pagination, all comments - for the export by date.
  * The "news" field is annotated with @JsonIgnore to display correctly when serialized.
  *
  * @author Anton Salazhkov
  * @version 1.0
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "comment_news_id_date_id_idx", columnList = "news_id, date, id"),
+        @Index(name = "comment_date_id_idx", columnList = "date, id")})
 @Data
 @Builder
 @NoArgsConstructor
@@ -27,7 +35,9 @@ public class Comment {
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
-    private String date;
+    @JsonFormat(pattern = Dates.PATTERN)
+    @Column(columnDefinition = "timestamp with time zone")
+    private OffsetDateTime date;
 
     @Column(length = 2000)
     private String text;
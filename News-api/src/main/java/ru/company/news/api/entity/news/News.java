@@ -1,26 +1,48 @@
 package ru.company.news.api.entity.news;
 
+import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonView;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import ru.company.news.api.constant.Dates;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
 import ru.company.news.api.entity.View;
 import ru.company.news.api.entity.comment.Comment;
 
 import javax.persistence.*;
+import java.time.OffsetDateTime;
 import java.util.*;
 
 /**
  * Entity "News".
  * In entity, there is a @OneToMany relation to "Comment".
  * For the "text" field, the initial size has been increased to 2000 characters.
+ * The "date" field is stored as a timestamp with time zone and indexed together with "id"
+ * for sorting, range filtering and keyset pagination.
  * The @JsonView annotation determines the visibility of fields during serialization.
+ * The native full-text search query selects the summaries of the news for the feed, see {@link NewsSummaryResponse}.
  *
  * @author Anton Salazhkov
  * @version 1.0
  */
 @Entity
+@Table(indexes = @Index(name = "news_date_id_idx", columnList = "date, id"))
+@NamedNativeQuery(name = "News.getSummariesByFullText",
+        query = "select n.id, n.date, n.title, substring(n.text, 1, :length) as excerpt "
+                + "from news n, websearch_to_tsquery('russian', :query) q "
+                + "where n.search_vector @@ q and n.date >= :from and n.date < :to "
+                + "and (:fragment = '' or to_char(n.date, '" + Dates.SQL_PATTERN + "') like '%' || :fragment || '%') "
+                + "order by ts_rank(n.search_vector, q) desc, n.date desc, n.id "
+                + "limit :limit offset :offset",
+        resultSetMapping = "NewsSummaryResponse")
+@SqlResultSetMapping(name = "NewsSummaryResponse", classes = @ConstructorResult(
+        targetClass = NewsSummaryResponse.class, columns = {
+        @ColumnResult(name = "id", type = UUID.class),
+        @ColumnResult(name = "date", type = OffsetDateTime.class),
+        @ColumnResult(name = "title", type = String.class),
+        @ColumnResult(name = "excerpt", type = String.class)}))
 @Data
 @Builder
 @NoArgsConstructor
@@ -33,7 +55,9 @@ public class News {
     private UUID id;
 
     @JsonView(View.Public.class)
-    private String date;
+    @JsonFormat(pattern = Dates.PATTERN)
+    @Column(columnDefinition = "timestamp with time zone")
+    private OffsetDateTime date;
 
     @JsonView(View.Public.class)
     private String title;
@@ -0,0 +1,26 @@
+package ru.company.news.api.repository.comment;
+
+import ru.company.news.api.dto.comment.response.CommentExportResponse;
+
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for the export of entities "Comment".
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public interface CommentExportRepository {
+
+    /**
+     * Method for streaming the comments from the date, sorted by date, for the export.
+     * The rows are read with a forward-only cursor by "news-api.export.fetch-size" rows,
+     * the comments are selected without their news and are not attached to the persistence context.
+     * Must be called within a transaction, the stream must be closed.
+     *
+     * @param since Beginning of the date range, inclusive.
+     * @return stream of comments with the identifiers of their news.
+     */
+    Stream<CommentExportResponse> streamByDateSince(OffsetDateTime since);
+}
@@ -0,0 +1,37 @@
+package ru.company.news.api.repository.comment;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
+import ru.company.news.api.config.ExportProperties;
+import ru.company.news.api.dto.comment.response.CommentExportResponse;
+
+import javax.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the repository fragment for the export of entities "Comment",
+ * the fetch size is taken from the properties, so the query is built here instead of being declared.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public class CommentExportRepositoryImpl implements CommentExportRepository {
+
+    private final EntityManager entityManager;
+    private final ExportProperties exportProperties;
+
+    /**
+     * @see CommentExportRepository#streamByDateSince(OffsetDateTime)
+     */
+    @Override
+    public Stream<CommentExportResponse> streamByDateSince(OffsetDateTime since) {
+        return entityManager.createQuery("select new ru.company.news.api.dto.comment.response.CommentExportResponse("
+                        + "c.id, c.date, c.text, c.username, c.news.id) from Comment c "
+                        + "where c.date >= :since order by c.date asc, c.id asc", CommentExportResponse.class)
+                .setParameter("since", since)
+                .setHint(QueryHints.HINT_FETCH_SIZE, exportProperties.getFetchSize())
+                .getResultStream();
+    }
+}
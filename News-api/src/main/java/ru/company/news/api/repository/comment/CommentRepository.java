@@ -2,10 +2,18 @@ package ru.company.news.api.repository.comment;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.company.news.api.dto.comment.response.CommentDetailsResponse;
+import ru.company.news.api.dto.comment.response.CommentResponse;
 import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.entity.news.News;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -14,7 +22,7 @@ import java.util.UUID;
  * @author Anton Salazhkov
  * @version 1.0
  */
-public interface CommentRepository extends JpaRepository<Comment, UUID> {
+public interface CommentRepository extends JpaRepository<Comment, UUID>, CommentExportRepository {
 
     /**
      * Method for getting a list of comments on a news item.
@@ -22,7 +30,121 @@ public interface CommentRepository extends JpaRepository<Comment, UUID> {
      * @param news     The desired parameter.
      * @param pageable The page number being viewed.
      *                 May be missing.
-     * @return list of entities - comments.
+     * @return list of comments without their news.
      */
-    List<Comment> getByNews(News news, Pageable pageable);
+    @Query("select new ru.company.news.api.dto.comment.response.CommentResponse(c.id, c.date, c.text, c.username) "
+            + "from Comment c where c.news = :news")
+    List<CommentResponse> getByNews(@Param("news") News news, Pageable pageable);
+
+    /**
+     * Method for obtaining a page of comments on a news item following the position, for keyset pagination.
+     *
+     * @param newsId   UUID identifier of the news.
+     * @param date     Date of the position.
+     * @param id       UUID identifier of the position.
+     * @param pageable Page size, without sorting.
+     * @return list of comments without their news, with a greater date and identifier, sorted ascending.
+     */
+    @Query("select new ru.company.news.api.dto.comment.response.CommentResponse(c.id, c.date, c.text, c.username) "
+            + "from Comment c where c.news.id = :newsId and c.date >= :date and (c.date > :date or c.id > :id) "
+            + "order by c.date asc, c.id asc")
+    List<CommentResponse> getByNewsPageAfter(@Param("newsId") UUID newsId, @Param("date") OffsetDateTime date,
+                                             @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Method for obtaining a page of comments on a news item preceding the position, for keyset pagination.
+     *
+     * @param newsId   UUID identifier of the news.
+     * @param date     Date of the position.
+     * @param id       UUID identifier of the position.
+     * @param pageable Page size, without sorting.
+     * @return list of comments without their news, with a lesser date and identifier, sorted descending.
+     */
+    @Query("select new ru.company.news.api.dto.comment.response.CommentResponse(c.id, c.date, c.text, c.username) "
+            + "from Comment c where c.news.id = :newsId and c.date <= :date and (c.date < :date or c.id < :id) "
+            + "order by c.date desc, c.id desc")
+    List<CommentResponse> getByNewsPageBefore(@Param("newsId") UUID newsId, @Param("date") OffsetDateTime date,
+                                              @Param("id") UUID id, Pageable pageable);
+
+    /**
+     * Method for obtaining the identifiers of the news with the most comments.
+     *
+     * @param pageable Number of news.
+     * @return list of UUID identifiers of the news, sorted by the number of comments descending.
+     */
+    @Query("select c.news.id from Comment c group by c.news.id order by count(c) desc")
+    List<UUID> getMostCommentedNewsIds(Pageable pageable);
+
+    /**
+     * Method for obtaining a comment with the identifier of its news, without loading the news.
+     *
+     * @param id UUID identifier of the comment.
+     * @return comment, empty if there is no comment with the identifier.
+     */
+    @Query("select new ru.company.news.api.dto.comment.response.CommentDetailsResponse("
+            + "c.id, c.date, c.text, c.username, c.news.id) from Comment c where c.id = :id")
+    Optional<CommentDetailsResponse> getDetailsById(@Param("id") UUID id);
+
+    /**
+     * Method for obtaining several comments with one query, with the identifiers of their news.
+     *
+     * @param ids UUID identifiers of the comments.
+     * @return list of comments without their news, the missing identifiers are skipped.
+     */
+    @Query("select new ru.company.news.api.dto.comment.response.CommentDetailsResponse("
+            + "c.id, c.date, c.text, c.username, c.news.id) from Comment c where c.id in :ids")
+    List<CommentDetailsResponse> getDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Method for obtaining the identifier of the news of a comment, without loading the comment and the news.
+     *
+     * @param id UUID identifier of the comment.
+     * @return UUID identifier of the news, empty if there is no comment with the identifier.
+     */
+    @Query("select c.news.id from Comment c where c.id = :id")
+    Optional<UUID> getNewsIdById(@Param("id") UUID id);
+
+    /**
+     * Method for updating a comment with one statement, without loading it.
+     *
+     * @param id       UUID identifier of the comment.
+     * @param date     New date of the comment.
+     * @param text     New text of the comment.
+     * @param username New username of the comment.
+     * @return number of updated comments, 0 if there is no comment with the identifier.
+     */
+    @Modifying
+    @Query("update Comment c set c.date = :date, c.text = :text, c.username = :username where c.id = :id")
+    int updateById(@Param("id") UUID id, @Param("date") OffsetDateTime date,
+                   @Param("text") String text, @Param("username") String username);
+
+    /**
+     * Method for deleting a comment with one statement, without loading it.
+     *
+     * @param id UUID identifier of the comment.
+     * @return number of deleted comments, 0 if there is no comment with the identifier.
+     */
+    @Modifying
+    @Query("delete from Comment c where c.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    /**
+     * Method for deleting all comments of a news item with one statement, without loading them.
+     *
+     * @param newsId UUID identifier of the news.
+     * @return number of deleted comments.
+     */
+    @Modifying
+    @Query("delete from Comment c where c.news.id = :newsId")
+    int removeByNewsId(@Param("newsId") UUID newsId);
+
+    /**
+     * Method for deleting all comments of several news with one statement, without loading them.
+     *
+     * @param newsIds UUID identifiers of the news.
+     * @return number of deleted comments.
+     */
+    @Modifying
+    @Query("delete from Comment c where c.news.id in :newsIds")
+    int removeByNewsIdIn(@Param("newsIds") Collection<UUID> newsIds);
 }
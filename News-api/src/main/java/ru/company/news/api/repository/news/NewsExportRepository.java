@@ -0,0 +1,27 @@
+package ru.company.news.api.repository.news;
+
+import ru.company.news.api.dto.news.response.NewsResponse;
+
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for the export of entities "News".
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public interface NewsExportRepository {
+
+    /**
+     * Method for streaming the news from the date, sorted by date, for the export.
+     * The rows are read with a forward-only cursor by "news-api.export.fetch-size" rows,
+     * the news are selected without their comments and are not attached to the persistence context,
+     * so the memory does not grow with their number.
+     * Must be called within a transaction, the stream must be closed.
+     *
+     * @param since Beginning of the date range, inclusive.
+     * @return stream of news, no comment.
+     */
+    Stream<NewsResponse> streamByDateSince(OffsetDateTime since);
+}
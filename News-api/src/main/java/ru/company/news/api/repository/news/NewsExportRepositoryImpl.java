@@ -0,0 +1,37 @@
+package ru.company.news.api.repository.news;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.QueryHints;
+import ru.company.news.api.config.ExportProperties;
+import ru.company.news.api.dto.news.response.NewsResponse;
+
+import javax.persistence.EntityManager;
+import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the repository fragment for the export of entities "News",
+ * the fetch size is taken from the properties, so the query is built here instead of being declared.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@RequiredArgsConstructor
+public class NewsExportRepositoryImpl implements NewsExportRepository {
+
+    private final EntityManager entityManager;
+    private final ExportProperties exportProperties;
+
+    /**
+     * @see NewsExportRepository#streamByDateSince(OffsetDateTime)
+     */
+    @Override
+    public Stream<NewsResponse> streamByDateSince(OffsetDateTime since) {
+        return entityManager.createQuery("select new ru.company.news.api.dto.news.response.NewsResponse("
+                        + "n.id, n.date, n.title, n.text) from News n "
+                        + "where n.date >= :since order by n.date asc, n.id asc", NewsResponse.class)
+                .setParameter("since", since)
+                .setHint(QueryHints.HINT_FETCH_SIZE, exportProperties.getFetchSize())
+                .getResultStream();
+    }
+}
@@ -2,8 +2,16 @@ package ru.company.news.api.repository.news;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import ru.company.news.api.constant.Dates;
+import ru.company.news.api.dto.news.response.NewsResponse;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
 import ru.company.news.api.entity.news.News;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -13,21 +21,165 @@ import java.util.UUID;
  * @author Anton Salazhkov
  * @version 1.0
  */
-public interface NewsRepository extends JpaRepository<News, UUID> {
+public interface NewsRepository extends JpaRepository<News, UUID>, NewsExportRepository {
+
+    /**
+     * Method for obtaining a page of the news feed.
+     *
+     * @param length   Number of the first characters of the text in the excerpt.
+     * @param pageable The page number being viewed.
+     *                 May be missing.
+     * @return list of news summaries.
+     */
+    @Query("select new ru.company.news.api.dto.news.response.NewsSummaryResponse("
+            + "n.id, n.date, n.title, substring(n.text, 1, :length)) from News n")
+    List<NewsSummaryResponse> getSummaries(@Param("length") int length, Pageable pageable);
 
     /**
      * Method for obtaining a list of news by the received parameters.
      *
-     * @param userInputDate  User-specified parameter: date.
-     *                       Can be empty or have a partial match.
-     * @param userInputTitle User-supplied parameter: title.
-     *                       May be empty, partial match, or different case.
-     * @param userInputText  User-specified parameter: text.
-     *                       May be empty, partial match, or different case.
-     * @param pageable       The page number being viewed.
-     *                       May be missing.
-     * @return list of entities - news.
-     */
-    List<News> getByDateContainingAndTitleContainingIgnoreCaseAndTextContainingIgnoreCase(
-            String userInputDate, String userInputTitle, String userInputText, Pageable pageable);
+     * @param from     Beginning of the date range, inclusive.
+     * @param to       End of the date range, exclusive.
+     * @param fragment Fragment of the date in the "dd-MM-yyyy HH:mm" format, partial match.
+     *                 May be empty.
+     * @param title    User-supplied parameter: title.
+     *                 May be empty, partial match, or different case.
+     * @param text     User-specified parameter: text.
+     *                 May be empty, partial match, or different case.
+     * @param length   Number of the first characters of the text in the excerpt.
+     * @param pageable The page number being viewed.
+     *                 May be missing.
+     * @return list of news summaries.
+     */
+    @Query("select new ru.company.news.api.dto.news.response.NewsSummaryResponse("
+            + "n.id, n.date, n.title, substring(n.text, 1, :length)) from News n "
+            + "where n.date >= :from and n.date < :to "
+            + "and (:fragment = '' or function('to_char', n.date, '" + Dates.SQL_PATTERN + "') "
+            + "like concat('%', :fragment, '%')) "
+            + "and upper(n.title) like upper(concat('%', :#{escape(#title)}, '%')) escape :#{escapeCharacter()} "
+            + "and upper(n.text) like upper(concat('%', :#{escape(#text)}, '%')) escape :#{escapeCharacter()}")
+    List<NewsSummaryResponse> getSummariesBySubstring(@Param("from") OffsetDateTime from,
+                                                      @Param("to") OffsetDateTime to,
+                                                      @Param("fragment") String fragment,
+                                                      @Param("title") String title,
+                                                      @Param("text") String text,
+                                                      @Param("length") int length,
+                                                      Pageable pageable);
+
+    /**
+     * Method for full-text search of news by title and text, sorted by relevance.
+     * Uses the "search_vector" column and its GIN index, available only for PostgreSQL.
+     * The query is the named native query "News.getSummariesByFullText" of the entity.
+     *
+     * @param query    User-supplied search words, in the web search syntax.
+     * @param from     Beginning of the date range, inclusive.
+     * @param to       End of the date range, exclusive.
+     * @param fragment Fragment of the date in the "dd-MM-yyyy HH:mm" format, partial match.
+     *                 May be empty.
+     * @param length   Number of the first characters of the text in the excerpt.
+     * @param limit    Number of entities per page.
+     * @param offset   Number of skipped entities.
+     * @return list of news summaries.
+     */
+    @Query(name = "News.getSummariesByFullText", nativeQuery = true)
+    List<NewsSummaryResponse> getSummariesByFullText(@Param("query") String query,
+                                                     @Param("from") OffsetDateTime from,
+                                                     @Param("to") OffsetDateTime to,
+                                                     @Param("fragment") String fragment,
+                                                     @Param("length") int length,
+                                                     @Param("limit") int limit,
+                                                     @Param("offset") long offset);
+
+    /**
+     * Method for obtaining a page of news following the position, for keyset pagination.
+     *
+     * @param date     Date of the position.
+     * @param id       UUID identifier of the position.
+     * @param length   Number of the first characters of the text in the excerpt.
+     * @param pageable Page size, without sorting.
+     * @return list of news summaries, with a greater date and identifier, sorted ascending.
+     */
+    @Query("select new ru.company.news.api.dto.news.response.NewsSummaryResponse("
+            + "n.id, n.date, n.title, substring(n.text, 1, :length)) from News n "
+            + "where n.date >= :date and (n.date > :date or n.id > :id) order by n.date asc, n.id asc")
+    List<NewsSummaryResponse> getSummariesAfter(@Param("date") OffsetDateTime date, @Param("id") UUID id,
+                                                @Param("length") int length, Pageable pageable);
+
+    /**
+     * Method for obtaining a page of news preceding the position, for keyset pagination.
+     *
+     * @param date     Date of the position.
+     * @param id       UUID identifier of the position.
+     * @param length   Number of the first characters of the text in the excerpt.
+     * @param pageable Page size, without sorting.
+     * @return list of news summaries, with a lesser date and identifier, sorted descending.
+     */
+    @Query("select new ru.company.news.api.dto.news.response.NewsSummaryResponse("
+            + "n.id, n.date, n.title, substring(n.text, 1, :length)) from News n "
+            + "where n.date <= :date and (n.date < :date or n.id < :id) order by n.date desc, n.id desc")
+    List<NewsSummaryResponse> getSummariesBefore(@Param("date") OffsetDateTime date, @Param("id") UUID id,
+                                                 @Param("length") int length, Pageable pageable);
+
+    /**
+     * Method for obtaining the news by identifiers, without comments and without loading the entities.
+     *
+     * @param ids UUID identifiers of the news.
+     * @return list of news, the missing identifiers are skipped.
+     */
+    @Query("select new ru.company.news.api.dto.news.response.NewsResponse(n.id, n.date, n.title, n.text) "
+            + "from News n where n.id in :ids")
+    List<NewsResponse> getByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Method for counting the existing news among the identifiers, without loading them.
+     *
+     * @param ids UUID identifiers of the news.
+     * @return number of news with the identifiers.
+     */
+    long countByIdIn(Collection<UUID> ids);
+
+    /**
+     * Method for updating a news item with one statement, without loading it.
+     *
+     * @param id    UUID identifier of the news.
+     * @param date  New date of the news.
+     * @param title New title of the news.
+     * @param text  New text of the news.
+     * @return number of updated news, 0 if there is no news with the identifier.
+     */
+    @Modifying
+    @Query("update News n set n.date = :date, n.title = :title, n.text = :text where n.id = :id")
+    int updateById(@Param("id") UUID id, @Param("date") OffsetDateTime date,
+                   @Param("title") String title, @Param("text") String text);
+
+    /**
+     * Method for obtaining the identifiers of the existing news among the identifiers, without loading them.
+     *
+     * @param ids UUID identifiers of the news.
+     * @return list of UUID identifiers of the existing news.
+     */
+    @Query("select n.id from News n where n.id in :ids")
+    List<UUID> getIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Method for deleting a news item with one statement, without loading it and its comments.
+     * The comments of the news must be deleted before.
+     *
+     * @param id UUID identifier of the news.
+     * @return number of deleted news, 0 if there is no news with the identifier.
+     */
+    @Modifying
+    @Query("delete from News n where n.id = :id")
+    int removeById(@Param("id") UUID id);
+
+    /**
+     * Method for deleting news with one statement, without loading them and their comments.
+     * The comments of the news must be deleted before.
+     *
+     * @param ids UUID identifiers of the news.
+     * @return number of deleted news.
+     */
+    @Modifying
+    @Query("delete from News n where n.id in :ids")
+    int removeByIdIn(@Param("ids") Collection<UUID> ids);
 }
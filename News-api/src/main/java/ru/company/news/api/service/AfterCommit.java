@@ -0,0 +1,38 @@
+package ru.company.news.api.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Running of actions after the commit of the current transaction.
+ * Cache evictions done inside a transaction let a concurrent read cache the old committed rows again
+ * before the commit, so they are deferred until the changes are visible to other transactions.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * Method for running the action after the commit of the current transaction,
+     * the action is skipped if the transaction is rolled back.
+     * Outside a transaction the action is run right away.
+     *
+     * @param action action, for example a cache eviction.
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
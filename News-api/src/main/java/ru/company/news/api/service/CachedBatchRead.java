@@ -0,0 +1,45 @@
+package ru.company.news.api.service;
+
+import ru.company.news.api.config.GuavaCache;
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reading of several values by identifiers through a cache keyed by the identifier.
+ * The cached values are returned from the cache, all missing ones are loaded with one query
+ * and cached, concurrent reads of the same identifiers wait for the load in flight instead of repeating it.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class CachedBatchRead {
+
+    private CachedBatchRead() {
+    }
+
+    /**
+     * Method for reading the values in the order of the identifiers.
+     *
+     * @param cache  cache of the values by identifier.
+     * @param ids    UUID identifiers of the values, may repeat.
+     * @param loader query for the values with the given identifiers, the missing ones are skipped.
+     * @param id     identifier of the value.
+     * @param <T>    value type.
+     * @return results of reading each identifier, not found if there is no value with it.
+     */
+    public static <T> List<BatchReadResponse<T>> read(GuavaCache cache, List<UUID> ids,
+                                                      Function<Collection<UUID>, List<T>> loader,
+                                                      Function<T, UUID> id) {
+        Map<UUID, T> values = cache.getAll(ids, missingIds -> loader.apply(missingIds).stream()
+                .collect(Collectors.toMap(id, Function.identity())));
+        return ids.stream()
+                .map(valueId -> BatchReadResponse.of(valueId, values.get(valueId)))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,99 @@
+package ru.company.news.api.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import ru.company.news.api.dto.page.Cursor;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Keyset (seek) pagination over lists sorted by date and identifier.
+ * Instead of skipping rows with an offset, the page starts right after (or before) the cursor,
+ * which is executed as an index seek regardless of the page depth.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class KeysetPagination {
+
+    public static final String SORT_PROPERTY = "date";
+
+    /**
+     * Query for a page of entities following the given position.
+     *
+     * @param <T> entity type.
+     */
+    @FunctionalInterface
+    public interface Query<T> {
+
+        /**
+         * @param date     date of the position.
+         * @param id       UUID identifier of the position.
+         * @param pageable page size, without sorting.
+         * @return list of entities following the position.
+         */
+        List<T> get(OffsetDateTime date, UUID id, Pageable pageable);
+    }
+
+    /**
+     * Method for obtaining a page of entities after or before the cursor.
+     * The sort direction is taken from the "date" sort of the page parameters, ascending by default.
+     *
+     * @param after      cursor, the page starts after it.
+     *                   Takes precedence over {@code before}.
+     * @param before     cursor, the page ends before it.
+     * @param pageable   page size and sorting.
+     * @param ascending  query for entities with a greater date and identifier, sorted ascending.
+     * @param descending query for entities with a lesser date and identifier, sorted descending.
+     * @param <T>        entity type.
+     * @return list of entities in the requested sort direction.
+     * @throws UnsupportedSortException if the page is sorted by another property.
+     */
+    public static <T> List<T> getPage(Cursor after, Cursor before, Pageable pageable,
+                                      Query<T> ascending, Query<T> descending) {
+        requireSupported(pageable);
+        Pageable limit = PageRequest.of(0, pageable.getPageSize());
+        boolean ascendingSort = isAscending(pageable);
+        if (after != null) {
+            return (ascendingSort ? ascending : descending).get(after.getDate(), after.getId(), limit);
+        }
+        List<T> page = new ArrayList<>((ascendingSort ? descending : ascending).get(before.getDate(), before.getId(), limit));
+        Collections.reverse(page);
+        return page;
+    }
+
+    /**
+     * Method for checking that the page is sorted only by date, so that the cursor can be taken from it.
+     *
+     * @param pageable page size and sorting.
+     * @return true if the page is sorted by date or not sorted.
+     */
+    public static boolean isSupported(Pageable pageable) {
+        return pageable.getSort().stream().allMatch(order -> SORT_PROPERTY.equals(order.getProperty()));
+    }
+
+    /**
+     * Method for rejecting the pages sorted by another property than date, the cursor cannot follow their order.
+     *
+     * @param pageable page size and sorting.
+     * @throws UnsupportedSortException if the page is sorted by another property.
+     */
+    public static void requireSupported(Pageable pageable) {
+        pageable.getSort().stream()
+                .filter(order -> !SORT_PROPERTY.equals(order.getProperty()))
+                .findFirst()
+                .ifPresent(order -> {
+                    throw new UnsupportedSortException(order.getProperty());
+                });
+    }
+
+    private static boolean isAscending(Pageable pageable) {
+        Sort.Order order = pageable.getSort().getOrderFor(SORT_PROPERTY);
+        return order == null || order.isAscending();
+    }
+}
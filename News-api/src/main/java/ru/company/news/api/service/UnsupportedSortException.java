@@ -0,0 +1,18 @@
+package ru.company.news.api.service;
+
+/**
+ * Exception thrown when a page with keyset pagination is requested with a sort other than by date.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public class UnsupportedSortException extends RuntimeException {
+
+    /**
+     * @param property sort property of the request.
+     */
+    public UnsupportedSortException(String property) {
+        super(String.format("Unsupported sort %s with a cursor, the available sort: %s",
+                property, KeysetPagination.SORT_PROPERTY));
+    }
+}
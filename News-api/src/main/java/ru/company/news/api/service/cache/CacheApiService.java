@@ -0,0 +1,65 @@
+package ru.company.news.api.service.cache;
+
+import com.google.common.cache.CacheStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.company.news.api.config.CacheWarmUp;
+import ru.company.news.api.config.GuavaCache;
+import ru.company.news.api.config.GuavaCacheManager;
+import ru.company.news.api.dto.cache.response.CacheStatsResponse;
+import ru.company.news.api.dto.cache.response.CacheWarmUpResponse;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the cache monitoring service.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheApiService implements CacheService {
+
+    private final GuavaCacheManager cacheManager;
+    private final CacheWarmUp cacheWarmUp;
+
+    /**
+     * @see CacheService#getStats()
+     */
+    @Override
+    public List<CacheStatsResponse> getStats() {
+        return cacheManager.getCaches().stream()
+                .sorted(Comparator.comparing(GuavaCache::getName))
+                .map(this::buildCacheStatsResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @see CacheService#getWarmUp()
+     */
+    @Override
+    public CacheWarmUpResponse getWarmUp() {
+        return cacheWarmUp.getProgress();
+    }
+
+    private CacheStatsResponse buildCacheStatsResponse(GuavaCache cache) {
+        CacheStats stats = cache.getStats();
+        return CacheStatsResponse.builder()
+                .name(cache.getName())
+                .size(cache.getSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .loadCount(stats.loadCount())
+                .loadExceptionCount(stats.loadExceptionCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1))
+                .coalescedCount(cache.getCoalescedCount())
+                .loadTimeoutCount(cache.getLoadTimeoutCount())
+                .build();
+    }
+}
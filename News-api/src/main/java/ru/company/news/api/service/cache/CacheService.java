@@ -0,0 +1,29 @@
+package ru.company.news.api.service.cache;
+
+import ru.company.news.api.dto.cache.response.CacheStatsResponse;
+import ru.company.news.api.dto.cache.response.CacheWarmUpResponse;
+
+import java.util.List;
+
+/**
+ * Cache monitoring service.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public interface CacheService {
+
+    /**
+     * Method for getting the statistics of the caches.
+     *
+     * @return statistics of each cache: size, hits, misses, evictions, load time and coalesced calls.
+     */
+    List<CacheStatsResponse> getStats();
+
+    /**
+     * Method for getting the progress of filling the caches at startup.
+     *
+     * @return number of planned, loaded and failed entries and the duration of the warm-up.
+     */
+    CacheWarmUpResponse getWarmUp();
+}
@@ -1,22 +1,38 @@
 package ru.company.news.api.service.comment;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.company.news.api.config.CacheTag;
+import ru.company.news.api.config.GuavaCacheManager;
 import ru.company.news.api.constant.Messages;
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
 import ru.company.news.api.dto.comment.request.CreateCommentRequest;
 import ru.company.news.api.dto.comment.request.UpdateCommentRequest;
+import ru.company.news.api.dto.comment.response.CommentDetailsResponse;
+import ru.company.news.api.dto.comment.response.CommentExportResponse;
 import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.entity.news.News;
 import ru.company.news.api.repository.comment.CommentRepository;
 import ru.company.news.api.repository.news.NewsRepository;
+import ru.company.news.api.service.AfterCommit;
+import ru.company.news.api.service.CachedBatchRead;
+import ru.company.news.api.service.news.DateRange;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.OffsetDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the comment processing service.
@@ -30,63 +46,153 @@ public class CommentApiService implements CommentService {
 
     private final CommentRepository commentRepository;
     private final NewsRepository newsRepository;
+    private final GuavaCacheManager cacheManager;
 
     /**
      * Transactional method.
+     * The existence of the news is checked without loading it, the comment refers to the news by reference.
+     * Removes the cached details of the news of the comment.
      *
      * @see CommentService#createComment(CreateCommentRequest)
      */
     @Transactional
     @Override
+    @CacheEvict(cacheNames = "newsDetails", key = "T(ru.company.news.api.config.CacheTag).news(#createCommentRequest.idNews)")
     public Comment createComment(CreateCommentRequest createCommentRequest) {
-        News news = newsRepository.findById(createCommentRequest.getIdNews()).orElseThrow(() ->
-                new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
+        if (!newsRepository.existsById(createCommentRequest.getIdNews())) {
+            throw new EntityNotFoundException(Messages.ENTITY_NOT_FOUND);
+        }
+        News news = newsRepository.getReferenceById(createCommentRequest.getIdNews());
         Comment comment = buildComment(createCommentRequest, news);
         return commentRepository.save(comment);
     }
 
+    /**
+     * Transactional method.
+     * The existence of all news of the comments is checked with one query without loading them,
+     * the comments are inserted with JDBC batches of "hibernate.jdbc.batch_size" statements.
+     * The cached details of the news of the comments are removed after the commit,
+     * so that a concurrent read does not cache them again without the new comments.
+     *
+     * @see CommentService#createComment(List)
+     */
+    @Transactional
+    @Override
+    public List<Comment> createComment(List<CreateCommentRequest> createCommentRequests) {
+        Set<UUID> newsIds = createCommentRequests.stream()
+                .map(CreateCommentRequest::getIdNews)
+                .collect(Collectors.toSet());
+        if (newsRepository.countByIdIn(newsIds) != newsIds.size()) {
+            throw new EntityNotFoundException(Messages.ENTITY_NOT_FOUND);
+        }
+        List<Comment> comments = createCommentRequests.stream()
+                .map(request -> buildComment(request, newsRepository.getReferenceById(request.getIdNews())))
+                .collect(Collectors.toList());
+        List<Comment> savedComments = commentRepository.saveAll(comments);
+        AfterCommit.run(() -> newsIds.forEach(this::evictNewsDetails));
+        return savedComments;
+    }
+
     /**
      * Cacheable method.
+     * Only the columns of the comment are selected, its news is not joined.
      *
      * @see CommentService#readComment(UUID)
      */
     @Override
-    @Cacheable(cacheNames = "comment")
-    public Comment readComment(UUID id) {
-        return commentRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
+    @Cacheable(cacheNames = "comment", sync = true)
+    public CommentDetailsResponse readComment(UUID id) {
+        return commentRepository.getDetailsById(id).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
+    }
+
+    /**
+     * The cached comments are taken from the cache named "comment",
+     * the missing ones are read without their news in one query and cached.
+     *
+     * @see CommentService#readComment(List)
+     */
+    @Override
+    public List<BatchReadResponse<CommentDetailsResponse>> readComment(List<UUID> ids) {
+        return CachedBatchRead.read(cacheManager.getCache("comment"), ids,
+                commentRepository::getDetailsByIdIn, CommentDetailsResponse::getId);
     }
 
     /**
      * Transactional method.
-     * Removes an entity by key from the cache.
+     * Only the identifier of the news is read, the comment is updated with one statement,
+     * if no row is updated, the comment is not found.
+     * Removes an entity by key from the cache and the cached details of the news of the comment.
      *
      * @see CommentService#updateComment(UUID, UpdateCommentRequest)
      */
     @Transactional()
     @Override
-    @CacheEvict(cacheNames = "comment", key = "#id")
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "comment", key = "#id"),
+            @CacheEvict(cacheNames = "newsDetails", key = "T(ru.company.news.api.config.CacheTag).news(#result.news.id)")
+    })
     public Comment updateComment(UUID id, UpdateCommentRequest updateCommentRequest) {
-        Comment comment = commentRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
-        Comment newComment = buildUpdateComment(id, updateCommentRequest, comment.getNews());
-        return commentRepository.save(newComment);
+        UUID newsId = commentRepository.getNewsIdById(id).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
+        Comment comment = buildUpdateComment(id, updateCommentRequest, newsRepository.getReferenceById(newsId));
+        if (commentRepository.updateById(id, comment.getDate(), comment.getText(), comment.getUsername()) == 0) {
+            throw new EntityNotFoundException(Messages.ENTITY_NOT_FOUND);
+        }
+        return comment;
     }
 
     /**
-     * Removes all entities from the cache.
+     * Transactional method.
+     * Only the identifier of the news is read, the comment is deleted with one statement,
+     * if no row is deleted, the comment is not found.
+     * Removes an entity by key from the cache, the cached details of the news of the comment
+     * are removed after the commit, so that a concurrent read does not cache the deleted comment again.
      *
      * @see CommentService#deleteComment(UUID)
      */
+    @Transactional
     @Override
-    @CacheEvict(cacheNames = "comment", allEntries = true)
+    @CacheEvict(cacheNames = "comment", key = "#id")
     public UUID deleteComment(UUID id) {
-        commentRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
-        commentRepository.deleteById(id);
+        UUID newsId = commentRepository.getNewsIdById(id).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
+        if (commentRepository.removeById(id) == 0) {
+            throw new EntityNotFoundException(Messages.ENTITY_NOT_FOUND);
+        }
+        AfterCommit.run(() -> evictNewsDetails(newsId));
         return id;
     }
 
+    /**
+     * Read-only transactional method.
+     * The comments are read with a forward-only cursor and passed one by one,
+     * the memory does not depend on the number of comments.
+     *
+     * @see CommentService#exportComment(LocalDateTime, Consumer)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportComment(LocalDateTime since, Consumer<? super CommentExportResponse> consumer) {
+        try (Stream<CommentExportResponse> comments =
+                     commentRepository.streamByDateSince(DateRange.of("", since, null).getFrom())) {
+            long count = 0;
+            Iterator<CommentExportResponse> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private void evictNewsDetails(UUID newsId) {
+        Cache newsDetails = cacheManager.getCache("newsDetails");
+        if (newsDetails != null && newsId != null) {
+            newsDetails.evict(CacheTag.news(newsId));
+        }
+    }
+
     private Comment buildComment(CreateCommentRequest request, News news) {
         return Comment.builder()
-                .date(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")))
+                .date(OffsetDateTime.now())
                 .text(request.getText())
                 .username(request.getUsername())
                 .news(news)
@@ -96,7 +202,7 @@ public class CommentApiService implements CommentService {
     private Comment buildUpdateComment(UUID id, UpdateCommentRequest request, News news) {
         return Comment.builder()
                 .id(id)
-                .date(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")))
+                .date(OffsetDateTime.now())
                 .text(request.getText())
                 .username(request.getUsername())
                 .news(news)
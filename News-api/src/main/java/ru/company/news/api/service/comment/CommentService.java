@@ -1,10 +1,16 @@
 package ru.company.news.api.service.comment;
 
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
 import ru.company.news.api.dto.comment.request.CreateCommentRequest;
 import ru.company.news.api.dto.comment.request.UpdateCommentRequest;
+import ru.company.news.api.dto.comment.response.CommentDetailsResponse;
+import ru.company.news.api.dto.comment.response.CommentExportResponse;
 import ru.company.news.api.entity.comment.Comment;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Comment processing service.
@@ -22,13 +28,29 @@ public interface CommentService {
      */
     Comment createComment(CreateCommentRequest createCommentRequest);
 
+    /**
+     * Method for adding several comments in one transaction.
+     *
+     * @param createCommentRequests requests to add comments.
+     * @return entities - comments, in the order of the requests.
+     */
+    List<Comment> createComment(List<CreateCommentRequest> createCommentRequests);
+
     /**
      * Method for reading the details of a single comment.
      *
      * @param id UUID identifier of the entity - comment.
-     * @return entity - comment.
+     * @return comment with the identifier of its news.
      */
-    Comment readComment(UUID id);
+    CommentDetailsResponse readComment(UUID id);
+
+    /**
+     * Method for reading several comments by identifiers.
+     *
+     * @param ids UUID identifiers of the entities - comments, may repeat.
+     * @return results of reading in the order of the identifiers, not found for the missing comments.
+     */
+    List<BatchReadResponse<CommentDetailsResponse>> readComment(List<UUID> ids);
 
     /**
      * Comment update method.
@@ -46,4 +68,15 @@ public interface CommentService {
      * @return UUID identifier of the entity - comment.
      */
     UUID deleteComment(UUID id);
+
+    /**
+     * Method for exporting the comments with the identifiers of their news, sorted by date.
+     * The comments are passed to the consumer one by one as they are read, without being collected.
+     *
+     * @param since    beginning of the date range, inclusive.
+     *                 May be missing, all comments are exported.
+     * @param consumer consumer of each comment.
+     * @return number of exported comments.
+     */
+    long exportComment(LocalDateTime since, Consumer<? super CommentExportResponse> consumer);
 }
@@ -0,0 +1,40 @@
+package ru.company.news.api.service.log;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import ru.company.news.api.aop.AuditLog;
+import ru.company.news.api.config.SlowQueryLog;
+import ru.company.news.api.dto.log.response.AuditLogResponse;
+import ru.company.news.api.dto.log.response.SlowQueryResponse;
+
+import java.util.List;
+
+/**
+ * Implementation of the log monitoring service.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class LogApiService implements LogService {
+
+    private final AuditLog auditLog;
+    private final SlowQueryLog slowQueryLog;
+
+    /**
+     * @see LogService#getAudit()
+     */
+    @Override
+    public AuditLogResponse getAudit() {
+        return auditLog.getStats();
+    }
+
+    /**
+     * @see LogService#getSlowQueries()
+     */
+    @Override
+    public List<SlowQueryResponse> getSlowQueries() {
+        return slowQueryLog.getSlowQueries();
+    }
+}
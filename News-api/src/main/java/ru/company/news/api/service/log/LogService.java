@@ -0,0 +1,29 @@
+package ru.company.news.api.service.log;
+
+import ru.company.news.api.dto.log.response.AuditLogResponse;
+import ru.company.news.api.dto.log.response.SlowQueryResponse;
+
+import java.util.List;
+
+/**
+ * Log monitoring service.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+public interface LogService {
+
+    /**
+     * Method for getting the state of the asynchronous log of the controller and service calls.
+     *
+     * @return depth of the buffer, number of published, written and dropped messages.
+     */
+    AuditLogResponse getAudit();
+
+    /**
+     * Method for getting the slowest distinct statements executed longer than the threshold.
+     *
+     * @return statements with their execution times, bind values and plans, starting with the slowest.
+     */
+    List<SlowQueryResponse> getSlowQueries();
+}
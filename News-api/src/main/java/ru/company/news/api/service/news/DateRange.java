@@ -0,0 +1,104 @@
+package ru.company.news.api.service.news;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import ru.company.news.api.constant.Dates;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Date range for filtering news: "from" inclusive, "to" exclusive.
+ * Converts the legacy "date" parameter (a fragment of the "dd-MM-yyyy HH:mm" representation) into a range,
+ * so that the filter is executed as an index range scan instead of a "like" over the date column.
+ * Only a whole year, month, day, hour or minute is a range, other fragments, for example "05-10" or "17:24",
+ * are kept and matched as a substring of the formatted date, as before.
+ *
+ * @author Anton Salazhkov
+ * @version 1.0
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class DateRange {
+
+    private static final Pattern YEAR = Pattern.compile("\\d{4}");
+    private static final Pattern MONTH = Pattern.compile("\\d{2}-\\d{4}");
+    private static final Pattern DAY = Pattern.compile("\\d{2}-\\d{2}-\\d{4}");
+    private static final Pattern HOUR = Pattern.compile("\\d{2}-\\d{2}-\\d{4} \\d{2}");
+    private static final Pattern MINUTE = Pattern.compile("\\d{2}-\\d{2}-\\d{4} \\d{2}:\\d{2}");
+    private static final Pattern FRAGMENT = Pattern.compile("[\\d :-]{1," + Dates.PATTERN.length() + "}");
+
+    private final OffsetDateTime from;
+    private final OffsetDateTime to;
+    private final String fragment;
+
+    /**
+     * Method for composing a range from the legacy date parameter and explicit range boundaries.
+     *
+     * @param userInputDate User-specified parameter: date.
+     *                      Can be empty, a year "yyyy", a month "MM-yyyy", a day "dd-MM-yyyy",
+     *                      an hour "dd-MM-yyyy HH", a minute "dd-MM-yyyy HH:mm"
+     *                      or any other fragment of the "dd-MM-yyyy HH:mm" representation.
+     * @param from          beginning of the range, inclusive.
+     *                      May be missing.
+     * @param to            end of the range, exclusive.
+     *                      May be missing.
+     * @return intersection of the legacy date period and the explicit boundaries,
+     * with the fragment of the date if it is not a whole period.
+     * @throws DateTimeParseException if the date parameter is not a fragment of a date
+     *                                or is a whole period with invalid values.
+     */
+    public static DateRange of(String userInputDate, LocalDateTime from, LocalDateTime to) {
+        OffsetDateTime rangeFrom = Dates.MIN;
+        OffsetDateTime rangeTo = Dates.MAX;
+        String fragment = "";
+
+        if (userInputDate != null && !userInputDate.isBlank()) {
+            String date = userInputDate.trim();
+            ChronoUnit unit = null;
+            String fullDate = null;
+            if (YEAR.matcher(date).matches()) {
+                unit = ChronoUnit.YEARS;
+                fullDate = "01-01-" + date + " 00:00";
+            } else if (MONTH.matcher(date).matches()) {
+                unit = ChronoUnit.MONTHS;
+                fullDate = "01-" + date + " 00:00";
+            } else if (DAY.matcher(date).matches()) {
+                unit = ChronoUnit.DAYS;
+                fullDate = date + " 00:00";
+            } else if (HOUR.matcher(date).matches()) {
+                unit = ChronoUnit.HOURS;
+                fullDate = date + ":00";
+            } else if (MINUTE.matcher(date).matches()) {
+                unit = ChronoUnit.MINUTES;
+                fullDate = date;
+            } else if (FRAGMENT.matcher(date).matches()) {
+                fragment = date;
+            } else {
+                throw new DateTimeParseException("Unsupported date format, expected a part of " + Dates.PATTERN,
+                        date, 0);
+            }
+            if (unit != null) {
+                LocalDateTime start = LocalDateTime.parse(fullDate, Dates.FORMATTER);
+                rangeFrom = toOffsetDateTime(start);
+                rangeTo = toOffsetDateTime(start.plus(1, unit));
+            }
+        }
+        if (from != null && toOffsetDateTime(from).isAfter(rangeFrom)) {
+            rangeFrom = toOffsetDateTime(from);
+        }
+        if (to != null && toOffsetDateTime(to).isBefore(rangeTo)) {
+            rangeTo = toOffsetDateTime(to);
+        }
+        return new DateRange(rangeFrom, rangeTo, fragment);
+    }
+
+    private static OffsetDateTime toOffsetDateTime(LocalDateTime localDateTime) {
+        return localDateTime.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+}
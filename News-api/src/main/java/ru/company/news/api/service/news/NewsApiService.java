@@ -1,25 +1,44 @@
 package ru.company.news.api.service.news;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import ru.company.news.api.config.CacheTag;
+import ru.company.news.api.config.FeedProperties;
+import ru.company.news.api.config.FullTextSearch;
+import ru.company.news.api.config.GuavaCacheManager;
 import ru.company.news.api.constant.Messages;
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
+import ru.company.news.api.dto.comment.response.CommentResponse;
 import ru.company.news.api.dto.news.request.CreateNewsRequest;
+import ru.company.news.api.dto.news.request.SearchMode;
 import ru.company.news.api.dto.news.request.UpdateNewsRequest;
-import ru.company.news.api.entity.comment.Comment;
+import ru.company.news.api.dto.news.response.NewsDetailsResponse;
+import ru.company.news.api.dto.news.response.NewsResponse;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
+import ru.company.news.api.dto.page.Cursor;
 import ru.company.news.api.entity.news.News;
 import ru.company.news.api.repository.comment.CommentRepository;
 import ru.company.news.api.repository.news.NewsRepository;
+import ru.company.news.api.service.AfterCommit;
+import ru.company.news.api.service.CachedBatchRead;
+import ru.company.news.api.service.KeysetPagination;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.OffsetDateTime;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the news processing service.
@@ -31,100 +50,285 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class NewsApiService implements NewsService {
 
+    private static final String EXCERPT = "excerpt";
+    private static final String COMMENTS = "comments";
+
     private final CommentRepository commentRepository;
     private final NewsRepository newsRepository;
+    private final FullTextSearch fullTextSearch;
+    private final GuavaCacheManager cacheManager;
+    private final FeedProperties feedProperties;
+
+    /**
+     * Cacheable method.
+     * Only the summaries of the news are selected, with the excerpt of the text of the configured length.
+     * The requested fields are part of the cache key, without the excerpt it is selected empty.
+     *
+     * @see NewsService#getNews(Pageable, Set)
+     */
+    @Override
+    @Cacheable(cacheNames = "news", keyGenerator = "pageKeyGenerator", sync = true)
+    public List<NewsSummaryResponse> getNews(Pageable pageable, Set<String> fields) {
+        return newsRepository.getSummaries(getExcerptLength(fields), pageable);
+    }
 
     /**
      * Cacheable method.
+     * Only the summaries of the news are selected, with the excerpt of the text of the configured length.
+     * The requested fields are part of the cache key, without the excerpt it is selected empty.
      *
-     * @see NewsService#getNews(Pageable)
+     * @see NewsService#getNews(Cursor, Cursor, Pageable, Set)
      */
     @Override
-    @Cacheable(cacheNames = "news")
-    public List<News> getNews(Pageable pageable) {
-        return newsRepository.findAll(pageable).getContent();
+    @Cacheable(cacheNames = "news", keyGenerator = "pageKeyGenerator", sync = true)
+    public List<NewsSummaryResponse> getNews(Cursor after, Cursor before, Pageable pageable, Set<String> fields) {
+        int length = getExcerptLength(fields);
+        return KeysetPagination.getPage(after, before, pageable,
+                (date, id, limit) -> newsRepository.getSummariesAfter(date, id, length, limit),
+                (date, id, limit) -> newsRepository.getSummariesBefore(date, id, length, limit));
     }
 
     /**
      * Cacheable method.
+     * Full-text search is used if it is requested, available and there are words to search for,
+     * otherwise substring search.
+     * Only the summaries of the news are selected, with the excerpt of the text of the configured length.
+     * The requested fields are part of the cache key, without the excerpt it is selected empty.
      *
-     * @see NewsService#getNews(String, String, String, Pageable)
+     * @see NewsService#getNews(String, LocalDateTime, LocalDateTime, String, String, SearchMode, Pageable, Set)
      */
     @Override
-    @Cacheable(cacheNames = "news")
-    public List<News> getNews(String userInputDate, String userInputTitle, String userInputText, Pageable pageable) {
-        return newsRepository.getByDateContainingAndTitleContainingIgnoreCaseAndTextContainingIgnoreCase(
-                userInputDate, userInputTitle, userInputText, pageable);
+    @Cacheable(cacheNames = "news", keyGenerator = "pageKeyGenerator", sync = true)
+    public List<NewsSummaryResponse> getNews(String userInputDate, LocalDateTime from, LocalDateTime to,
+                                             String userInputTitle, String userInputText, SearchMode searchMode,
+                                             Pageable pageable, Set<String> fields) {
+        DateRange dateRange = DateRange.of(userInputDate, from, to);
+        int length = getExcerptLength(fields);
+        String query = String.join(" ", userInputTitle, userInputText).trim();
+        if (searchMode == SearchMode.FULL_TEXT && fullTextSearch.isAvailable() && !query.isEmpty()) {
+            return newsRepository.getSummariesByFullText(query, dateRange.getFrom(), dateRange.getTo(),
+                    dateRange.getFragment(), length, pageable.getPageSize(), pageable.getOffset());
+        }
+        return newsRepository.getSummariesBySubstring(dateRange.getFrom(), dateRange.getTo(), dateRange.getFragment(),
+                userInputTitle, userInputText, length, pageable);
     }
 
     /**
      * Transactional method.
-     * Removes all entities from the cache.
+     * Removes from the cache the pages into which the new news can get.
      *
      * @see NewsService#createNews(CreateNewsRequest)
      */
     @Transactional
     @Override
-    @CacheEvict(cacheNames = "news", allEntries = true)
+    @CacheEvict(cacheNames = "news", key = "T(ru.company.news.api.config.CacheTag).NEW_NEWS")
     public News createNews(CreateNewsRequest createNewsRequest) {
         News news = buildNews(createNewsRequest);
         return newsRepository.save(news);
     }
 
     /**
-     * @see NewsService#readNews(UUID, Pageable)
+     * Transactional method.
+     * The news are inserted with JDBC batches of "hibernate.jdbc.batch_size" statements.
+     * Removes from the cache the pages into which the new news can get.
+     *
+     * @see NewsService#createNews(List)
+     */
+    @Transactional
+    @Override
+    @CacheEvict(cacheNames = "news", key = "T(ru.company.news.api.config.CacheTag).NEW_NEWS")
+    public List<News> createNews(List<CreateNewsRequest> createNewsRequests) {
+        List<News> news = createNewsRequests.stream()
+                .map(this::buildNews)
+                .collect(Collectors.toList());
+        return newsRepository.saveAll(news);
+    }
+
+    /**
+     * Read-only transactional, cacheable method.
+     * Only the requested page of comments is loaded, the news and its comments share one persistence context,
+     * so the news is read with two queries.
+     * The requested fields are part of the cache key, without the comments the news is read with one query.
+     *
+     * @see NewsService#readNews(UUID, Pageable, Set)
      */
     @Override
-    public News readNews(UUID id, Pageable pageable) {
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "newsDetails", sync = true)
+    public NewsDetailsResponse readNews(UUID id, Pageable pageable, Set<String> fields) {
         News news = newsRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
-        List<Comment> commentsByPage = commentRepository.getByNews(news, pageable);
-        news.getComments().retainAll(commentsByPage);
-        return news;
+        List<CommentResponse> commentsByPage = isRequested(fields, COMMENTS)
+                ? commentRepository.getByNews(news, pageable)
+                : null;
+        return buildNewsDetailsResponse(news, commentsByPage);
+    }
+
+    /**
+     * Read-only transactional, cacheable method.
+     * Only the requested page of comments is loaded, the news is read with two queries.
+     * The requested fields are part of the cache key, without the comments the news is read with one query.
+     *
+     * @see NewsService#readNews(UUID, Cursor, Cursor, Pageable, Set)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = "newsDetails", sync = true)
+    public NewsDetailsResponse readNews(UUID id, Cursor after, Cursor before, Pageable pageable, Set<String> fields) {
+        News news = newsRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
+        List<CommentResponse> commentsByPage = null;
+        if (isRequested(fields, COMMENTS)) {
+            commentsByPage = KeysetPagination.getPage(after, before, pageable,
+                    (date, commentId, limit) -> commentRepository.getByNewsPageAfter(id, date, commentId, limit),
+                    (date, commentId, limit) -> commentRepository.getByNewsPageBefore(id, date, commentId, limit));
+        }
+        return buildNewsDetailsResponse(news, commentsByPage);
+    }
+
+    /**
+     * The cached news are taken from the cache named "newsById" by identifier,
+     * the missing ones are read with one query and cached, the comments are not loaded.
+     *
+     * @see NewsService#readNews(List)
+     */
+    @Override
+    public List<BatchReadResponse<NewsResponse>> readNews(List<UUID> ids) {
+        return CachedBatchRead.read(cacheManager.getCache("newsById"), ids,
+                newsRepository::getByIdIn, NewsResponse::getId);
     }
 
     /**
      * Transactional method.
-     * Removes all entities from the cache.
+     * The news is updated with one statement without being read, if no row is updated, the news is not found.
+     * Removes from the cache the pages containing the news,
+     * the pages into which it can get with the new date and the cached news and details of the news.
      *
      * @see NewsService#updateNews(UpdateNewsRequest)
      */
     @Transactional
     @Override
-    @CacheEvict(cacheNames = "news", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = "news", key = "T(ru.company.news.api.config.CacheTag).news(#updateNewsRequest.id)"),
+            @CacheEvict(cacheNames = "news", key = "T(ru.company.news.api.config.CacheTag).NEW_NEWS"),
+            @CacheEvict(cacheNames = "newsDetails", key = "T(ru.company.news.api.config.CacheTag).news(#updateNewsRequest.id)"),
+            @CacheEvict(cacheNames = "newsById", key = "T(ru.company.news.api.config.CacheTag).news(#updateNewsRequest.id)")
+    })
     public News updateNews(UpdateNewsRequest updateNewsRequest) {
-        newsRepository.findById(updateNewsRequest.getId()).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
         News news = buildUpdateNews(updateNewsRequest);
-        return newsRepository.save(news);
+        if (newsRepository.updateById(news.getId(), news.getDate(), news.getTitle(), news.getText()) == 0) {
+            throw new EntityNotFoundException(Messages.ENTITY_NOT_FOUND);
+        }
+        return news;
     }
 
     /**
-     * Removes all entities in the cache named "news" and "comment".
+     * Transactional method.
+     * The comments and the news are deleted with two set-based statements, without loading them,
+     * if no news is deleted, the news is not found.
+     * Removes from the caches named "news", "newsDetails", "newsById" and "comment"
+     * the pages containing the news, the news, its details and its comments.
      *
      * @see NewsService#deleteNews(UUID)
      */
+    @Transactional
     @Override
     @Caching(evict = {
-            @CacheEvict(cacheNames = "news", allEntries = true),
-            @CacheEvict(cacheNames = "comment", allEntries = true)
+            @CacheEvict(cacheNames = "news", key = "T(ru.company.news.api.config.CacheTag).news(#id)"),
+            @CacheEvict(cacheNames = "newsDetails", key = "T(ru.company.news.api.config.CacheTag).news(#id)"),
+            @CacheEvict(cacheNames = "newsById", key = "T(ru.company.news.api.config.CacheTag).news(#id)"),
+            @CacheEvict(cacheNames = "comment", key = "T(ru.company.news.api.config.CacheTag).news(#id)")
     })
     public UUID deleteNews(UUID id) {
-        newsRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Messages.ENTITY_NOT_FOUND));
-        newsRepository.deleteById(id);
+        commentRepository.removeByNewsId(id);
+        if (newsRepository.removeById(id) == 0) {
+            throw new EntityNotFoundException(Messages.ENTITY_NOT_FOUND);
+        }
         return id;
     }
 
+    /**
+     * Transactional method.
+     * The existing news are found by identifiers, their comments and the news are deleted
+     * with two set-based statements, without loading them.
+     * Removes from the caches named "news", "newsDetails", "newsById" and "comment"
+     * the pages containing the removed news, the news, their details and their comments after the commit,
+     * so that a concurrent read does not cache the deleted news again.
+     *
+     * @see NewsService#deleteNews(Set)
+     */
+    @Transactional
+    @Override
+    public List<UUID> deleteNews(Set<UUID> ids) {
+        List<UUID> existingIds = newsRepository.getIdsByIdIn(ids);
+        if (existingIds.isEmpty()) {
+            return existingIds;
+        }
+        commentRepository.removeByNewsIdIn(existingIds);
+        newsRepository.removeByIdIn(existingIds);
+        AfterCommit.run(() -> existingIds.forEach(id ->
+                evictNews(id, "news", "newsDetails", "newsById", "comment")));
+        return existingIds;
+    }
+
+    /**
+     * Read-only transactional method.
+     * The news are read with a forward-only cursor and passed one by one,
+     * the memory does not depend on the number of news.
+     *
+     * @see NewsService#exportNews(LocalDateTime, Consumer)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportNews(LocalDateTime since, Consumer<? super NewsResponse> consumer) {
+        try (Stream<NewsResponse> news = newsRepository.streamByDateSince(DateRange.of("", since, null).getFrom())) {
+            long count = 0;
+            Iterator<NewsResponse> iterator = news.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private int getExcerptLength(Set<String> fields) {
+        return isRequested(fields, EXCERPT) ? feedProperties.getExcerptLength() : 0;
+    }
+
+    private boolean isRequested(Set<String> fields, String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    private void evictNews(UUID id, String... cacheNames) {
+        for (String cacheName : cacheNames) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(CacheTag.news(id));
+            }
+        }
+    }
+
     private News buildNews(CreateNewsRequest request) {
         return News.builder()
-                .date(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")))
+                .date(OffsetDateTime.now())
                 .title(request.getTitle())
                 .text(request.getText())
                 .build();
     }
 
+    private NewsDetailsResponse buildNewsDetailsResponse(News news, List<CommentResponse> comments) {
+        return NewsDetailsResponse.builder()
+                .id(news.getId())
+                .date(news.getDate())
+                .title(news.getTitle())
+                .text(news.getText())
+                .comments(comments)
+                .build();
+    }
+
     private News buildUpdateNews(UpdateNewsRequest request) {
         return News.builder()
                 .id(request.getId())
-                .date(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")))
+                .date(OffsetDateTime.now())
                 .title(request.getTitle())
                 .text(request.getText())
                 .build();
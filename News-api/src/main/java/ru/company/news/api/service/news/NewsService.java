@@ -1,12 +1,22 @@
 package ru.company.news.api.service.news;
 
 import org.springframework.data.domain.Pageable;
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
 import ru.company.news.api.dto.news.request.CreateNewsRequest;
+import ru.company.news.api.dto.news.request.SearchMode;
 import ru.company.news.api.dto.news.request.UpdateNewsRequest;
+import ru.company.news.api.dto.news.response.NewsDetailsResponse;
+import ru.company.news.api.dto.news.response.NewsResponse;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
+import ru.company.news.api.dto.page.Cursor;
 import ru.company.news.api.entity.news.News;
+import ru.company.news.api.service.UnsupportedSortException;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * News processing service.
@@ -17,28 +27,56 @@ import java.util.UUID;
 public interface NewsService {
 
     /**
-     * Method for getting a list of news, no comments.
+     * Method for getting a list of news summaries for the news feed.
      *
      * @param pageable page number being viewed.
      *                 May be missing.
-     * @return list of entities - news, no comments.
+     * @param fields   requested fields of the summaries, without the excerpt the text is not read.
+     *                 May be missing, all fields are read.
+     * @return list of news summaries: identifier, date, title and excerpt of the text.
      */
-    List<News> getNews(Pageable pageable);
+    List<NewsSummaryResponse> getNews(Pageable pageable, Set<String> fields);
 
     /**
-     * Method for obtaining a list of news corresponding to the specified parameters, no comments.
+     * Method for getting a list of news summaries with keyset pagination.
+     *
+     * @param after    cursor, the page starts after it.
+     *                 Takes precedence over {@code before}.
+     * @param before   cursor, the page ends before it.
+     * @param pageable page size and sort direction by date.
+     * @param fields   requested fields of the summaries, without the excerpt the text is not read.
+     *                 May be missing, all fields are read.
+     * @return list of news summaries: identifier, date, title and excerpt of the text.
+     * @throws UnsupportedSortException if the news are sorted not by date.
+     */
+    List<NewsSummaryResponse> getNews(Cursor after, Cursor before, Pageable pageable, Set<String> fields);
+
+    /**
+     * Method for obtaining a list of news summaries corresponding to the specified parameters.
      *
      * @param userInputDate  User-specified parameter: date.
-     *                       Can be empty or have a partial match.
+     *                       Can be empty or contain a year, month, day, hour, minute or another part
+     *                       of the format "dd-MM-yyyy HH:mm", partial match.
+     * @param from           User-specified parameter: beginning of the date range, inclusive.
+     *                       May be missing.
+     * @param to             User-specified parameter: end of the date range, exclusive.
+     *                       May be missing.
      * @param userInputTitle User-supplied parameter: title.
      *                       May be empty, partial match, or different case.
      * @param userInputText  User-specified parameter: text.
      *                       May be empty, partial match, or different case.
+     * @param searchMode     search mode by title and text.
+     *                       In full-text mode, the words of title and text are searched together
+     *                       and the result is sorted by relevance.
      * @param pageable       page number being viewed.
      *                       May be missing.
-     * @return list of entities - news, no comments.
+     * @param fields         requested fields of the summaries, without the excerpt the text is not read.
+     *                       May be missing, all fields are read.
+     * @return list of news summaries: identifier, date, title and excerpt of the text.
      */
-    List<News> getNews(String userInputDate, String userInputTitle, String userInputText, Pageable pageable);
+    List<NewsSummaryResponse> getNews(String userInputDate, LocalDateTime from, LocalDateTime to,
+                                      String userInputTitle, String userInputText, SearchMode searchMode,
+                                      Pageable pageable, Set<String> fields);
 
     /**
      * Method for creating new news.
@@ -48,15 +86,48 @@ public interface NewsService {
      */
     News createNews(CreateNewsRequest createNewsRequest);
 
+    /**
+     * Method for creating several news in one transaction.
+     *
+     * @param createNewsRequests requests to create new news items.
+     * @return entities - news, no comment, in the order of the requests.
+     */
+    List<News> createNews(List<CreateNewsRequest> createNewsRequests);
+
     /**
      * Method of reading the details of one news item, with comments.
      *
      * @param id       UUID identifier of the entity - news.
      * @param pageable the number of the comment page being viewed.
      *                 May be missing.
-     * @return entity - news, with comments.
+     * @param fields   requested fields of the details, without the comments they are not read.
+     *                 May be missing, all fields are read.
+     * @return details of the news with the requested page of comments.
      */
-    News readNews(UUID id, Pageable pageable);
+    NewsDetailsResponse readNews(UUID id, Pageable pageable, Set<String> fields);
+
+    /**
+     * Method of reading the details of one news item, with comments with keyset pagination.
+     *
+     * @param id       UUID identifier of the entity - news.
+     * @param after    cursor, the comment page starts after it.
+     *                 Takes precedence over {@code before}.
+     * @param before   cursor, the comment page ends before it.
+     * @param pageable comment page size and sort direction by date.
+     * @param fields   requested fields of the details, without the comments they are not read.
+     *                 May be missing, all fields are read.
+     * @return details of the news with the requested page of comments.
+     * @throws UnsupportedSortException if the comments are sorted not by date.
+     */
+    NewsDetailsResponse readNews(UUID id, Cursor after, Cursor before, Pageable pageable, Set<String> fields);
+
+    /**
+     * Method of reading several news items by identifiers, without comments.
+     *
+     * @param ids UUID identifiers of the entities - news, may repeat.
+     * @return results of reading in the order of the identifiers, not found for the missing news.
+     */
+    List<BatchReadResponse<NewsResponse>> readNews(List<UUID> ids);
 
     /**
      * News update method.
@@ -73,4 +144,23 @@ public interface NewsService {
      * @return UUID identifier of the entity - news.
      */
     UUID deleteNews(UUID id);
+
+    /**
+     * Method for removing several news in one transaction, with all their comments.
+     *
+     * @param ids UUID identifiers of the entities - news.
+     * @return UUID identifiers of the removed news, the identifiers of missing news are skipped.
+     */
+    List<UUID> deleteNews(Set<UUID> ids);
+
+    /**
+     * Method for exporting the news, sorted by date.
+     * The news are passed to the consumer one by one as they are read, without being collected.
+     *
+     * @param since    beginning of the date range, inclusive.
+     *                 May be missing, all news are exported.
+     * @param consumer consumer of each news item, no comment.
+     * @return number of exported news.
+     */
+    long exportNews(LocalDateTime since, Consumer<? super NewsResponse> consumer);
 }
@@ -1,239 +1,239 @@
-insert into news (id, date, text, title) values ('31a65ca4-fea4-487a-abae-bfaa085b38a1','09-08-2022 17:24','В эти выходные в нашей стране прошли необычные соревнования. Футбол по всем правилам, но игра проходит не на идеальном зеленом газоне, а на торфяном поле. На торфяных полях сразились 25 команд со всех уголков Беларуси. Первое место заняла команда из Красносельска, второе — из Могилева, третье — из Витебска. С 2019 года этот турнир в Беларуси стали проводить ежегодно, причем на действующих торфяных полях. ','В Беларуси прошел турнир «Болотные игры».');
-insert into comment (id, date, text, username, news_id) values ('31f331b7-11f5-4f1c-9a55-fa0a15d93024','09-08-2022 17:34','Ничего себе это что-то новенькое!', 'Anton', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-insert into comment (id, date, text, username, news_id) values ('3446ac7a-7e33-45f0-9f85-a8635993d561','09-08-2022 18:34','Интересный турнир', 'Anton', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-insert into comment (id, date, text, username, news_id) values ('69cb8c8f-bec1-4767-9942-753340fca92e','09-08-2022 19:34','Не очень интересно для девушек.', 'Max', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-insert into comment (id, date, text, username, news_id) values ('b2d357f8-5ee0-4250-8f18-923a50c16ac2','09-08-2022 19:74','А мне понравился этот турнир.', 'Anton', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-insert into comment (id, date, text, username, news_id) values ('08b31f3c-c541-4c6a-ac4c-27e1a63e9d90','09-08-2022 20:34','Было интересно', 'Olga', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-insert into comment (id, date, text, username, news_id) values ('a0fa6c7e-aa9e-43d0-93a5-6b567e582218','09-08-2022 21:34','Скучновато', 'Sergei', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-insert into comment (id, date, text, username, news_id) values ('5e8ce545-44ce-4835-ba0e-ead5dca1e502','09-08-2022 21:37','Интересный турнир', 'Max', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-insert into comment (id, date, text, username, news_id) values ('a54c76e4-d5c6-4cdc-9f64-131327c3209f','09-08-2022 21:44','Придумали бы что-нибудь поинтереснее', 'Anton', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-insert into comment (id, date, text, username, news_id) values ('a8de3d50-510c-4800-a0ba-50569c339301','09-08-2022 22:34','Было круто', 'Dima', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-insert into comment (id, date, text, username, news_id) values ('a1f0fc37-bfbf-45ad-8b36-7e4c8547a9aa','09-08-2022 23:34','Хоть что-то новенькое', 'Sergei', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
-
-insert into news (id, date, text, title) values ('3cba9f15-569d-49c8-80ba-4e6a62fa34e9','09-08-2022 17:20','Группа ученых выявила в Китае новый вид генипавируса, которым уже заразились не менее 35 человек,сообщило китайское издание "Пэнпай".Исследование проводили китайские и сингапурские ученые, опубликовавшие статью в Медицинском журнале Новой Англии. В ней говорилось, что новый генипавирус получил название "Ланъя".Симптомы заражения новым вирусом включают в себя лихорадку, усталость, кашель, анорексию, миалгию, тошноту и рвоту. По словам ученых, "Ланъя" похож на вирус "Нипах", но до сих пор случаи заражения не были смертельными или очень серьезными.','Ученые из Китая и Сингапура выявили новый генипавирус');
-insert into comment (id, date, text, username, news_id) values ('61a908f1-aaff-4d41-a367-ff97742abd48','09-08-2022 17:34','Хорошо что выявили до того как пошло массовое заражение или ещё что.', 'Anton', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-insert into comment (id, date, text, username, news_id) values ('4f5cd4c5-bcd3-4842-9896-483a8043a690','09-08-2022 18:34','Не удивительно', 'Anton', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-insert into comment (id, date, text, username, news_id) values ('ef8a6e0f-c49d-4e06-8c7d-a280475b6829','09-08-2022 19:34','Не дай Бог никому этим не заразиться. Итак хватило короновируса .', 'Max', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-insert into comment (id, date, text, username, news_id) values ('1cd0d86e-27f9-4084-9b8b-15c13c89b8b5','09-08-2022 19:74','Кто придумывает название к вирусам?', 'Anton', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-insert into comment (id, date, text, username, news_id) values ('8f3319c3-bacf-446b-bb49-96118807cbd6','09-08-2022 20:34','А что нужно делать, чтобы не заразиться?', 'Olga', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-insert into comment (id, date, text, username, news_id) values ('aedf3aac-d119-4e71-bd33-08007468bc87','09-08-2022 21:34','И этому, похоже, нет конца!', 'Sergei', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-insert into comment (id, date, text, username, news_id) values ('c0e98df9-770e-4861-a42f-833d45a00135','09-08-2022 21:37','А вакцины есть?', 'Max', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-insert into comment (id, date, text, username, news_id) values ('2ff775e9-8477-46dc-90b6-2d671a809399','09-08-2022 21:44','Не хочу болеть', 'Anton', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-insert into comment (id, date, text, username, news_id) values ('720c4d55-c232-4bac-9984-d2fee3b87856','09-08-2022 22:34','А я только переболел', 'Dima', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-insert into comment (id, date, text, username, news_id) values ('89ed71bc-e744-451b-b58f-78019190b14b','09-08-2022 23:34','у меня хороший иммунитет', 'Sergei', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
-
-insert into news (id, date, text, title) values ('625a8ab1-ddd9-4736-878f-093225b42f0b','08-08-2022 17:24','В воскресенье, 7 августа 2022 года, на 95-м году жизни скончался участник первого в мире группового полета трех космических кораблей, дважды Герой Советского Союза, летчик-космонавт СССР Анатолий Филипченко. Свой первый космический полет Филипченко совершил в октябре 1969 года. В экипаж корабля "Союз-7", командиром которого назначили Филипченко, вошли также Владислав Волков и Виктор Горбатко. Одновременно в космосе находились корабли "Союз-6" и "Союз-8". Филипченко награжден двумя медалями "Золотая Звезда" Героя Советского Союза, двумя орденами Ленина, орденом Трудового Красного Знамени, а также различными орденами и другими госнаградами других стран.','Умер советский космонавт Анатолий Филипченко');
-insert into comment (id, date, text, username, news_id) values ('61a908f1-aaff-4d43-a367-ff97742abd48','09-08-2022 17:34','Вечная память', 'Anton', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-insert into comment (id, date, text, username, news_id) values ('4f5cd4c5-bcd3-4844-9896-483a8043a690','09-08-2022 18:34','Светлая память! Прожил насыщенную долгую жизнь!', 'Anton', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-insert into comment (id, date, text, username, news_id) values ('ef8a6e0f-c49d-4e05-8c7d-a280475b6829','09-08-2022 19:34','Мои соболезнования родным и близким.', 'Max', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-insert into comment (id, date, text, username, news_id) values ('1cd0d86e-27f9-4086-9b8b-15c13c89b8b5','09-08-2022 19:74','Соболезнования родным и близким. Светлая память.', 'Anton', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-insert into comment (id, date, text, username, news_id) values ('8f3319c3-bacf-4467-bb49-96118807cbd6','09-08-2022 20:34','Он очень многое сделал для нашей страны', 'Olga', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-insert into comment (id, date, text, username, news_id) values ('aedf3aac-d119-4e78-bd33-08007468bc87','09-08-2022 21:34','Мои соболезнования родным и близким.', 'Sergei', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-insert into comment (id, date, text, username, news_id) values ('c0e98df9-770e-4869-a42f-833d45a00135','09-08-2022 21:37','Умерла настоящая легенда.', 'Max', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-insert into comment (id, date, text, username, news_id) values ('2ff775e9-8477-461c-90b6-2d671a809399','09-08-2022 21:44','Он очень многое сделал для нашей страны', 'Anton', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-insert into comment (id, date, text, username, news_id) values ('720c4d55-c232-4b2c-9984-d2fee3b87856','09-08-2022 22:34','Вечная память великому человеку , вклад в развитие человечества просто неизмерим.', 'Dima', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-insert into comment (id, date, text, username, news_id) values ('89ed71bc-e744-453b-b58f-78019190b14b','09-08-2022 23:34','Мои соболезнования родным и близким.', 'Sergei', '625a8ab1-ddd9-4736-878f-093225b42f0b');
-
-insert into news (id, date, text, title) values ('1e710136-d574-4f40-a86e-9cafeabfacb6','07-08-2022 17:24','Российская теннисистка Дарья Касаткина победила американку Шелби Роджерс в финале турнира категории WTA 500 в американском Сан-Хосе, призовой фонд которого превышает 750 тысяч долларов.Встреча завершилась со счетом 6:7 (2:7), 6:1, 6:2 в пользу россиянки, имевшей на турнире седьмой номер посева. Теннисистки провели на корте 2 часа 32 минуты.Благодаря этой победе Касаткина поднимется на девятое место мирового рейтинга и третье место в чемпионской гонке Женской теннисной ассоциации (WTA).Для спортсменки этот трофей стал первым в сезоне: она сражалась за титул год назад также на турнире в Сан-Хосе, но уступила в решающей встрече американке Даниэль Коллинз. Теперь на ее счету пять титулов на турнирах WTA.','Касаткина выиграла теннисный турнир в американском Сан-Хосе');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff97742abd48','09-08-2022 17:34','Молодец', 'Anton', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-483a8043a690','09-08-2022 18:34','Красавица!! Представляю, как сложно ей было, все таки влияние общественности тоже играет роль, заслужила победы!', 'Anton', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a280475b6829','09-08-2022 19:34','Ой так бы смогда любая теннисистка', 'Max', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c13c89b8b5','09-08-2022 19:74','Молодец,справилась.', 'Anton', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96118807cbd6','09-08-2022 20:34','Могла бы и получше', 'Olga', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08007468bc87','09-08-2022 21:34','Красавица спортсменка', 'Sergei', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833d45a00135','09-08-2022 21:37','Я бы тоже так смогла', 'Max', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d671a809399','09-08-2022 21:44','Поздравляю,молодец', 'Anton', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2fee3b87856','09-08-2022 22:34','Уделала всех', 'Dima', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78019190b14b','09-08-2022 23:34','Молодец!!! Поздравляем!! Так держать!!!', 'Sergei', '1e710136-d574-4f40-a86e-9cafeabfacb6');
-
-insert into news (id, date, text, title) values ('33717646-214d-49cd-a6a0-f90b17c886fb','06-08-2022 17:24','В Приамурье, где из-за ливней затопило несколько районов, ввели региональный режим чрезвычайной ситуации. Резкий подъем воды и подтопление домов наблюдаются в городе Тында, Сковородинском и  Тындинском округе. С подтопленных территорий эвакуировали 158 человек, из них 49 детей. В минувшие выходные режим ЧС ввели в Тынде, Тындинском округе, Сковородинском, Зейском и Магдагачинском районах. Самая сложная обстановка сохраняется в селе Ивановка Зейского района-  там уровень воды в реке Правый Уркан превысил отметку опасного гидрологического явления, подтоплены 77 домов и 130 приусадебных участков.','В Приамурье из-за подтоплений ввели режим ЧС');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd11','09-08-2022 17:34','Перед стихией никто не властен. Сил и терпения жителям', 'Anton', '33717646-214d-49cd-a6a0-f90b17c886fb');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a612','09-08-2022 18:34','Увы, 70% территорий России - зоны непредсказуемых погодных явлений', 'Anton', '33717646-214d-49cd-a6a0-f90b17c886fb');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6813','09-08-2022 19:34','Природные явления огонь и вода самые страшные по-моему!', 'Maxim', '33717646-214d-49cd-a6a0-f90b17c886fb');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b814','09-08-2022 19:74','Вот что бывает, когда лес бесконтрольно вырубается!', 'Anton', '33717646-214d-49cd-a6a0-f90b17c886fb');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb15','09-08-2022 20:34','Всем терпения и удачи.Всё наладится, дожди пройдут, вода сойдёт.', 'Irina', '33717646-214d-49cd-a6a0-f90b17c886fb');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc16','09-08-2022 21:34','Ну вот и курорт у каждого в дворе)', 'Denis', '33717646-214d-49cd-a6a0-f90b17c886fb');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00117','09-08-2022 21:37','Природа бушует!', 'Maxim', '33717646-214d-49cd-a6a0-f90b17c886fb');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809318','09-08-2022 21:44','Бедные жители', 'Anton', '33717646-214d-49cd-a6a0-f90b17c886fb');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87819','09-08-2022 22:34','Нам бы такие дожди', 'Vadim', '33717646-214d-49cd-a6a0-f90b17c886fb');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b120','09-08-2022 23:34','Природа,ничего не поделаешь', 'Denis', '33717646-214d-49cd-a6a0-f90b17c886fb');
-
-insert into news (id, date, text, title) values ('7c734526-523e-4186-99bd-1530abb4e23a','05-08-2022 17:24','Обнаружены тела трех пропавших в коллекторе на юго-востоке Москвы. Власти Москвы ранее сообщили, что в районе Люблино 13 рабочих, которые чистили водосток, оказались в шахте во время "сверхсильного" ливня и некоторых унесло потоками воды: пять человек поднялись из коллектора самостоятельно, пятерых подняли спасатели, еще три человека пропали. Ранее прокуратура Москвы сообщила, что одного из них нашли погибшим. Сначала было обнаружено тело одного потерпевшего, потом двоих.В правоохранительных органах пояснили, что двое погибших - граждане Киргизии, один - из Таджикистана.','В Москве нашли тела всех трех рабочих, пропавших в коллекторе в Люблино');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd21','09-08-2022 17:34','А кто им выдал наряд на работу-прогноз погоды не видел?', 'Anton', '7c734526-523e-4186-99bd-1530abb4e23a');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a622','09-08-2022 18:34','Бедняги. Действительно, жаль!', 'Anton', '7c734526-523e-4186-99bd-1530abb4e23a');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6823','09-08-2022 19:34','Ужас, жаль людей очень...', 'Maxim', '7c734526-523e-4186-99bd-1530abb4e23a');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b824','09-08-2022 19:74','Сил родным и близким. Мои соболезнования.', 'Anton', '7c734526-523e-4186-99bd-1530abb4e23a');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb25','09-08-2022 20:34','Надеюсь, виновные понесут наказание.', 'Irina', '7c734526-523e-4186-99bd-1530abb4e23a');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc26','09-08-2022 21:34','Бедные люди,они на заработок ехали ,а дома не дождутся их', 'Denis', '7c734526-523e-4186-99bd-1530abb4e23a');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00127','09-08-2022 21:37','Очень жаль, соболезнования родным', 'Maxim', '7c734526-523e-4186-99bd-1530abb4e23a');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809328','09-08-2022 21:44','Скорей всего нарушение ТБ и привело к жертвам. Жаль ребят.', 'Anton', '7c734526-523e-4186-99bd-1530abb4e23a');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87829','09-08-2022 22:34','Очень жаль.., такая страшная смерть.., сил близким. Виновных надо наказать.', 'Vadim', '7c734526-523e-4186-99bd-1530abb4e23a');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b130','09-08-2022 23:34','Очень жаль. Была небольшая надежда, но увы.', 'Denis', '7c734526-523e-4186-99bd-1530abb4e23a');
-
-insert into news (id, date, text, title) values ('56dc6519-4346-4021-bbe4-774a41ff89c0','04-08-2022 17:24','МИД РФ и профильные службы находятся в постоянном контакте с Кубой для координации возможных действий в связи с пожаром на нефтехранилище. Сильный пожар начался на кубинском нефтехранилище в порту провинции Матансас в пятницу вечером после удара молнии в купол резервуара, в котором находилось около 25 тысяч кубометров нефти. Несмотря на безостановочную работу пожарных расчетов, пламя перекинулось и на соседний резервуар, произошла серия взрывов. Пропавшими без вести числятся 17 человек. Для помощи в тушении огня на Кубу прибыли самолеты и вертолеты, а также специалисты из Мексики и Венесуэлы.','Россия и Куба находятся в контакте по вопросам пожара на нефтехранилище');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd31','09-08-2022 17:34','Молниеотводы обязательны к установке.', 'Anton', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a632','09-08-2022 18:34','Ну это не просто так горит', 'Anton', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6833','09-08-2022 19:34','Жалко людей,ужас', 'Maxim', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b834','09-08-2022 19:74','Поможем, чем сможем', 'Anton', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb35','09-08-2022 20:34','С Кубой нужно строить крепкие стратегические отношения,', 'Irina', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc36','09-08-2022 21:34','Жалко людей,ужас', 'Denis', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00137','09-08-2022 21:37','Халатность', 'Maxim', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809338','09-08-2022 21:44','Мы поможем нашему партнеру', 'Anton', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87839','09-08-2022 22:34','Пренебрежение безопасности', 'Vadim', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b140','09-08-2022 23:34','Не все выполняют свою работу качественно, и кто-то решает пренебречь правилами безопасности', 'Denis', '56dc6519-4346-4021-bbe4-774a41ff89c0');
-
-insert into news (id, date, text, title) values ('a6c2d8b9-32cf-4059-af72-0de0f9e49ae1','03-08-2022 17:24','Палестинская группировка "Исламский джихад" подтвердила заключение перемирия с Израилем при посредничестве Египта. По данным издания, представитель группировки Мохаммед аль-Хинди заявил, что "некоторое время назад" стороны достигли договоренности по поводу деталей соглашения. Армия Израиля 5 августа начала операцию против группировки "Исламский джихад" в секторе Газа. Израильские военные наносят удары по целям в анклаве, в приграничных районах страны и в некоторых центральных городах звучат сирены воздушной тревоги. Как сообщил Минздрав сектора Газа, по последним данным, в результате обстрелов погиб как минимум 41 человек, около 311 получили ранения.','Группировка "Исламский джихад" подтвердила заключение перемирия с Израилем');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd41','09-08-2022 17:34','Постреляли и разошлись', 'Anton', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a642','09-08-2022 18:34','....а шуму то было', 'Anton', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6843','09-08-2022 19:34','Надолго?', 'Maxim', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b844','09-08-2022 19:74','Кто бы сомневался', 'Anton', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb45','09-08-2022 20:34','Мир всегда хорошо', 'Irina', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc46','09-08-2022 21:34','Хорошая новость', 'Denis', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00147','09-08-2022 21:37','Постреляли и разошлись', 'Maxim', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809348','09-08-2022 21:44','А шуму то было', 'Anton', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87849','09-08-2022 22:34','Эта хорошая новость', 'Vadim', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b150','09-08-2022 23:34','Мир всегда хорошо', 'Denis', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
-
-insert into news (id, date, text, title) values ('f956c783-d969-4bc8-8f33-ef6c5761b141','03-08-2022 14:24','За семь месяцев этого года товарооборот между Россией и Китаем вырос на 29 процентов и составил 97,71 миллиарда долларов. Так, Китай ввез в Россию товаров на 36,26 миллиарда долларов — на 5,2 процента больше, чем за тот же период прошлого года. Поставки из России в Китай увеличились на 48,8 процента — до 61,44 миллиарда долларов. При этом товарооборот только за июнь оценивается в 16,79 миллиарда долларов: 10,02 миллиарда — экспорт из России, 6,77 миллиарда — китайский импорт. В 2021 году российско-китайский товарооборот вырос на 35,8 процента, до рекордных 146,89 миллиарда.','Товарооборот России и Китая за семь месяцев вырос почти на треть');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd51','09-08-2022 17:34','Между Россией и Китаем отличные отношения ', 'Anton', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a652','09-08-2022 18:34','Ожидаемо', 'Anton', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6853','09-08-2022 19:34','Замечательный союз', 'Maxim', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b854','09-08-2022 19:74','Товарооборот между этими странами будет только расти.', 'Anton', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb55','09-08-2022 20:34','Отлично', 'Irina', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc56','09-08-2022 21:34','Это хорошая новость', 'Denis', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00157','09-08-2022 21:37','Ожидаемо', 'Maxim', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809358','09-08-2022 21:44','Замечательный союз', 'Anton', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87859','09-08-2022 22:34','Товарооборот между этими странами будет только расти.', 'Vadim', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b160','09-08-2022 23:34','Между Россией и Китаем отличные отношения ', 'Denis', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
-
-insert into news (id, date, text, title) values ('c3164619-033f-4722-9366-17fcded892ed','01-08-2022 17:24','Самый длинный в Китае деревянный арочный мост, чья история насчитывает более 900 лет, обрушился в результате пожара в китайской восточной провинции Фуцзянь. Как отмечается в сообщении, пожар на мосту Ваньань, который находился в уезде Пиннань  начался в субботу вечером, в 22.45 по местному времени (17.45 мск) пожар был потушен."В настоящее время мост сгорел и обрушился, никто не пострадал", - говорится в сообщении. Китайское издание Global Times отмечало, что мост Ваньань являлся самым длинным деревянным арочным мостом в Китае (98,2 метра). Издание со ссылкой на эксперта по древней архитектуре из Пекинского университета в воскресенье также сообщило, что вероятной причиной возгорания моста является человеческий фактор.','В Китае обрушился деревянный мост, которому было более девятисот лет');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd61','09-08-2022 17:34','Жалко', 'Anton', 'c3164619-033f-4722-9366-17fcded892ed');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a662','09-08-2022 18:34','Последние лет 50 могли использовать какие-то крутые пропитки чтоб не гнило', 'Anton', 'c3164619-033f-4722-9366-17fcded892ed');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6863','09-08-2022 19:34','Странный пожар. Наверное спалил кто то.', 'Maxim', 'c3164619-033f-4722-9366-17fcded892ed');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b864','09-08-2022 19:74','Надо восстанавливать', 'Anton', 'c3164619-033f-4722-9366-17fcded892ed');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb65','09-08-2022 20:34','Как жаль. Но уверен, китайцы не будут китайцами, если не восстановят мост', 'Irina', 'c3164619-033f-4722-9366-17fcded892ed');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc66','09-08-2022 21:34','Поразительная равномерность горения по всей длине.Не иначе поджог.', 'Denis', 'c3164619-033f-4722-9366-17fcded892ed');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00167','09-08-2022 21:37','Очень жаль', 'Maxim', 'c3164619-033f-4722-9366-17fcded892ed');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809368','09-08-2022 21:44','могли использовать какие-то крутые пропитки чтоб не гнило', 'Anton', 'c3164619-033f-4722-9366-17fcded892ed');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87869','09-08-2022 22:34','Надо восстанавливать', 'Vadim', 'c3164619-033f-4722-9366-17fcded892ed');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b170','09-08-2022 23:34','Странный пожар. Наверное спалил кто то.', 'Denis', 'c3164619-033f-4722-9366-17fcded892ed');
-
-insert into news (id, date, text, title) values ('01a18ac9-2f09-4c17-b8be-9e388efcb46c','11-08-2022 17:24','Ученые ТПУ придумали, как отказаться от использования лабораторных животных при доклинических исследованиях в области лучевой терапии онкозаболеваний. Они разработали дозиметрический фантом — трехмерные модели лабораторной крысы и мыши, которые могут полностью заменить их на некоторых этапах. Для внедрения новых методов лучевой терапии необходимо проводить много опытов на мелких лабораторных животных — мышах и крысах. Однако использование животных в лабораторных целях неразрывно связано с этическими проблемами. Кроме того, их покупка, содержание и утилизация требуют значительных затрат. Для того чтобы сократить использование лабораторных животных в экспериментах, ученые Томского политехнического университета (ТПУ) предлагают применять фантомы — искусственные копии в натуральный размер.','В России создали фантомы лабораторных животных');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd71','09-08-2022 17:34','Наши ученые молодцы', 'Anton', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a672','09-08-2022 18:34','Вот это я понимаю стремительное развитие науки', 'Anton', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6873','09-08-2022 19:34','Давно пора. Сколько животных жестоко замучали этими экспериментами.', 'Maxim', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b874','09-08-2022 19:74','Ну вот, очень круто, что животных меньше смогут подвергать лабораторным испытаниям', 'Anton', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb75','09-08-2022 20:34','Я правда очень рад , что у нас в стране делают все , чтобы больше ничего не тестировать на животных !', 'Irina', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc76','09-08-2022 21:34','Ну вот, очень круто, что животных меньше смогут подвергать лабораторным испытаниям', 'Denis', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00177','09-08-2022 21:37','Давно пора', 'Maxim', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809378','09-08-2022 21:44','Сколько животных жестоко замучали этими экспериментами.', 'Anton', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87879','09-08-2022 22:34','У России отличные технологии', 'Vadim', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b180','09-08-2022 23:34','Наука в России никогда не стояла на месте', 'Denis', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
-
-insert into news (id, date, text, title) values ('db2ff36b-3eb9-4895-aadf-b064a009581e','12-08-2022 17:24','В России прошла масштабная проверка, в рамках которой были пересмотрены тысячи незаконных отказов в социальных выплатах на детей. Ведомство проверило деятельность отделения Пенсионного фонда в Краснодарском крае, жители которого в мае не смогли получить ежемесячные выплаты на детей в возрасте от восьми до 17 лет. В качестве причины отказа указывалось, что доход обращавшихся семей превышает краевой прожиточный минимум на душу населения. Прокуроры, в свою очередь, установили, что региональное отделение ПФР из-за технической ошибки в автоматическом расчете дважды учитывало суммы получаемых семьями социальных пенсий, поэтому доход семей был необоснованно завышен. Отмечается, что в результате проверки удалось вскрыть более тысячи неправомерных решений, трех сотрудников отделения фонда привлекли к административной ответственности.','Генпрокуратура пересмотрела тысячи незаконных отказов в детских соцвыплатах');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd81','09-08-2022 17:34','Кто наказан?!!!', 'Anton', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a682','09-08-2022 18:34','Удивительно!', 'Anton', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6883','09-08-2022 19:34','Да с этими выплатами ужас какой-то', 'Maxim', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b884','09-08-2022 19:74','Хорошо что прокуратура работает, надеюсь справедливость будет торжествовать', 'Anton', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb85','09-08-2022 20:34','Печально это все', 'Irina', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc86','09-08-2022 21:34','Мне не верится', 'Denis', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00187','09-08-2022 21:37','Надеюсь справедливость будет торжествовать !', 'Maxim', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809388','09-08-2022 21:44','Констатировали сбой в системе.', 'Anton', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87889','09-08-2022 22:34','Найдут тысяча причин', 'Vadim', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b190','09-08-2022 23:34','Мне не верится,что они что-то пересмотрят', 'Denis', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
-
-insert into news (id, date, text, title) values ('0218982f-7423-4f66-9718-733168f7be53','13-08-2022 17:24','Госинспекторы нацпарка "Земля леопарда" в Приморье отловили недалеко от границы охраняемой территории истощенного четырехмесячного детеныша редчайшего дальневосточного леопарда, оставшегося без матери, сообщает учреждение. Котенка отвезли в центр реабилитации амурских тигров и других редких животных (МРОО "Центр "Тигр"). Ветеринары установили, что вес леопарда всего 4,5 килограмма — как у домашней кошки. На теле обнаружены небольшие раны, в том числе зараженные паразитами. После обработки ран и внутривенных вливаний для борьбы с обезвоживанием котенка поместили в специальный карантинный блок. Сейчас животное чувствует себя лучше, быстро набирает вес. ','Инспекторы нацпарка "Земля леопарда" спасли истощенного котенка дальневосточного леопарда');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd91','09-08-2022 17:34','Здоровья котёнку!', 'Anton', '0218982f-7423-4f66-9718-733168f7be53');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a692','09-08-2022 18:34','Какая лапочка. Уважение и благодарность спасателям', 'Anton', '0218982f-7423-4f66-9718-733168f7be53');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6893','09-08-2022 19:34','Одни убивают, другие спасают', 'Maxim', '0218982f-7423-4f66-9718-733168f7be53');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b894','09-08-2022 19:74','Молодцы', 'Anton', '0218982f-7423-4f66-9718-733168f7be53');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb95','09-08-2022 20:34','Кроха совсем, а как правильно на людей реагирует. Хищник', 'Irina', '0218982f-7423-4f66-9718-733168f7be53');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc96','09-08-2022 21:34','Здоровья котёнку!', 'Denis', '0218982f-7423-4f66-9718-733168f7be53');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a0019a','09-08-2022 21:37','Кроха совсем, а как правильно на людей реагирует. Хищник', 'Maxim', '0218982f-7423-4f66-9718-733168f7be53');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809397','09-08-2022 21:44','Одни убивают, другие спасают', 'Anton', '0218982f-7423-4f66-9718-733168f7be53');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87898','09-08-2022 22:34','Какая лапочка. Уважение и благодарность спасателям', 'Vadim', '0218982f-7423-4f66-9718-733168f7be53');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b199','09-08-2022 23:34','Здоровья котёнку!', 'Denis', '0218982f-7423-4f66-9718-733168f7be53');
-
-insert into news (id, date, text, title) values ('2240b4e2-dd63-4544-866c-946cd634d263','14-08-2022 17:24','Возмущение в магнитосфере Земли началось вчера днем, а сама магнитная буря достигла поверхности планеты сегодня ночью. Она сразу же поднялась до уровня G2. 9-12 августа намечается затяжная малая магнитная буря мощностью 3 балла. Пик магнитных возмущений придется на 10 августа. Магнитная буря может вызвать помехи в радиосвязи и сбои в работе спутниковых и энергетических систем, а также космических аппаратов. Специалисты рекомендуют прислушиваться к организму и не работать на износ. Желательно отказаться от нагрузок и следить за питанием. Магнитные бури часто провоцируют сонливость или бессонницу, внезапное ухудшение самочувствия, раздражительность, невнимательность.','8 августа на Земле началась одна из мощнейших за последние годы магнитная буря');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-11ff91742abd','09-08-2022 17:34','Итак проблемы с давлением', 'Anton', '2240b4e2-dd63-4544-866c-946cd634d263');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-1248328043a6','09-08-2022 18:34','Надо прислушаться к организму', 'Anton', '2240b4e2-dd63-4544-866c-946cd634d263');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-13a283475b68','09-08-2022 19:34','Удивительно', 'Maxim', '2240b4e2-dd63-4544-866c-946cd634d263');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-1415c43c89b8','09-08-2022 19:74','Ого,это интересно', 'Anton', '2240b4e2-dd63-4544-866c-946cd634d263');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-1596158807cb','09-08-2022 20:34','На  менямагнитные бури не действуют', 'Irina', '2240b4e2-dd63-4544-866c-946cd634d263');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-1608067468bc','09-08-2022 21:34','а ядумал, что это за сонливость сегодня ', 'Denis', '2240b4e2-dd63-4544-866c-946cd634d263');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-17833745a001','09-08-2022 21:37','Итак хватает проблем со здоровьем', 'Maxim', '2240b4e2-dd63-4544-866c-946cd634d263');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-182d681a8093','09-08-2022 21:44','Итак проблемы с давлением', 'Anton', '2240b4e2-dd63-4544-866c-946cd634d263');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-19d2f9e3b878','09-08-2022 22:34','Удивительно', 'Vadim', '2240b4e2-dd63-4544-866c-946cd634d263');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-2078009190b1','09-08-2022 23:34','Ого,это интересно', 'Denis', '2240b4e2-dd63-4544-866c-946cd634d263');
-
-insert into news (id, date, text, title) values ('cf2597e1-a354-4798-a684-1309df248d20','15-08-2022 17:24','Психологический триллер «Джокер» с пуэрториканским и американским актером Хоакином Фениксом в главной роли вышел в 2019-м году. В 2020-м стало известно, что идет подготовка к выпуску новой части нашумевшего фильма «Джокер: Безумие на двоих». Теперь официально сообщается, что роль подруги Джокера в новом фильме сыграет 36-летняя актриса и певица Леди Гага. В соцсети создатели фильма и сама Гага опубликовали тизер фильма, на котором видны силуэты главных героев в исполнении ее и Феникса. Новый фильм будет мюзиклом, но создатели пообещали, что жесткости в нем будет не меньше, чем в первой части.','Леди Гага сыграет подружку Джокера в сиквеле с Хоакином Фениксом');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-21ff91742abd','09-08-2022 17:34','Интересно будет посмотреть, Марго вообще не нравится в этой роли, переигрывает конкретно', 'Anton', 'cf2597e1-a354-4798-a684-1309df248d20');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-2248328043a6','09-08-2022 18:34','Как бы ни старались продюсеры и режиссёры, образ Харли Куинн, созданный Марго Робби(или для Марго Робби) не переплюнуть никому', 'Anton', 'cf2597e1-a354-4798-a684-1309df248d20');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-23a283475b68','09-08-2022 19:34','Ну не умеет она играть. Не умеет.', 'Maxim', 'cf2597e1-a354-4798-a684-1309df248d20');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-2415c43c89b8','09-08-2022 19:74','Ну хоть гримировать не нужно', 'Anton', 'cf2597e1-a354-4798-a684-1309df248d20');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-2596158807cb','09-08-2022 20:34','Она и до этого снималась в паре сезонов «Американской истории ужасов» и в фильме «Дом Гуччи» и давольно неплохо', 'Irina', 'cf2597e1-a354-4798-a684-1309df248d20');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-2608067468bc','09-08-2022 21:34','Неужели классных актрис нет', 'Denis', 'cf2597e1-a354-4798-a684-1309df248d20');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-27833745a001','09-08-2022 21:37','Ну не умеет она играть. Не умеет.', 'Maxim', 'cf2597e1-a354-4798-a684-1309df248d20');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-282d681a8093','09-08-2022 21:44','Как бы ни старались продюсеры и режиссёры, образ Харли Куинн, созданный Марго Робби(или для Марго Робби) не переплюнуть никому', 'Anton', 'cf2597e1-a354-4798-a684-1309df248d20');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-29d2f9e3b878','09-08-2022 22:34','Интересно будет посмотреть, Марго вообще не нравится в этой роли, переигрывает конкретно', 'Vadim', 'cf2597e1-a354-4798-a684-1309df248d20');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-3078009190b1','09-08-2022 23:34','Интересненько', 'Denis', 'cf2597e1-a354-4798-a684-1309df248d20');
-
-insert into news (id, date, text, title) values ('0c3ca62b-34c3-4e2a-a234-44103ee76388','16-08-2022 17:24','Александр Кокорин не сыграет за Фиорентину в этом сезоне, его не внесут в заявку. Фиалки планировали расстаться с Кокориным в летнее трансферное окно, однако желающих приобрести 31-летнего футболиста не оказалось, а сам он не захотел разрывать контракт. Теперь Александр Александрович просто будет числиться в команде и получать € 1,8 млн в год - это одна из самых больших зарплат в клубе. Более 9 лямов рублей в месяц, просто живя во Флоренции! Контракт россиянина с фиалками рассчитан до июня 2024 года.','Александр Кокорин не сыграет за Фиорентину в этом сезон');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-31ff91742abd','09-08-2022 17:34','Чем там думали когда подписывали', 'Anton', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-3248328043a6','09-08-2022 18:34','Позор нашего футбола!', 'Anton', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-33a283475b68','09-08-2022 19:34','Сделал красиво, как и обещал', 'Maxim', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-3415c43c89b8','09-08-2022 19:74','Не удивительно', 'Anton', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-3596158807cb','09-08-2022 20:34','Как так можно', 'Irina', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-3608067468bc','09-08-2022 21:34','Тренируется в свое удовольствие', 'Denis', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-37833745a001','09-08-2022 21:37','Сделал красиво, как и обещал', 'Maxim', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-382d681a8093','09-08-2022 21:44','Как так можно', 'Anton', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-39d2f9e3b878','09-08-2022 22:34','Не удивительно', 'Vadim', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-4078009190b1','09-08-2022 23:34','Чем там думали когда подписывали', 'Denis', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
-
-insert into news (id, date, text, title) values ('e5323efe-9074-43f8-88c7-7cc4913f7004','09-08-2022 16:24','Команда построила робота, имитирующего поведение каменных муравьев, которые используют специальную подготовку, при которой муравей, нашедший новое гнездо, которое намного лучше, может объяснить дорогу другому члену колонии. Выводы, опубликованные сегодня в Журнале экспериментальной биологии, подтверждают, что большинство важных элементов обучения у этих муравьев теперь понятны, поскольку обучающийся муравей может быть заменен машиной. Ключом к этому процессу обучения является бег в тандеме, когда один муравей буквально медленно ведет другого муравья по маршруту к новому гнезду. Обучающийся муравей усваивает маршрут достаточно хорошо, чтобы самостоятельно найти дорогу домой, а затем бежать со следующим муравьем к новому гнезду и так далее.','В США создали робота, который помогает понять способ передачи муравьями знаний');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-41ff91742abd','09-08-2022 17:34','Ученые молодцы', 'Anton', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-4248328043a6','09-08-2022 18:34','Вот это я понимаю стремительное развитие науки', 'Anton', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-43a283475b68','09-08-2022 19:34','Давно пора', 'Maxim', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-4415c43c89b8','09-08-2022 19:74','Наука не стоит на месте', 'Anton', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-4596158807cb','09-08-2022 20:34','Надо же такое придумать', 'Irina', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-4608067468bc','09-08-2022 21:34','Интересная задумка', 'Denis', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-47833745a001','09-08-2022 21:37','Надо же такое придумать', 'Maxim', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-482d681a8093','09-08-2022 21:44','Наука не стоит на месте', 'Anton', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-49d2f9e3b878','09-08-2022 22:34','Вот это я понимаю стремительное развитие науки', 'Vadim', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-5078009190b1','09-08-2022 23:34','Ученые молодцы', 'Denis', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
-
-insert into news (id, date, text, title) values ('f4641f15-1455-473a-bfc0-061931aded0f','09-08-2022 15:24','Дисплей Redmi A65 2022 с частотой обновления 60 Гц и 78% охватом цветовой гаммы DCI-P3 способен отображать более 1 миллиарда оттенков. Телевизор работает на базе четырехъядерного процессора A35, в паре с которым идут 1,5 ГБ оперативной памяти и 8 ГБ встроенной. В качестве ОС используется Android TV с установленным поверх нее интерфейсом MIUI for TV. За звук отвечают стереодинамики общей мощностью 20 Вт. Из подключений устройство предлагает несколько портов USB, HDMI и другие интерфейсы.','Xiaomi выпустила огромный 4K-телевизор Redmi A65 2022 за 310 долларов');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-51ff91742abd','09-08-2022 17:34','Вот это я понимаю стремительное развитие науки', 'Anton', 'f4641f15-1455-473a-bfc0-061931aded0f');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-5248328043a6','09-08-2022 18:34','Я бы хотел себе такой телевизор', 'Anton', 'f4641f15-1455-473a-bfc0-061931aded0f');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-53a283475b68','09-08-2022 19:34','Интересная задумка', 'Maxim', 'f4641f15-1455-473a-bfc0-061931aded0f');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-5415c43c89b8','09-08-2022 19:74','Наука не стоит на месте', 'Anton', 'f4641f15-1455-473a-bfc0-061931aded0f');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-5596158807cb','09-08-2022 20:34','Давно пора', 'Irina', 'f4641f15-1455-473a-bfc0-061931aded0f');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-5608067468bc','09-08-2022 21:34','Хорошая новинка', 'Denis', 'f4641f15-1455-473a-bfc0-061931aded0f');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-57833745a001','09-08-2022 21:37','Давно пора, молодцы', 'Maxim', 'f4641f15-1455-473a-bfc0-061931aded0f');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-582d681a8093','09-08-2022 21:44','Хорошая новинка', 'Anton', 'f4641f15-1455-473a-bfc0-061931aded0f');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-59d2f9e3b878','09-08-2022 22:34','Я бы хотел себе такой телевизор', 'Vadim', 'f4641f15-1455-473a-bfc0-061931aded0f');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-6078009190b1','09-08-2022 23:34','Вот это я понимаю стремительное развитие науки', 'Denis', 'f4641f15-1455-473a-bfc0-061931aded0f');
-
-insert into news (id, date, text, title) values ('0a27983d-277a-4407-8380-ee976d640a86','09-08-2022 14:24','После релиза в прошлом году накладных наушников Los Angeles с интегрированными солнечными батареями шведская компания Urbanista подготовила беспроводные (TWS) наушники Phoenix, которые используют аналогичные элементы Powerfoyle, что применяются и в предыдущей версии. Однако в наушниках-затычках солнечные батареи размещены не на корпусе самих наушников, а на зарядном кейсе. Выпускаемые компанией Exeger элементы Powerfoyle призваны продлить срок работы наушников без подзарядки — полностью обойтись без розеток у пользователей Phoenix не получится. Сами TWS-наушники не имеют интегрированных солнечных элементов, они встроены в футляр Phoenix. В числе прочих характеристик Phoenix — защита от воды класса IPX4 (защищает преимущественно от пота, но не от ливня или душа), поддержка Bluetooth 5.2, а также наличие порта USB Type-C для зарядки в обычном режиме. Наушники поддерживают активное шумоподавление, имеют режим прозрачности, также есть возможность подключения двух устройств одновременно — это, например, удобно при ответе на телефонные звонки без потери соединения с ноутбуком. ','Шведская Urbanista представила TWS-наушники с встроенной в футляр солнечной батареей');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-61ff91742abd','09-08-2022 17:34','Хорошая новинка', 'Anton', '0a27983d-277a-4407-8380-ee976d640a86');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-6248328043a6','09-08-2022 18:34','Наука не стоит на месте', 'Anton', '0a27983d-277a-4407-8380-ee976d640a86');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-63a283475b68','09-08-2022 19:34','Я бы хотел себе такие наушники', 'Maxim', '0a27983d-277a-4407-8380-ee976d640a86');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-6415c43c89b8','09-08-2022 19:74','Интересная задумка', 'Anton', '0a27983d-277a-4407-8380-ee976d640a86');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-6596158807cb','09-08-2022 20:34','Давно пора, молодцы', 'Irina', '0a27983d-277a-4407-8380-ee976d640a86');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-6608067468bc','09-08-2022 21:34','Вот это я понимаю стремительное развитие науки', 'Denis', '0a27983d-277a-4407-8380-ee976d640a86');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-67833745a001','09-08-2022 21:37','Я бы хотел себе такие наушники', 'Maxim', '0a27983d-277a-4407-8380-ee976d640a86');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-682d681a8093','09-08-2022 21:44','Наука не стоит на месте', 'Anton', '0a27983d-277a-4407-8380-ee976d640a86');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-69d2f9e3b878','09-08-2022 22:34','Хорошая новинка', 'Vadim', '0a27983d-277a-4407-8380-ee976d640a86');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-7078009190b1','09-08-2022 23:34','Вот это я понимаю стремительное развитие науки', 'Denis', '0a27983d-277a-4407-8380-ee976d640a86');
-
-insert into news (id, date, text, title) values ('84d579c8-04fe-4c49-bb02-349a2f0fc8a8','09-08-2022 13:24','Китай не откажется от силового сценария, если мирного воссоединения с Тайванем не получится, Пекин оставляет за собой право отвечать на провокации «вопрос и дело воссоединения Китая в новую эпоху» совместно подготовили и опубликовали канцелярия Госсовета по делам Тайваня и пресс-канцелярия Госсовета КНР. «Белые книги» регулярно публикуются, чтобы разъяснить политику Пекина по разным проблемам. «Попытки добиться независимости Тайваня лишь подтолкнут остров в пучину катастрофы и нанесут серьезный вред тайваньским соотечественникам.  Для защиты общих интересов китайской нации, в том числе тайваньских соотечественников, мы должны решительно противостоять расколу и независимости Тайваня, а также способствовать мирному воссоединению родины», — говорится в тексте.','Китай опубликовал "Белую книгу" по ситуации с Тайванем');
-insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-71ff91742abd','09-08-2022 17:34','Тайвань изначально был согласен на мирное воссоединение', 'Anton', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
-insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-7248328043a6','09-08-2022 18:34','ну, тем не менее, это дело сугубо Пекина и Тайваня', 'Anton', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
-insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-73a283475b68','09-08-2022 19:34','Всё равно в пользу Китая кончится всё', 'Maxim', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
-insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-7415c43c89b8','09-08-2022 19:74','Тем не менее, это дело сугубо Пекина и Тайваня', 'Anton', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
-insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-7596158807cb','09-08-2022 20:34','Китай лишь проявил терпение', 'Irina', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
-insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-7608067468bc','09-08-2022 21:34','Ожидаемо', 'Denis', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
-insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-77833745a001','09-08-2022 21:37','Всё равно в пользу Китая кончится всё', 'Maxim', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
-insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-782d681a8093','09-08-2022 21:44','Тайвань изначально был согласен на мирное воссоединение', 'Anton', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
-insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-79d2f9e3b878','09-08-2022 22:34','Ожидаемо', 'Vadim', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
-insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-8078009190b1','09-08-2022 23:34','ну, тем не менее, это дело сугубо Пекина и Тайваня', 'Denis', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
\ No newline at end of file
+insert into news (id, date, text, title) values ('31a65ca4-fea4-487a-abae-bfaa085b38a1','2022-08-09 17:24:00','В эти выходные в нашей стране прошли необычные соревнования. Футбол по всем правилам, но игра проходит не на идеальном зеленом газоне, а на торфяном поле. На торфяных полях сразились 25 команд со всех уголков Беларуси. Первое место заняла команда из Красносельска, второе — из Могилева, третье — из Витебска. С 2019 года этот турнир в Беларуси стали проводить ежегодно, причем на действующих торфяных полях. ','В Беларуси прошел турнир «Болотные игры».');
+insert into comment (id, date, text, username, news_id) values ('31f331b7-11f5-4f1c-9a55-fa0a15d93024','2022-08-09 17:34:00','Ничего себе это что-то новенькое!', 'Anton', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+insert into comment (id, date, text, username, news_id) values ('3446ac7a-7e33-45f0-9f85-a8635993d561','2022-08-09 18:34:00','Интересный турнир', 'Anton', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+insert into comment (id, date, text, username, news_id) values ('69cb8c8f-bec1-4767-9942-753340fca92e','2022-08-09 19:34:00','Не очень интересно для девушек.', 'Max', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+insert into comment (id, date, text, username, news_id) values ('b2d357f8-5ee0-4250-8f18-923a50c16ac2','2022-08-09 20:14:00','А мне понравился этот турнир.', 'Anton', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+insert into comment (id, date, text, username, news_id) values ('08b31f3c-c541-4c6a-ac4c-27e1a63e9d90','2022-08-09 20:34:00','Было интересно', 'Olga', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+insert into comment (id, date, text, username, news_id) values ('a0fa6c7e-aa9e-43d0-93a5-6b567e582218','2022-08-09 21:34:00','Скучновато', 'Sergei', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+insert into comment (id, date, text, username, news_id) values ('5e8ce545-44ce-4835-ba0e-ead5dca1e502','2022-08-09 21:37:00','Интересный турнир', 'Max', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+insert into comment (id, date, text, username, news_id) values ('a54c76e4-d5c6-4cdc-9f64-131327c3209f','2022-08-09 21:44:00','Придумали бы что-нибудь поинтереснее', 'Anton', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+insert into comment (id, date, text, username, news_id) values ('a8de3d50-510c-4800-a0ba-50569c339301','2022-08-09 22:34:00','Было круто', 'Dima', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+insert into comment (id, date, text, username, news_id) values ('a1f0fc37-bfbf-45ad-8b36-7e4c8547a9aa','2022-08-09 23:34:00','Хоть что-то новенькое', 'Sergei', '31a65ca4-fea4-487a-abae-bfaa085b38a1');
+
+insert into news (id, date, text, title) values ('3cba9f15-569d-49c8-80ba-4e6a62fa34e9','2022-08-09 17:20:00','Группа ученых выявила в Китае новый вид генипавируса, которым уже заразились не менее 35 человек,сообщило китайское издание "Пэнпай".Исследование проводили китайские и сингапурские ученые, опубликовавшие статью в Медицинском журнале Новой Англии. В ней говорилось, что новый генипавирус получил название "Ланъя".Симптомы заражения новым вирусом включают в себя лихорадку, усталость, кашель, анорексию, миалгию, тошноту и рвоту. По словам ученых, "Ланъя" похож на вирус "Нипах", но до сих пор случаи заражения не были смертельными или очень серьезными.','Ученые из Китая и Сингапура выявили новый генипавирус');
+insert into comment (id, date, text, username, news_id) values ('61a908f1-aaff-4d41-a367-ff97742abd48','2022-08-09 17:34:00','Хорошо что выявили до того как пошло массовое заражение или ещё что.', 'Anton', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+insert into comment (id, date, text, username, news_id) values ('4f5cd4c5-bcd3-4842-9896-483a8043a690','2022-08-09 18:34:00','Не удивительно', 'Anton', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+insert into comment (id, date, text, username, news_id) values ('ef8a6e0f-c49d-4e06-8c7d-a280475b6829','2022-08-09 19:34:00','Не дай Бог никому этим не заразиться. Итак хватило короновируса .', 'Max', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+insert into comment (id, date, text, username, news_id) values ('1cd0d86e-27f9-4084-9b8b-15c13c89b8b5','2022-08-09 20:14:00','Кто придумывает название к вирусам?', 'Anton', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+insert into comment (id, date, text, username, news_id) values ('8f3319c3-bacf-446b-bb49-96118807cbd6','2022-08-09 20:34:00','А что нужно делать, чтобы не заразиться?', 'Olga', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+insert into comment (id, date, text, username, news_id) values ('aedf3aac-d119-4e71-bd33-08007468bc87','2022-08-09 21:34:00','И этому, похоже, нет конца!', 'Sergei', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+insert into comment (id, date, text, username, news_id) values ('c0e98df9-770e-4861-a42f-833d45a00135','2022-08-09 21:37:00','А вакцины есть?', 'Max', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+insert into comment (id, date, text, username, news_id) values ('2ff775e9-8477-46dc-90b6-2d671a809399','2022-08-09 21:44:00','Не хочу болеть', 'Anton', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+insert into comment (id, date, text, username, news_id) values ('720c4d55-c232-4bac-9984-d2fee3b87856','2022-08-09 22:34:00','А я только переболел', 'Dima', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+insert into comment (id, date, text, username, news_id) values ('89ed71bc-e744-451b-b58f-78019190b14b','2022-08-09 23:34:00','у меня хороший иммунитет', 'Sergei', '3cba9f15-569d-49c8-80ba-4e6a62fa34e9');
+
+insert into news (id, date, text, title) values ('625a8ab1-ddd9-4736-878f-093225b42f0b','2022-08-08 17:24:00','В воскресенье, 7 августа 2022 года, на 95-м году жизни скончался участник первого в мире группового полета трех космических кораблей, дважды Герой Советского Союза, летчик-космонавт СССР Анатолий Филипченко. Свой первый космический полет Филипченко совершил в октябре 1969 года. В экипаж корабля "Союз-7", командиром которого назначили Филипченко, вошли также Владислав Волков и Виктор Горбатко. Одновременно в космосе находились корабли "Союз-6" и "Союз-8". Филипченко награжден двумя медалями "Золотая Звезда" Героя Советского Союза, двумя орденами Ленина, орденом Трудового Красного Знамени, а также различными орденами и другими госнаградами других стран.','Умер советский космонавт Анатолий Филипченко');
+insert into comment (id, date, text, username, news_id) values ('61a908f1-aaff-4d43-a367-ff97742abd48','2022-08-09 17:34:00','Вечная память', 'Anton', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+insert into comment (id, date, text, username, news_id) values ('4f5cd4c5-bcd3-4844-9896-483a8043a690','2022-08-09 18:34:00','Светлая память! Прожил насыщенную долгую жизнь!', 'Anton', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+insert into comment (id, date, text, username, news_id) values ('ef8a6e0f-c49d-4e05-8c7d-a280475b6829','2022-08-09 19:34:00','Мои соболезнования родным и близким.', 'Max', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+insert into comment (id, date, text, username, news_id) values ('1cd0d86e-27f9-4086-9b8b-15c13c89b8b5','2022-08-09 20:14:00','Соболезнования родным и близким. Светлая память.', 'Anton', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+insert into comment (id, date, text, username, news_id) values ('8f3319c3-bacf-4467-bb49-96118807cbd6','2022-08-09 20:34:00','Он очень многое сделал для нашей страны', 'Olga', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+insert into comment (id, date, text, username, news_id) values ('aedf3aac-d119-4e78-bd33-08007468bc87','2022-08-09 21:34:00','Мои соболезнования родным и близким.', 'Sergei', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+insert into comment (id, date, text, username, news_id) values ('c0e98df9-770e-4869-a42f-833d45a00135','2022-08-09 21:37:00','Умерла настоящая легенда.', 'Max', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+insert into comment (id, date, text, username, news_id) values ('2ff775e9-8477-461c-90b6-2d671a809399','2022-08-09 21:44:00','Он очень многое сделал для нашей страны', 'Anton', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+insert into comment (id, date, text, username, news_id) values ('720c4d55-c232-4b2c-9984-d2fee3b87856','2022-08-09 22:34:00','Вечная память великому человеку , вклад в развитие человечества просто неизмерим.', 'Dima', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+insert into comment (id, date, text, username, news_id) values ('89ed71bc-e744-453b-b58f-78019190b14b','2022-08-09 23:34:00','Мои соболезнования родным и близким.', 'Sergei', '625a8ab1-ddd9-4736-878f-093225b42f0b');
+
+insert into news (id, date, text, title) values ('1e710136-d574-4f40-a86e-9cafeabfacb6','2022-08-07 17:24:00','Российская теннисистка Дарья Касаткина победила американку Шелби Роджерс в финале турнира категории WTA 500 в американском Сан-Хосе, призовой фонд которого превышает 750 тысяч долларов.Встреча завершилась со счетом 6:7 (2:7), 6:1, 6:2 в пользу россиянки, имевшей на турнире седьмой номер посева. Теннисистки провели на корте 2 часа 32 минуты.Благодаря этой победе Касаткина поднимется на девятое место мирового рейтинга и третье место в чемпионской гонке Женской теннисной ассоциации (WTA).Для спортсменки этот трофей стал первым в сезоне: она сражалась за титул год назад также на турнире в Сан-Хосе, но уступила в решающей встрече американке Даниэль Коллинз. Теперь на ее счету пять титулов на турнирах WTA.','Касаткина выиграла теннисный турнир в американском Сан-Хосе');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff97742abd48','2022-08-09 17:34:00','Молодец', 'Anton', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-483a8043a690','2022-08-09 18:34:00','Красавица!! Представляю, как сложно ей было, все таки влияние общественности тоже играет роль, заслужила победы!', 'Anton', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a280475b6829','2022-08-09 19:34:00','Ой так бы смогда любая теннисистка', 'Max', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c13c89b8b5','2022-08-09 20:14:00','Молодец,справилась.', 'Anton', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96118807cbd6','2022-08-09 20:34:00','Могла бы и получше', 'Olga', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08007468bc87','2022-08-09 21:34:00','Красавица спортсменка', 'Sergei', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833d45a00135','2022-08-09 21:37:00','Я бы тоже так смогла', 'Max', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d671a809399','2022-08-09 21:44:00','Поздравляю,молодец', 'Anton', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2fee3b87856','2022-08-09 22:34:00','Уделала всех', 'Dima', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78019190b14b','2022-08-09 23:34:00','Молодец!!! Поздравляем!! Так держать!!!', 'Sergei', '1e710136-d574-4f40-a86e-9cafeabfacb6');
+
+insert into news (id, date, text, title) values ('33717646-214d-49cd-a6a0-f90b17c886fb','2022-08-06 17:24:00','В Приамурье, где из-за ливней затопило несколько районов, ввели региональный режим чрезвычайной ситуации. Резкий подъем воды и подтопление домов наблюдаются в городе Тында, Сковородинском и  Тындинском округе. С подтопленных территорий эвакуировали 158 человек, из них 49 детей. В минувшие выходные режим ЧС ввели в Тынде, Тындинском округе, Сковородинском, Зейском и Магдагачинском районах. Самая сложная обстановка сохраняется в селе Ивановка Зейского района-  там уровень воды в реке Правый Уркан превысил отметку опасного гидрологического явления, подтоплены 77 домов и 130 приусадебных участков.','В Приамурье из-за подтоплений ввели режим ЧС');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd11','2022-08-09 17:34:00','Перед стихией никто не властен. Сил и терпения жителям', 'Anton', '33717646-214d-49cd-a6a0-f90b17c886fb');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a612','2022-08-09 18:34:00','Увы, 70% территорий России - зоны непредсказуемых погодных явлений', 'Anton', '33717646-214d-49cd-a6a0-f90b17c886fb');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6813','2022-08-09 19:34:00','Природные явления огонь и вода самые страшные по-моему!', 'Maxim', '33717646-214d-49cd-a6a0-f90b17c886fb');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b814','2022-08-09 20:14:00','Вот что бывает, когда лес бесконтрольно вырубается!', 'Anton', '33717646-214d-49cd-a6a0-f90b17c886fb');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb15','2022-08-09 20:34:00','Всем терпения и удачи.Всё наладится, дожди пройдут, вода сойдёт.', 'Irina', '33717646-214d-49cd-a6a0-f90b17c886fb');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc16','2022-08-09 21:34:00','Ну вот и курорт у каждого в дворе)', 'Denis', '33717646-214d-49cd-a6a0-f90b17c886fb');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00117','2022-08-09 21:37:00','Природа бушует!', 'Maxim', '33717646-214d-49cd-a6a0-f90b17c886fb');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809318','2022-08-09 21:44:00','Бедные жители', 'Anton', '33717646-214d-49cd-a6a0-f90b17c886fb');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87819','2022-08-09 22:34:00','Нам бы такие дожди', 'Vadim', '33717646-214d-49cd-a6a0-f90b17c886fb');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b120','2022-08-09 23:34:00','Природа,ничего не поделаешь', 'Denis', '33717646-214d-49cd-a6a0-f90b17c886fb');
+
+insert into news (id, date, text, title) values ('7c734526-523e-4186-99bd-1530abb4e23a','2022-08-05 17:24:00','Обнаружены тела трех пропавших в коллекторе на юго-востоке Москвы. Власти Москвы ранее сообщили, что в районе Люблино 13 рабочих, которые чистили водосток, оказались в шахте во время "сверхсильного" ливня и некоторых унесло потоками воды: пять человек поднялись из коллектора самостоятельно, пятерых подняли спасатели, еще три человека пропали. Ранее прокуратура Москвы сообщила, что одного из них нашли погибшим. Сначала было обнаружено тело одного потерпевшего, потом двоих.В правоохранительных органах пояснили, что двое погибших - граждане Киргизии, один - из Таджикистана.','В Москве нашли тела всех трех рабочих, пропавших в коллекторе в Люблино');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd21','2022-08-09 17:34:00','А кто им выдал наряд на работу-прогноз погоды не видел?', 'Anton', '7c734526-523e-4186-99bd-1530abb4e23a');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a622','2022-08-09 18:34:00','Бедняги. Действительно, жаль!', 'Anton', '7c734526-523e-4186-99bd-1530abb4e23a');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6823','2022-08-09 19:34:00','Ужас, жаль людей очень...', 'Maxim', '7c734526-523e-4186-99bd-1530abb4e23a');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b824','2022-08-09 20:14:00','Сил родным и близким. Мои соболезнования.', 'Anton', '7c734526-523e-4186-99bd-1530abb4e23a');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb25','2022-08-09 20:34:00','Надеюсь, виновные понесут наказание.', 'Irina', '7c734526-523e-4186-99bd-1530abb4e23a');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc26','2022-08-09 21:34:00','Бедные люди,они на заработок ехали ,а дома не дождутся их', 'Denis', '7c734526-523e-4186-99bd-1530abb4e23a');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00127','2022-08-09 21:37:00','Очень жаль, соболезнования родным', 'Maxim', '7c734526-523e-4186-99bd-1530abb4e23a');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809328','2022-08-09 21:44:00','Скорей всего нарушение ТБ и привело к жертвам. Жаль ребят.', 'Anton', '7c734526-523e-4186-99bd-1530abb4e23a');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87829','2022-08-09 22:34:00','Очень жаль.., такая страшная смерть.., сил близким. Виновных надо наказать.', 'Vadim', '7c734526-523e-4186-99bd-1530abb4e23a');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b130','2022-08-09 23:34:00','Очень жаль. Была небольшая надежда, но увы.', 'Denis', '7c734526-523e-4186-99bd-1530abb4e23a');
+
+insert into news (id, date, text, title) values ('56dc6519-4346-4021-bbe4-774a41ff89c0','2022-08-04 17:24:00','МИД РФ и профильные службы находятся в постоянном контакте с Кубой для координации возможных действий в связи с пожаром на нефтехранилище. Сильный пожар начался на кубинском нефтехранилище в порту провинции Матансас в пятницу вечером после удара молнии в купол резервуара, в котором находилось около 25 тысяч кубометров нефти. Несмотря на безостановочную работу пожарных расчетов, пламя перекинулось и на соседний резервуар, произошла серия взрывов. Пропавшими без вести числятся 17 человек. Для помощи в тушении огня на Кубу прибыли самолеты и вертолеты, а также специалисты из Мексики и Венесуэлы.','Россия и Куба находятся в контакте по вопросам пожара на нефтехранилище');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd31','2022-08-09 17:34:00','Молниеотводы обязательны к установке.', 'Anton', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a632','2022-08-09 18:34:00','Ну это не просто так горит', 'Anton', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6833','2022-08-09 19:34:00','Жалко людей,ужас', 'Maxim', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b834','2022-08-09 20:14:00','Поможем, чем сможем', 'Anton', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb35','2022-08-09 20:34:00','С Кубой нужно строить крепкие стратегические отношения,', 'Irina', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc36','2022-08-09 21:34:00','Жалко людей,ужас', 'Denis', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00137','2022-08-09 21:37:00','Халатность', 'Maxim', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809338','2022-08-09 21:44:00','Мы поможем нашему партнеру', 'Anton', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87839','2022-08-09 22:34:00','Пренебрежение безопасности', 'Vadim', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b140','2022-08-09 23:34:00','Не все выполняют свою работу качественно, и кто-то решает пренебречь правилами безопасности', 'Denis', '56dc6519-4346-4021-bbe4-774a41ff89c0');
+
+insert into news (id, date, text, title) values ('a6c2d8b9-32cf-4059-af72-0de0f9e49ae1','2022-08-03 17:24:00','Палестинская группировка "Исламский джихад" подтвердила заключение перемирия с Израилем при посредничестве Египта. По данным издания, представитель группировки Мохаммед аль-Хинди заявил, что "некоторое время назад" стороны достигли договоренности по поводу деталей соглашения. Армия Израиля 5 августа начала операцию против группировки "Исламский джихад" в секторе Газа. Израильские военные наносят удары по целям в анклаве, в приграничных районах страны и в некоторых центральных городах звучат сирены воздушной тревоги. Как сообщил Минздрав сектора Газа, по последним данным, в результате обстрелов погиб как минимум 41 человек, около 311 получили ранения.','Группировка "Исламский джихад" подтвердила заключение перемирия с Израилем');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd41','2022-08-09 17:34:00','Постреляли и разошлись', 'Anton', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a642','2022-08-09 18:34:00','....а шуму то было', 'Anton', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6843','2022-08-09 19:34:00','Надолго?', 'Maxim', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b844','2022-08-09 20:14:00','Кто бы сомневался', 'Anton', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb45','2022-08-09 20:34:00','Мир всегда хорошо', 'Irina', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc46','2022-08-09 21:34:00','Хорошая новость', 'Denis', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00147','2022-08-09 21:37:00','Постреляли и разошлись', 'Maxim', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809348','2022-08-09 21:44:00','А шуму то было', 'Anton', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87849','2022-08-09 22:34:00','Эта хорошая новость', 'Vadim', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b150','2022-08-09 23:34:00','Мир всегда хорошо', 'Denis', 'a6c2d8b9-32cf-4059-af72-0de0f9e49ae1');
+
+insert into news (id, date, text, title) values ('f956c783-d969-4bc8-8f33-ef6c5761b141','2022-08-03 14:24:00','За семь месяцев этого года товарооборот между Россией и Китаем вырос на 29 процентов и составил 97,71 миллиарда долларов. Так, Китай ввез в Россию товаров на 36,26 миллиарда долларов — на 5,2 процента больше, чем за тот же период прошлого года. Поставки из России в Китай увеличились на 48,8 процента — до 61,44 миллиарда долларов. При этом товарооборот только за июнь оценивается в 16,79 миллиарда долларов: 10,02 миллиарда — экспорт из России, 6,77 миллиарда — китайский импорт. В 2021 году российско-китайский товарооборот вырос на 35,8 процента, до рекордных 146,89 миллиарда.','Товарооборот России и Китая за семь месяцев вырос почти на треть');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd51','2022-08-09 17:34:00','Между Россией и Китаем отличные отношения ', 'Anton', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a652','2022-08-09 18:34:00','Ожидаемо', 'Anton', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6853','2022-08-09 19:34:00','Замечательный союз', 'Maxim', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b854','2022-08-09 20:14:00','Товарооборот между этими странами будет только расти.', 'Anton', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb55','2022-08-09 20:34:00','Отлично', 'Irina', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc56','2022-08-09 21:34:00','Это хорошая новость', 'Denis', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00157','2022-08-09 21:37:00','Ожидаемо', 'Maxim', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809358','2022-08-09 21:44:00','Замечательный союз', 'Anton', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87859','2022-08-09 22:34:00','Товарооборот между этими странами будет только расти.', 'Vadim', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b160','2022-08-09 23:34:00','Между Россией и Китаем отличные отношения ', 'Denis', 'f956c783-d969-4bc8-8f33-ef6c5761b141');
+
+insert into news (id, date, text, title) values ('c3164619-033f-4722-9366-17fcded892ed','2022-08-01 17:24:00','Самый длинный в Китае деревянный арочный мост, чья история насчитывает более 900 лет, обрушился в результате пожара в китайской восточной провинции Фуцзянь. Как отмечается в сообщении, пожар на мосту Ваньань, который находился в уезде Пиннань  начался в субботу вечером, в 22.45 по местному времени (17.45 мск) пожар был потушен."В настоящее время мост сгорел и обрушился, никто не пострадал", - говорится в сообщении. Китайское издание Global Times отмечало, что мост Ваньань являлся самым длинным деревянным арочным мостом в Китае (98,2 метра). Издание со ссылкой на эксперта по древней архитектуре из Пекинского университета в воскресенье также сообщило, что вероятной причиной возгорания моста является человеческий фактор.','В Китае обрушился деревянный мост, которому было более девятисот лет');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd61','2022-08-09 17:34:00','Жалко', 'Anton', 'c3164619-033f-4722-9366-17fcded892ed');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a662','2022-08-09 18:34:00','Последние лет 50 могли использовать какие-то крутые пропитки чтоб не гнило', 'Anton', 'c3164619-033f-4722-9366-17fcded892ed');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6863','2022-08-09 19:34:00','Странный пожар. Наверное спалил кто то.', 'Maxim', 'c3164619-033f-4722-9366-17fcded892ed');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b864','2022-08-09 20:14:00','Надо восстанавливать', 'Anton', 'c3164619-033f-4722-9366-17fcded892ed');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb65','2022-08-09 20:34:00','Как жаль. Но уверен, китайцы не будут китайцами, если не восстановят мост', 'Irina', 'c3164619-033f-4722-9366-17fcded892ed');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc66','2022-08-09 21:34:00','Поразительная равномерность горения по всей длине.Не иначе поджог.', 'Denis', 'c3164619-033f-4722-9366-17fcded892ed');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00167','2022-08-09 21:37:00','Очень жаль', 'Maxim', 'c3164619-033f-4722-9366-17fcded892ed');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809368','2022-08-09 21:44:00','могли использовать какие-то крутые пропитки чтоб не гнило', 'Anton', 'c3164619-033f-4722-9366-17fcded892ed');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87869','2022-08-09 22:34:00','Надо восстанавливать', 'Vadim', 'c3164619-033f-4722-9366-17fcded892ed');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b170','2022-08-09 23:34:00','Странный пожар. Наверное спалил кто то.', 'Denis', 'c3164619-033f-4722-9366-17fcded892ed');
+
+insert into news (id, date, text, title) values ('01a18ac9-2f09-4c17-b8be-9e388efcb46c','2022-08-11 17:24:00','Ученые ТПУ придумали, как отказаться от использования лабораторных животных при доклинических исследованиях в области лучевой терапии онкозаболеваний. Они разработали дозиметрический фантом — трехмерные модели лабораторной крысы и мыши, которые могут полностью заменить их на некоторых этапах. Для внедрения новых методов лучевой терапии необходимо проводить много опытов на мелких лабораторных животных — мышах и крысах. Однако использование животных в лабораторных целях неразрывно связано с этическими проблемами. Кроме того, их покупка, содержание и утилизация требуют значительных затрат. Для того чтобы сократить использование лабораторных животных в экспериментах, ученые Томского политехнического университета (ТПУ) предлагают применять фантомы — искусственные копии в натуральный размер.','В России создали фантомы лабораторных животных');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd71','2022-08-09 17:34:00','Наши ученые молодцы', 'Anton', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a672','2022-08-09 18:34:00','Вот это я понимаю стремительное развитие науки', 'Anton', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6873','2022-08-09 19:34:00','Давно пора. Сколько животных жестоко замучали этими экспериментами.', 'Maxim', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b874','2022-08-09 20:14:00','Ну вот, очень круто, что животных меньше смогут подвергать лабораторным испытаниям', 'Anton', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb75','2022-08-09 20:34:00','Я правда очень рад , что у нас в стране делают все , чтобы больше ничего не тестировать на животных !', 'Irina', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc76','2022-08-09 21:34:00','Ну вот, очень круто, что животных меньше смогут подвергать лабораторным испытаниям', 'Denis', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00177','2022-08-09 21:37:00','Давно пора', 'Maxim', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809378','2022-08-09 21:44:00','Сколько животных жестоко замучали этими экспериментами.', 'Anton', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87879','2022-08-09 22:34:00','У России отличные технологии', 'Vadim', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b180','2022-08-09 23:34:00','Наука в России никогда не стояла на месте', 'Denis', '01a18ac9-2f09-4c17-b8be-9e388efcb46c');
+
+insert into news (id, date, text, title) values ('db2ff36b-3eb9-4895-aadf-b064a009581e','2022-08-12 17:24:00','В России прошла масштабная проверка, в рамках которой были пересмотрены тысячи незаконных отказов в социальных выплатах на детей. Ведомство проверило деятельность отделения Пенсионного фонда в Краснодарском крае, жители которого в мае не смогли получить ежемесячные выплаты на детей в возрасте от восьми до 17 лет. В качестве причины отказа указывалось, что доход обращавшихся семей превышает краевой прожиточный минимум на душу населения. Прокуроры, в свою очередь, установили, что региональное отделение ПФР из-за технической ошибки в автоматическом расчете дважды учитывало суммы получаемых семьями социальных пенсий, поэтому доход семей был необоснованно завышен. Отмечается, что в результате проверки удалось вскрыть более тысячи неправомерных решений, трех сотрудников отделения фонда привлекли к административной ответственности.','Генпрокуратура пересмотрела тысячи незаконных отказов в детских соцвыплатах');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd81','2022-08-09 17:34:00','Кто наказан?!!!', 'Anton', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a682','2022-08-09 18:34:00','Удивительно!', 'Anton', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6883','2022-08-09 19:34:00','Да с этими выплатами ужас какой-то', 'Maxim', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b884','2022-08-09 20:14:00','Хорошо что прокуратура работает, надеюсь справедливость будет торжествовать', 'Anton', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb85','2022-08-09 20:34:00','Печально это все', 'Irina', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc86','2022-08-09 21:34:00','Мне не верится', 'Denis', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a00187','2022-08-09 21:37:00','Надеюсь справедливость будет торжествовать !', 'Maxim', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809388','2022-08-09 21:44:00','Констатировали сбой в системе.', 'Anton', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87889','2022-08-09 22:34:00','Найдут тысяча причин', 'Vadim', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b190','2022-08-09 23:34:00','Мне не верится,что они что-то пересмотрят', 'Denis', 'db2ff36b-3eb9-4895-aadf-b064a009581e');
+
+insert into news (id, date, text, title) values ('0218982f-7423-4f66-9718-733168f7be53','2022-08-13 17:24:00','Госинспекторы нацпарка "Земля леопарда" в Приморье отловили недалеко от границы охраняемой территории истощенного четырехмесячного детеныша редчайшего дальневосточного леопарда, оставшегося без матери, сообщает учреждение. Котенка отвезли в центр реабилитации амурских тигров и других редких животных (МРОО "Центр "Тигр"). Ветеринары установили, что вес леопарда всего 4,5 килограмма — как у домашней кошки. На теле обнаружены небольшие раны, в том числе зараженные паразитами. После обработки ран и внутривенных вливаний для борьбы с обезвоживанием котенка поместили в специальный карантинный блок. Сейчас животное чувствует себя лучше, быстро набирает вес. ','Инспекторы нацпарка "Земля леопарда" спасли истощенного котенка дальневосточного леопарда');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-ff91742abd91','2022-08-09 17:34:00','Здоровья котёнку!', 'Anton', '0218982f-7423-4f66-9718-733168f7be53');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-48328043a692','2022-08-09 18:34:00','Какая лапочка. Уважение и благодарность спасателям', 'Anton', '0218982f-7423-4f66-9718-733168f7be53');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-a283475b6893','2022-08-09 19:34:00','Одни убивают, другие спасают', 'Maxim', '0218982f-7423-4f66-9718-733168f7be53');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-15c43c89b894','2022-08-09 20:14:00','Молодцы', 'Anton', '0218982f-7423-4f66-9718-733168f7be53');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-96158807cb95','2022-08-09 20:34:00','Кроха совсем, а как правильно на людей реагирует. Хищник', 'Irina', '0218982f-7423-4f66-9718-733168f7be53');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-08067468bc96','2022-08-09 21:34:00','Здоровья котёнку!', 'Denis', '0218982f-7423-4f66-9718-733168f7be53');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-833745a0019a','2022-08-09 21:37:00','Кроха совсем, а как правильно на людей реагирует. Хищник', 'Maxim', '0218982f-7423-4f66-9718-733168f7be53');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-2d681a809397','2022-08-09 21:44:00','Одни убивают, другие спасают', 'Anton', '0218982f-7423-4f66-9718-733168f7be53');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-d2f9e3b87898','2022-08-09 22:34:00','Какая лапочка. Уважение и благодарность спасателям', 'Vadim', '0218982f-7423-4f66-9718-733168f7be53');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-78009190b199','2022-08-09 23:34:00','Здоровья котёнку!', 'Denis', '0218982f-7423-4f66-9718-733168f7be53');
+
+insert into news (id, date, text, title) values ('2240b4e2-dd63-4544-866c-946cd634d263','2022-08-14 17:24:00','Возмущение в магнитосфере Земли началось вчера днем, а сама магнитная буря достигла поверхности планеты сегодня ночью. Она сразу же поднялась до уровня G2. 9-12 августа намечается затяжная малая магнитная буря мощностью 3 балла. Пик магнитных возмущений придется на 10 августа. Магнитная буря может вызвать помехи в радиосвязи и сбои в работе спутниковых и энергетических систем, а также космических аппаратов. Специалисты рекомендуют прислушиваться к организму и не работать на износ. Желательно отказаться от нагрузок и следить за питанием. Магнитные бури часто провоцируют сонливость или бессонницу, внезапное ухудшение самочувствия, раздражительность, невнимательность.','8 августа на Земле началась одна из мощнейших за последние годы магнитная буря');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-11ff91742abd','2022-08-09 17:34:00','Итак проблемы с давлением', 'Anton', '2240b4e2-dd63-4544-866c-946cd634d263');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-1248328043a6','2022-08-09 18:34:00','Надо прислушаться к организму', 'Anton', '2240b4e2-dd63-4544-866c-946cd634d263');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-13a283475b68','2022-08-09 19:34:00','Удивительно', 'Maxim', '2240b4e2-dd63-4544-866c-946cd634d263');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-1415c43c89b8','2022-08-09 20:14:00','Ого,это интересно', 'Anton', '2240b4e2-dd63-4544-866c-946cd634d263');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-1596158807cb','2022-08-09 20:34:00','На  менямагнитные бури не действуют', 'Irina', '2240b4e2-dd63-4544-866c-946cd634d263');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-1608067468bc','2022-08-09 21:34:00','а ядумал, что это за сонливость сегодня ', 'Denis', '2240b4e2-dd63-4544-866c-946cd634d263');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-17833745a001','2022-08-09 21:37:00','Итак хватает проблем со здоровьем', 'Maxim', '2240b4e2-dd63-4544-866c-946cd634d263');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-182d681a8093','2022-08-09 21:44:00','Итак проблемы с давлением', 'Anton', '2240b4e2-dd63-4544-866c-946cd634d263');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-19d2f9e3b878','2022-08-09 22:34:00','Удивительно', 'Vadim', '2240b4e2-dd63-4544-866c-946cd634d263');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-2078009190b1','2022-08-09 23:34:00','Ого,это интересно', 'Denis', '2240b4e2-dd63-4544-866c-946cd634d263');
+
+insert into news (id, date, text, title) values ('cf2597e1-a354-4798-a684-1309df248d20','2022-08-15 17:24:00','Психологический триллер «Джокер» с пуэрториканским и американским актером Хоакином Фениксом в главной роли вышел в 2019-м году. В 2020-м стало известно, что идет подготовка к выпуску новой части нашумевшего фильма «Джокер: Безумие на двоих». Теперь официально сообщается, что роль подруги Джокера в новом фильме сыграет 36-летняя актриса и певица Леди Гага. В соцсети создатели фильма и сама Гага опубликовали тизер фильма, на котором видны силуэты главных героев в исполнении ее и Феникса. Новый фильм будет мюзиклом, но создатели пообещали, что жесткости в нем будет не меньше, чем в первой части.','Леди Гага сыграет подружку Джокера в сиквеле с Хоакином Фениксом');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-21ff91742abd','2022-08-09 17:34:00','Интересно будет посмотреть, Марго вообще не нравится в этой роли, переигрывает конкретно', 'Anton', 'cf2597e1-a354-4798-a684-1309df248d20');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-2248328043a6','2022-08-09 18:34:00','Как бы ни старались продюсеры и режиссёры, образ Харли Куинн, созданный Марго Робби(или для Марго Робби) не переплюнуть никому', 'Anton', 'cf2597e1-a354-4798-a684-1309df248d20');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-23a283475b68','2022-08-09 19:34:00','Ну не умеет она играть. Не умеет.', 'Maxim', 'cf2597e1-a354-4798-a684-1309df248d20');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-2415c43c89b8','2022-08-09 20:14:00','Ну хоть гримировать не нужно', 'Anton', 'cf2597e1-a354-4798-a684-1309df248d20');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-2596158807cb','2022-08-09 20:34:00','Она и до этого снималась в паре сезонов «Американской истории ужасов» и в фильме «Дом Гуччи» и давольно неплохо', 'Irina', 'cf2597e1-a354-4798-a684-1309df248d20');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-2608067468bc','2022-08-09 21:34:00','Неужели классных актрис нет', 'Denis', 'cf2597e1-a354-4798-a684-1309df248d20');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-27833745a001','2022-08-09 21:37:00','Ну не умеет она играть. Не умеет.', 'Maxim', 'cf2597e1-a354-4798-a684-1309df248d20');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-282d681a8093','2022-08-09 21:44:00','Как бы ни старались продюсеры и режиссёры, образ Харли Куинн, созданный Марго Робби(или для Марго Робби) не переплюнуть никому', 'Anton', 'cf2597e1-a354-4798-a684-1309df248d20');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-29d2f9e3b878','2022-08-09 22:34:00','Интересно будет посмотреть, Марго вообще не нравится в этой роли, переигрывает конкретно', 'Vadim', 'cf2597e1-a354-4798-a684-1309df248d20');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-3078009190b1','2022-08-09 23:34:00','Интересненько', 'Denis', 'cf2597e1-a354-4798-a684-1309df248d20');
+
+insert into news (id, date, text, title) values ('0c3ca62b-34c3-4e2a-a234-44103ee76388','2022-08-16 17:24:00','Александр Кокорин не сыграет за Фиорентину в этом сезоне, его не внесут в заявку. Фиалки планировали расстаться с Кокориным в летнее трансферное окно, однако желающих приобрести 31-летнего футболиста не оказалось, а сам он не захотел разрывать контракт. Теперь Александр Александрович просто будет числиться в команде и получать € 1,8 млн в год - это одна из самых больших зарплат в клубе. Более 9 лямов рублей в месяц, просто живя во Флоренции! Контракт россиянина с фиалками рассчитан до июня 2024 года.','Александр Кокорин не сыграет за Фиорентину в этом сезон');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-31ff91742abd','2022-08-09 17:34:00','Чем там думали когда подписывали', 'Anton', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-3248328043a6','2022-08-09 18:34:00','Позор нашего футбола!', 'Anton', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-33a283475b68','2022-08-09 19:34:00','Сделал красиво, как и обещал', 'Maxim', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-3415c43c89b8','2022-08-09 20:14:00','Не удивительно', 'Anton', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-3596158807cb','2022-08-09 20:34:00','Как так можно', 'Irina', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-3608067468bc','2022-08-09 21:34:00','Тренируется в свое удовольствие', 'Denis', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-37833745a001','2022-08-09 21:37:00','Сделал красиво, как и обещал', 'Maxim', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-382d681a8093','2022-08-09 21:44:00','Как так можно', 'Anton', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-39d2f9e3b878','2022-08-09 22:34:00','Не удивительно', 'Vadim', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-4078009190b1','2022-08-09 23:34:00','Чем там думали когда подписывали', 'Denis', '0c3ca62b-34c3-4e2a-a234-44103ee76388');
+
+insert into news (id, date, text, title) values ('e5323efe-9074-43f8-88c7-7cc4913f7004','2022-08-09 16:24:00','Команда построила робота, имитирующего поведение каменных муравьев, которые используют специальную подготовку, при которой муравей, нашедший новое гнездо, которое намного лучше, может объяснить дорогу другому члену колонии. Выводы, опубликованные сегодня в Журнале экспериментальной биологии, подтверждают, что большинство важных элементов обучения у этих муравьев теперь понятны, поскольку обучающийся муравей может быть заменен машиной. Ключом к этому процессу обучения является бег в тандеме, когда один муравей буквально медленно ведет другого муравья по маршруту к новому гнезду. Обучающийся муравей усваивает маршрут достаточно хорошо, чтобы самостоятельно найти дорогу домой, а затем бежать со следующим муравьем к новому гнезду и так далее.','В США создали робота, который помогает понять способ передачи муравьями знаний');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-41ff91742abd','2022-08-09 17:34:00','Ученые молодцы', 'Anton', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-4248328043a6','2022-08-09 18:34:00','Вот это я понимаю стремительное развитие науки', 'Anton', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-43a283475b68','2022-08-09 19:34:00','Давно пора', 'Maxim', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-4415c43c89b8','2022-08-09 20:14:00','Наука не стоит на месте', 'Anton', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-4596158807cb','2022-08-09 20:34:00','Надо же такое придумать', 'Irina', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-4608067468bc','2022-08-09 21:34:00','Интересная задумка', 'Denis', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-47833745a001','2022-08-09 21:37:00','Надо же такое придумать', 'Maxim', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-482d681a8093','2022-08-09 21:44:00','Наука не стоит на месте', 'Anton', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-49d2f9e3b878','2022-08-09 22:34:00','Вот это я понимаю стремительное развитие науки', 'Vadim', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-5078009190b1','2022-08-09 23:34:00','Ученые молодцы', 'Denis', 'e5323efe-9074-43f8-88c7-7cc4913f7004');
+
+insert into news (id, date, text, title) values ('f4641f15-1455-473a-bfc0-061931aded0f','2022-08-09 15:24:00','Дисплей Redmi A65 2022 с частотой обновления 60 Гц и 78% охватом цветовой гаммы DCI-P3 способен отображать более 1 миллиарда оттенков. Телевизор работает на базе четырехъядерного процессора A35, в паре с которым идут 1,5 ГБ оперативной памяти и 8 ГБ встроенной. В качестве ОС используется Android TV с установленным поверх нее интерфейсом MIUI for TV. За звук отвечают стереодинамики общей мощностью 20 Вт. Из подключений устройство предлагает несколько портов USB, HDMI и другие интерфейсы.','Xiaomi выпустила огромный 4K-телевизор Redmi A65 2022 за 310 долларов');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-51ff91742abd','2022-08-09 17:34:00','Вот это я понимаю стремительное развитие науки', 'Anton', 'f4641f15-1455-473a-bfc0-061931aded0f');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-5248328043a6','2022-08-09 18:34:00','Я бы хотел себе такой телевизор', 'Anton', 'f4641f15-1455-473a-bfc0-061931aded0f');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-53a283475b68','2022-08-09 19:34:00','Интересная задумка', 'Maxim', 'f4641f15-1455-473a-bfc0-061931aded0f');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-5415c43c89b8','2022-08-09 20:14:00','Наука не стоит на месте', 'Anton', 'f4641f15-1455-473a-bfc0-061931aded0f');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-5596158807cb','2022-08-09 20:34:00','Давно пора', 'Irina', 'f4641f15-1455-473a-bfc0-061931aded0f');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-5608067468bc','2022-08-09 21:34:00','Хорошая новинка', 'Denis', 'f4641f15-1455-473a-bfc0-061931aded0f');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-57833745a001','2022-08-09 21:37:00','Давно пора, молодцы', 'Maxim', 'f4641f15-1455-473a-bfc0-061931aded0f');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-582d681a8093','2022-08-09 21:44:00','Хорошая новинка', 'Anton', 'f4641f15-1455-473a-bfc0-061931aded0f');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-59d2f9e3b878','2022-08-09 22:34:00','Я бы хотел себе такой телевизор', 'Vadim', 'f4641f15-1455-473a-bfc0-061931aded0f');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-6078009190b1','2022-08-09 23:34:00','Вот это я понимаю стремительное развитие науки', 'Denis', 'f4641f15-1455-473a-bfc0-061931aded0f');
+
+insert into news (id, date, text, title) values ('0a27983d-277a-4407-8380-ee976d640a86','2022-08-09 14:24:00','После релиза в прошлом году накладных наушников Los Angeles с интегрированными солнечными батареями шведская компания Urbanista подготовила беспроводные (TWS) наушники Phoenix, которые используют аналогичные элементы Powerfoyle, что применяются и в предыдущей версии. Однако в наушниках-затычках солнечные батареи размещены не на корпусе самих наушников, а на зарядном кейсе. Выпускаемые компанией Exeger элементы Powerfoyle призваны продлить срок работы наушников без подзарядки — полностью обойтись без розеток у пользователей Phoenix не получится. Сами TWS-наушники не имеют интегрированных солнечных элементов, они встроены в футляр Phoenix. В числе прочих характеристик Phoenix — защита от воды класса IPX4 (защищает преимущественно от пота, но не от ливня или душа), поддержка Bluetooth 5.2, а также наличие порта USB Type-C для зарядки в обычном режиме. Наушники поддерживают активное шумоподавление, имеют режим прозрачности, также есть возможность подключения двух устройств одновременно — это, например, удобно при ответе на телефонные звонки без потери соединения с ноутбуком. ','Шведская Urbanista представила TWS-наушники с встроенной в футляр солнечной батареей');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-61ff91742abd','2022-08-09 17:34:00','Хорошая новинка', 'Anton', '0a27983d-277a-4407-8380-ee976d640a86');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-6248328043a6','2022-08-09 18:34:00','Наука не стоит на месте', 'Anton', '0a27983d-277a-4407-8380-ee976d640a86');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-63a283475b68','2022-08-09 19:34:00','Я бы хотел себе такие наушники', 'Maxim', '0a27983d-277a-4407-8380-ee976d640a86');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-6415c43c89b8','2022-08-09 20:14:00','Интересная задумка', 'Anton', '0a27983d-277a-4407-8380-ee976d640a86');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-6596158807cb','2022-08-09 20:34:00','Давно пора, молодцы', 'Irina', '0a27983d-277a-4407-8380-ee976d640a86');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-6608067468bc','2022-08-09 21:34:00','Вот это я понимаю стремительное развитие науки', 'Denis', '0a27983d-277a-4407-8380-ee976d640a86');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-67833745a001','2022-08-09 21:37:00','Я бы хотел себе такие наушники', 'Maxim', '0a27983d-277a-4407-8380-ee976d640a86');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-682d681a8093','2022-08-09 21:44:00','Наука не стоит на месте', 'Anton', '0a27983d-277a-4407-8380-ee976d640a86');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-69d2f9e3b878','2022-08-09 22:34:00','Хорошая новинка', 'Vadim', '0a27983d-277a-4407-8380-ee976d640a86');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-7078009190b1','2022-08-09 23:34:00','Вот это я понимаю стремительное развитие науки', 'Denis', '0a27983d-277a-4407-8380-ee976d640a86');
+
+insert into news (id, date, text, title) values ('84d579c8-04fe-4c49-bb02-349a2f0fc8a8','2022-08-09 13:24:00','Китай не откажется от силового сценария, если мирного воссоединения с Тайванем не получится, Пекин оставляет за собой право отвечать на провокации «вопрос и дело воссоединения Китая в новую эпоху» совместно подготовили и опубликовали канцелярия Госсовета по делам Тайваня и пресс-канцелярия Госсовета КНР. «Белые книги» регулярно публикуются, чтобы разъяснить политику Пекина по разным проблемам. «Попытки добиться независимости Тайваня лишь подтолкнут остров в пучину катастрофы и нанесут серьезный вред тайваньским соотечественникам.  Для защиты общих интересов китайской нации, в том числе тайваньских соотечественников, мы должны решительно противостоять расколу и независимости Тайваня, а также способствовать мирному воссоединению родины», — говорится в тексте.','Китай опубликовал "Белую книгу" по ситуации с Тайванем');
+insert into comment (id, date, text, username, news_id) values ('11a908f1-aaff-4d41-a367-71ff91742abd','2022-08-09 17:34:00','Тайвань изначально был согласен на мирное воссоединение', 'Anton', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
+insert into comment (id, date, text, username, news_id) values ('2f5cd4c5-bcd3-4842-9896-7248328043a6','2022-08-09 18:34:00','ну, тем не менее, это дело сугубо Пекина и Тайваня', 'Anton', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
+insert into comment (id, date, text, username, news_id) values ('3f8a6e0f-c49d-4e06-8c7d-73a283475b68','2022-08-09 19:34:00','Всё равно в пользу Китая кончится всё', 'Maxim', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
+insert into comment (id, date, text, username, news_id) values ('4cd0d86e-27f9-4084-9b8b-7415c43c89b8','2022-08-09 20:14:00','Тем не менее, это дело сугубо Пекина и Тайваня', 'Anton', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
+insert into comment (id, date, text, username, news_id) values ('5f3319c3-bacf-446b-bb49-7596158807cb','2022-08-09 20:34:00','Китай лишь проявил терпение', 'Irina', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
+insert into comment (id, date, text, username, news_id) values ('6edf3aac-d119-4e71-bd33-7608067468bc','2022-08-09 21:34:00','Ожидаемо', 'Denis', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
+insert into comment (id, date, text, username, news_id) values ('70e98df9-770e-4861-a42f-77833745a001','2022-08-09 21:37:00','Всё равно в пользу Китая кончится всё', 'Maxim', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
+insert into comment (id, date, text, username, news_id) values ('8ff775e9-8477-46dc-90b6-782d681a8093','2022-08-09 21:44:00','Тайвань изначально был согласен на мирное воссоединение', 'Anton', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
+insert into comment (id, date, text, username, news_id) values ('920c4d55-c232-4bac-9984-79d2f9e3b878','2022-08-09 22:34:00','Ожидаемо', 'Vadim', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
+insert into comment (id, date, text, username, news_id) values ('99ed71bc-e744-451b-b58f-8078009190b1','2022-08-09 23:34:00','ну, тем не менее, это дело сугубо Пекина и Тайваня', 'Denis', '84d579c8-04fe-4c49-bb02-349a2f0fc8a8');
\ No newline at end of file
@@ -0,0 +1,56 @@
+package ru.company.news.api.aop;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import ru.company.news.api.config.LogProperties;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Audit log test")
+public class AuditLogTest {
+
+    @Test
+    @DisplayName("Publishing thread context test")
+    void publishContextTest() throws Exception {
+        Logger logger = (Logger) LoggerFactory.getLogger("audit-log-test");
+        logger.setLevel(Level.INFO);
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        logger.addAppender(appender);
+        AuditLog auditLog = new AuditLog(new LogProperties());
+
+        Thread request = new Thread(() -> {
+            MDC.put("requestId", "42");
+            try {
+                auditLog.publish(logger, "Called {}", "readNews");
+            } finally {
+                MDC.clear();
+            }
+        }, "http-nio-8080-exec-1");
+        long publishedAfter = System.currentTimeMillis();
+        request.start();
+        request.join();
+        long publishedBefore = System.currentTimeMillis();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (auditLog.getStats().getWrittenCount() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        auditLog.destroy();
+        logger.detachAppender(appender);
+
+        assertEquals(1, appender.list.size());
+        ILoggingEvent event = appender.list.get(0);
+        assertEquals("Called readNews", event.getFormattedMessage());
+        assertEquals("http-nio-8080-exec-1", event.getThreadName());
+        assertEquals("42", event.getMDCPropertyMap().get("requestId"));
+        assertTrue(event.getTimeStamp() >= publishedAfter && event.getTimeStamp() <= publishedBefore);
+    }
+}
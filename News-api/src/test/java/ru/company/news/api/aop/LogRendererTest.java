@@ -0,0 +1,45 @@
+package ru.company.news.api.aop;
+
+import org.hibernate.collection.internal.PersistentBag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.company.news.api.entity.comment.Comment;
+import ru.company.news.api.entity.news.News;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("Log renderer test")
+public class LogRendererTest {
+
+    private final LogRenderer logRenderer = new LogRenderer(10, 2);
+
+    @Test
+    @DisplayName("Entity rendering test")
+    void entityTest() {
+        News news = new News(UUID.randomUUID(), OffsetDateTime.now(),
+                "Касаткина выиграла теннисный турнир", "Теперь на ее счету пять титулов на турнирах WTA.");
+        Comment comment = new Comment(UUID.randomUUID(), OffsetDateTime.now(), "Ожидаемо", "Павел", news);
+        news.getComments().add(comment);
+
+        assertEquals("News(id=" + news.getId() + ", comments=1)", logRenderer.render(news));
+        assertEquals("Comment(id=" + comment.getId() + ", news=" + news.getId() + ")", logRenderer.render(comment));
+    }
+
+    @Test
+    @DisplayName("Uninitialized collection test")
+    void uninitializedCollectionTest() {
+        assertEquals(LogRenderer.NOT_LOADED, logRenderer.render(new PersistentBag()));
+    }
+
+    @Test
+    @DisplayName("Truncation test")
+    void truncationTest() {
+        assertEquals("Касаткина ... (35 characters)", logRenderer.render("Касаткина выиграла теннисный турнир"));
+        assertEquals("[1, 2, ... (3 in total)]", logRenderer.render(List.of(1, 2, 3)));
+        assertEquals(LogRenderer.NOT_DEFINED, logRenderer.render(null));
+    }
+}
@@ -0,0 +1,47 @@
+package ru.company.news.api.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import ru.company.news.api.service.comment.CommentService;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Service metrics aspect test")
+public class ServiceMetricsAspectTest {
+
+    @Test
+    @DisplayName("Service call timing test")
+    void timeTest() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CommentService commentService = Mockito.mock(CommentService.class);
+        UUID uuid = UUID.randomUUID();
+        when(commentService.deleteComment(uuid)).thenReturn(uuid);
+        when(commentService.readComment(uuid)).thenThrow(new EntityNotFoundException());
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(commentService);
+        proxyFactory.addInterface(CommentService.class);
+        proxyFactory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        CommentService timedCommentService = proxyFactory.getProxy();
+
+        timedCommentService.deleteComment(uuid);
+        assertThrows(EntityNotFoundException.class, () -> timedCommentService.readComment(uuid));
+
+        assertEquals(1, meterRegistry.get(ServiceMetricsAspect.TIMER)
+                .tag("method", "deleteComment")
+                .tag("outcome", ServiceMetricsAspect.SUCCESS)
+                .timer().count());
+        assertEquals(1, meterRegistry.get(ServiceMetricsAspect.TIMER)
+                .tag("method", "readComment")
+                .tag("exception", "EntityNotFoundException")
+                .timer().count());
+    }
+}
@@ -0,0 +1,357 @@
+package ru.company.news.api.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.util.unit.DataSize;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Guava cache test")
+public class GuavaCacheTest {
+
+    @Test
+    @DisplayName("Maximum size test")
+    void maximumSizeTest() {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setMaximumSize(2);
+        GuavaCache cache = new GuavaCache("news", spec);
+
+        cache.put(UUID.randomUUID(), "Касаткина выиграла теннисный турнир");
+        cache.put(UUID.randomUUID(), "Теперь на ее счету пять титулов на турнирах WTA.");
+        cache.put(UUID.randomUUID(), "Ожидаемо");
+
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getStats().evictionCount());
+    }
+
+    @Test
+    @DisplayName("Maximum weight test")
+    void maximumWeightTest() {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setMaximumWeight(DataSize.ofBytes(20));
+        GuavaCache cache = new GuavaCache("news", spec);
+
+        cache.put(UUID.randomUUID(), "Теперь на ее счету пять титулов на турнирах WTA.");
+
+        assertEquals(0, cache.getSize());
+        assertEquals(1, cache.getStats().evictionCount());
+    }
+
+    @Test
+    @DisplayName("Load statistics test")
+    void loadStatsTest() {
+        GuavaCache cache = new GuavaCache("comment", new CacheProperties.Spec());
+        AtomicInteger loads = new AtomicInteger();
+
+        Callable<String> valueLoader = () -> {
+            loads.incrementAndGet();
+            return "Ожидаемо";
+        };
+
+        assertEquals("Ожидаемо", cache.get("key", valueLoader));
+        assertEquals("Ожидаемо", cache.get("key", valueLoader));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().hitCount());
+        assertEquals(1, cache.getStats().missCount());
+        assertEquals(1, cache.getStats().loadSuccessCount());
+    }
+
+    @Test
+    @DisplayName("Refresh after write test")
+    void refreshAfterWriteTest() {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setRefreshAfterWrite(Duration.ZERO);
+        GuavaCache cache = new GuavaCache("news", spec);
+
+        assertEquals("Ожидаемо", cache.get("key", () -> "Ожидаемо"));
+        assertEquals("Ожидаемо", cache.get("key", () -> "Супер"));
+        assertEquals("Супер", cache.get("key", String.class));
+        assertEquals(2, cache.getStats().loadSuccessCount());
+    }
+
+    @Test
+    @DisplayName("Rejected refresh test")
+    void rejectedRefreshTest() {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setRefreshAfterWrite(Duration.ZERO);
+        GuavaCache cache = new GuavaCache("news", spec, CacheTagger.NONE, command -> {
+            throw new RejectedExecutionException();
+        });
+
+        assertEquals("Ожидаемо", cache.get("key", () -> "Ожидаемо"));
+        assertEquals("Ожидаемо", cache.get("key", () -> "Супер"));
+        assertEquals("Ожидаемо", cache.get("key", String.class));
+        assertEquals(1, cache.getStats().loadSuccessCount());
+    }
+
+    @Test
+    @DisplayName("Load exception test")
+    void loadExceptionTest() {
+        GuavaCache cache = new GuavaCache("comment", new CacheProperties.Spec());
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("key", () -> {
+            throw new IllegalStateException();
+        }));
+        assertNull(cache.get("key"));
+    }
+
+    @Test
+    @DisplayName("Entry version test")
+    void versionTest() {
+        GuavaCache cache = new GuavaCache("comment", new CacheProperties.Spec());
+        String value = "Ожидаемо";
+
+        assertNull(cache.getVersion(value));
+
+        cache.put("key", value);
+        String version = cache.getVersion(value);
+
+        assertNotNull(version);
+        assertEquals(version, cache.getVersion(cache.get("key", String.class)));
+        assertNull(cache.getVersion(new String(value)));
+
+        cache.put("key", value);
+
+        assertNotEquals(version, cache.getVersion(value));
+    }
+
+    @Test
+    @DisplayName("Unchanged reload version test")
+    void unchangedRefreshVersionTest() {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setRefreshAfterWrite(Duration.ZERO);
+        GuavaCache cache = new GuavaCache("news", spec);
+
+        String value = cache.get("key", () -> "Ожидаемо");
+        String version = cache.getVersion(value);
+        cache.get("key", () -> new String("Ожидаемо"));
+        String reloadedValue = cache.get("key", String.class);
+
+        assertNotSame(value, reloadedValue);
+        assertEquals(version, cache.getVersion(reloadedValue));
+
+        cache.get("key", () -> "Супер");
+
+        assertNotEquals(version, cache.getVersion(cache.get("key", String.class)));
+    }
+
+    @Test
+    @DisplayName("Tag eviction test")
+    void tagEvictionTest() {
+        GuavaCache cache = new GuavaCache("news", new CacheProperties.Spec(), CacheTaggers::news, Runnable::run);
+        OffsetDateTime date = OffsetDateTime.now();
+        NewsSummaryResponse news1 = new NewsSummaryResponse(UUID.randomUUID(), date,
+                "Касаткина выиграла теннисный турнир", "Теперь на ее счету пять титулов на турнирах WTA.");
+        NewsSummaryResponse news2 = new NewsSummaryResponse(UUID.randomUUID(), date,
+                "Касаткина выиграла", "Теперь на ее счету пять титулов на турнирах WTA.");
+        PageKey firstPage = new PageKey(PageRequest.of(0, 1));
+        PageKey secondPage = new PageKey(PageRequest.of(1, 1));
+
+        cache.put(firstPage, List.of(news1));
+        cache.put(secondPage, List.of(news2));
+        cache.evict(CacheTag.news(news2.getId()));
+
+        assertNotNull(cache.get(firstPage));
+        assertNull(cache.get(secondPage));
+
+        cache.put(secondPage, List.of(news2));
+        cache.evict(CacheTag.NEW_NEWS);
+
+        assertNull(cache.get(firstPage));
+        assertNotNull(cache.get(secondPage));
+    }
+
+    @Test
+    @DisplayName("Replaced entry tags test")
+    void replacedEntryTagsTest() {
+        GuavaCache cache = new GuavaCache("news", new CacheProperties.Spec(), CacheTaggers::news, Runnable::run);
+        OffsetDateTime date = OffsetDateTime.now();
+        NewsSummaryResponse news1 = new NewsSummaryResponse(UUID.randomUUID(), date,
+                "Касаткина выиграла теннисный турнир", "Теперь на ее счету пять титулов на турнирах WTA.");
+        NewsSummaryResponse news2 = new NewsSummaryResponse(UUID.randomUUID(), date,
+                "Касаткина выиграла", "Теперь на ее счету пять титулов на турнирах WTA.");
+        PageKey firstPage = new PageKey(PageRequest.of(0, 1));
+
+        cache.put(firstPage, List.of(news1));
+        cache.put(firstPage, List.of(news2));
+        cache.evict(CacheTag.news(news1.getId()));
+
+        assertNotNull(cache.get(firstPage));
+
+        cache.evict(CacheTag.news(news2.getId()));
+
+        assertNull(cache.get(firstPage));
+    }
+
+    @Test
+    @DisplayName("Coalesced load test")
+    void coalescedLoadTest() throws Exception {
+        GuavaCache cache = new GuavaCache("news", new CacheProperties.Spec());
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> firstCall = executor.submit(() -> cache.get("key", () -> {
+                loadStarted.countDown();
+                loadReleased.await();
+                return "Ожидаемо";
+            }));
+            loadStarted.await();
+            CompletableFuture<String> secondCall = CompletableFuture.supplyAsync(() ->
+                    cache.get("key", () -> "Супер"));
+            while (cache.getCoalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            loadReleased.countDown();
+
+            assertEquals("Ожидаемо", firstCall.get());
+            assertEquals("Ожидаемо", secondCall.get());
+            assertEquals(1, cache.getStats().loadCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Evicted load test")
+    void evictedLoadTest() throws Exception {
+        GuavaCache cache = new GuavaCache("news", new CacheProperties.Spec());
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> firstCall = executor.submit(() -> cache.get("key", () -> {
+                loadStarted.countDown();
+                loadReleased.await();
+                return "Ожидаемо";
+            }));
+            loadStarted.await();
+            cache.evict(CacheTag.NEW_NEWS);
+
+            assertEquals("Супер", cache.get("key", () -> "Супер"));
+
+            loadReleased.countDown();
+
+            assertEquals("Ожидаемо", firstCall.get());
+            assertEquals("Супер", cache.get("key", String.class));
+            assertEquals(0, cache.getCoalescedCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Read several keys test")
+    void getAllTest() throws Exception {
+        GuavaCache cache = new GuavaCache("newsById", new CacheProperties.Spec());
+        cache.put("cached", "Ожидаемо");
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<Map<String, String>> firstCall = executor.submit(() ->
+                    cache.getAll(List.of("cached", "loaded", "missing", "loaded"), keys -> {
+                        assertEquals(Set.of("loaded", "missing"), keys);
+                        loadStarted.countDown();
+                        awaitUninterruptibly(loadReleased);
+                        return Map.of("loaded", "Супер");
+                    }));
+            loadStarted.await();
+            CompletableFuture<String> secondCall = CompletableFuture.supplyAsync(() ->
+                    cache.get("loaded", () -> "Прикольно"));
+            while (cache.getCoalescedCount() == 0) {
+                Thread.onSpinWait();
+            }
+            loadReleased.countDown();
+
+            assertEquals(Map.of("cached", "Ожидаемо", "loaded", "Супер"), firstCall.get());
+            assertEquals("Супер", secondCall.get());
+            assertNull(cache.get("missing"));
+            assertEquals(1, cache.getStats().loadCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Evicted load of several keys test")
+    void evictedGetAllTest() throws Exception {
+        GuavaCache cache = new GuavaCache("newsById", new CacheProperties.Spec());
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<Map<String, String>> firstCall = executor.submit(() -> cache.getAll(List.of("key"), keys -> {
+                loadStarted.countDown();
+                awaitUninterruptibly(loadReleased);
+                return Map.of("key", "Ожидаемо");
+            }));
+            loadStarted.await();
+            cache.evict("key");
+            loadReleased.countDown();
+
+            assertEquals(Map.of("key", "Ожидаемо"), firstCall.get());
+            assertNull(cache.get("key"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Load timeout test")
+    void loadTimeoutTest() throws Exception {
+        CacheProperties.Spec spec = new CacheProperties.Spec();
+        spec.setLoadTimeout(Duration.ofMillis(10));
+        GuavaCache cache = new GuavaCache("news", spec);
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch loadReleased = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> cache.get("key", () -> {
+                loadStarted.countDown();
+                loadReleased.await();
+                return "Ожидаемо";
+            }));
+            loadStarted.await();
+
+            assertThrows(CacheLoadTimeoutException.class, () -> cache.get("key", () -> "Супер"));
+            assertEquals(1, cache.getLoadTimeoutCount());
+        } finally {
+            loadReleased.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
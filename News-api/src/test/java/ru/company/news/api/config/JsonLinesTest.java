@@ -0,0 +1,99 @@
+package ru.company.news.api.config;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import ru.company.news.api.constant.Dates;
+import ru.company.news.api.dto.news.response.NewsResponse;
+import ru.company.news.api.entity.View;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JSON lines test")
+public class JsonLinesTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+            .build();
+    private final JsonLines jsonLines = new JsonLines(objectMapper);
+
+    @Test
+    @DisplayName("Write values test")
+    void writeTest() throws Exception {
+        OffsetDateTime date = OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC);
+        NewsResponse news1 = new NewsResponse(UUID.randomUUID(), date, "Касаткина выиграла теннисный турнир",
+                "Теперь на ее счету пять титулов на турнирах WTA.");
+        NewsResponse news2 = new NewsResponse(UUID.randomUUID(), date, "Касаткина выиграла", "Ожидаемо");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertEquals(2, jsonLines.write(Stream.of(news1, news2)::forEach, View.Public.class, outputStream));
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        assertEquals(news1.getId().toString(), objectMapper.readTree(lines[0]).get("id").asText());
+        assertEquals(date.format(Dates.FORMATTER), objectMapper.readTree(lines[0]).get("date").asText());
+        assertEquals(news2.getTitle(), objectMapper.readTree(lines[1]).get("title").asText());
+    }
+
+    @Test
+    @DisplayName("Write no values test")
+    void writeEmptyTest() {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertEquals(0, jsonLines.write(writer -> {
+        }, null, outputStream));
+        assertEquals(0, outputStream.size());
+    }
+
+    @Test
+    @DisplayName("Gzip response test")
+    void gzipResponseTest() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertEquals(1, jsonLines.write(writer -> writer.accept("Ожидаемо"), null, "gzip, deflate", response));
+
+        assertEquals(MediaType.APPLICATION_NDJSON_VALUE, response.getContentType());
+        assertEquals("gzip", response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeader(HttpHeaders.VARY));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+            assertEquals("\"Ожидаемо\"\n", new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        MockHttpServletResponse plainResponse = new MockHttpServletResponse();
+        jsonLines.write(writer -> writer.accept("Ожидаемо"), null, null, plainResponse);
+        assertNull(plainResponse.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("\"Ожидаемо\"\n", plainResponse.getContentAsString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Failed response test")
+    void failedResponseTest() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThrows(IllegalStateException.class, () -> jsonLines.write(writer -> {
+            writer.accept("Ожидаемо");
+            throw new IllegalStateException();
+        }, null, "gzip", response));
+
+        assertFalse(response.isCommitted());
+        assertNull(response.getContentType());
+        assertNull(response.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(0, response.getContentAsByteArray().length);
+    }
+}
@@ -0,0 +1,145 @@
+package ru.company.news.api.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import ru.company.news.api.dto.log.response.SlowQueryResponse;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Slow query log test")
+public class SlowQueryLogTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(SlowQueryLog.class);
+    private Level level;
+    private SlowQueryLog slowQueryLog;
+    private DataSource dataSource;
+
+    @BeforeEach
+    void initialization() {
+        level = logger.getLevel();
+        logger.setLevel(Level.DEBUG);
+        SlowQueryProperties properties = new SlowQueryProperties();
+        properties.setThreshold(Duration.ZERO);
+        properties.setTopSize(2);
+        slowQueryLog = new SlowQueryLog(properties);
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:slow_query;DB_CLOSE_DELAY=-1");
+        dataSource = SlowQueryProxies.wrap(h2, () -> slowQueryLog);
+    }
+
+    @AfterEach
+    void cleanup() throws Exception {
+        slowQueryLog.destroy();
+        logger.setLevel(level);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("drop table if exists news");
+        }
+    }
+
+    @Test
+    @DisplayName("Slow statement with bind values and plan test")
+    void slowQueryTest() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table news (id int primary key, title varchar(100))");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("select title from news where id = ?")) {
+                statement.setInt(1, 7);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    assertFalse(resultSet.next());
+                }
+            }
+        }
+
+        List<SlowQueryResponse> slowQueries = slowQueryLog.getSlowQueries();
+        assertEquals(2, slowQueries.size());
+        SlowQueryResponse select = awaitPlan("select");
+        assertEquals(1, select.getCount());
+        assertEquals("[1=7]", select.getLastParameters());
+        assertNotNull(select.getPlan());
+        assertFalse(select.getPlan().startsWith("not available"));
+    }
+
+    @Test
+    @DisplayName("Slow batch with all bind values test")
+    void slowBatchTest() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("create table news (id int primary key, title varchar(100))");
+            }
+            try (PreparedStatement statement = connection.prepareStatement("insert into news values (?, ?)")) {
+                for (int id = 1; id <= 3; id++) {
+                    statement.setInt(1, id);
+                    statement.setString(2, "title" + id);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        SlowQueryResponse insert = find("insert");
+        assertEquals("[1=1, 2=title1]; [1=2, 2=title2]; [1=3, 2=title3]", insert.getLastParameters());
+        assertNull(insert.getPlan());
+    }
+
+    @Test
+    @DisplayName("Failed statement without plan test")
+    void failedQueryTest() throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select cast(? as int)")) {
+            statement.setString(1, "seven");
+            assertThrows(SQLException.class, statement::executeQuery);
+        }
+
+        SlowQueryResponse select = find("select");
+        assertEquals(1, select.getCount());
+        assertNull(select.getPlan());
+    }
+
+    @Test
+    @DisplayName("Bind values only at the debug level test")
+    void hiddenParametersTest() throws Exception {
+        logger.setLevel(Level.INFO);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select cast(? as varchar)")) {
+            statement.setString(1, "secret");
+            statement.executeQuery().close();
+        }
+
+        assertNull(find("select").getLastParameters());
+    }
+
+    private SlowQueryResponse find(String prefix) {
+        return slowQueryLog.getSlowQueries().stream()
+                .filter(slowQuery -> slowQuery.getSql().startsWith(prefix))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private SlowQueryResponse awaitPlan(String prefix) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        SlowQueryResponse slowQuery = find(prefix);
+        while (slowQuery.getPlan() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            slowQuery = find(prefix);
+        }
+        return slowQuery;
+    }
+}
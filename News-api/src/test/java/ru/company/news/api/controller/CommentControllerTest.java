@@ -20,8 +20,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.company.news.api.constant.Dates;
 import ru.company.news.api.dto.comment.request.CreateCommentRequest;
 import ru.company.news.api.dto.comment.request.UpdateCommentRequest;
+import ru.company.news.api.dto.comment.response.CommentDetailsResponse;
 import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.entity.news.News;
 import ru.company.news.api.parameterResolver.InvalidCommentParameterResolver;
@@ -30,10 +32,14 @@ import ru.company.news.api.service.comment.CommentService;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -64,7 +70,7 @@ public class CommentControllerTest {
                     .andExpect(MockMvcResultMatchers.status().isCreated())
                     .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                     .andExpect(jsonPath("$.id", Matchers.is(comment.getId().toString())))
-                    .andExpect(jsonPath("$.date", Matchers.is(comment.getDate())))
+                    .andExpect(jsonPath("$.date", Matchers.is(comment.getDate().format(Dates.FORMATTER))))
                     .andExpect(jsonPath("$.text", Matchers.is(comment.getText())))
                     .andExpect(jsonPath("$.username", Matchers.is(comment.getUsername())))
                     .andExpect(jsonPath("$.news").doesNotExist())
@@ -73,14 +79,14 @@ public class CommentControllerTest {
 
     private static Stream<Comment> provideCreateComment() throws IOException {
         return Stream.of(
-                new Comment(UUID.randomUUID(), "07-08-2022 17:24", "Ожидаемо", "Anton",
-                        new News(UUID.randomUUID(), "07-08-2022 17:24", "Касаткина выиграла теннисный турнир",
+                new Comment(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Ожидаемо", "Anton",
+                        new News(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Касаткина выиграла теннисный турнир",
                                 "Теперь на ее счету пять титулов на турнирах WTA.")),
-                new Comment(UUID.randomUUID(), "07-09-2022 17:24", "Прикольно", "Maxim",
-                        new News(UUID.randomUUID(), "07-08-2022 17:24", "Касаткина проиграла теннисный турнир",
+                new Comment(UUID.randomUUID(), OffsetDateTime.of(2022, 9, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Прикольно", "Maxim",
+                        new News(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Касаткина проиграла теннисный турнир",
                                 "Теперь на ее счету четыре титулов на турнирах WTA.")),
-                new Comment(UUID.randomUUID(), "06-08-2022 10:24", "Класс", "Anton",
-                        new News(UUID.randomUUID(), "07-08-2022 17:24", "Касаткина была на теннисный турнир",
+                new Comment(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 6, 10, 24, 0, 0, ZoneOffset.UTC), "Класс", "Anton",
+                        new News(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Касаткина была на теннисный турнир",
                                 "Теперь на ее счету три титулов на турнирах WTA."))
         );
     }
@@ -97,17 +103,19 @@ public class CommentControllerTest {
         void readCommentTest(Comment comment) throws Exception {
             UUID id = UUID.randomUUID();
 
-            when(commentService.readComment(id)).thenReturn(comment);
+            when(commentService.readComment(id)).thenReturn(new CommentDetailsResponse(comment.getId(),
+                    comment.getDate(), comment.getText(), comment.getUsername(), comment.getNews().getId()));
 
             mockMvc.perform(MockMvcRequestBuilders.get("/comment/details/{id}", id)
                             .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
                     .andExpect(MockMvcResultMatchers.status().isOk())
                     .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                     .andExpect(jsonPath("$.id", Matchers.is(comment.getId().toString())))
-                    .andExpect(jsonPath("$.date", Matchers.is(comment.getDate())))
+                    .andExpect(jsonPath("$.date", Matchers.is(comment.getDate().format(Dates.FORMATTER))))
                     .andExpect(jsonPath("$.text", Matchers.is(comment.getText())))
                     .andExpect(jsonPath("$.username", Matchers.is(comment.getUsername())))
                     .andExpect(jsonPath("$.news").doesNotExist())
+                    .andExpect(jsonPath("$.newsId").doesNotExist())
                     .andDo(MockMvcResultHandlers.print());
         }
 
@@ -126,7 +134,7 @@ public class CommentControllerTest {
                     .andExpect(MockMvcResultMatchers.status().isOk())
                     .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                     .andExpect(jsonPath("$.id", Matchers.is(comment.getId().toString())))
-                    .andExpect(jsonPath("$.date", Matchers.is(comment.getDate())))
+                    .andExpect(jsonPath("$.date", Matchers.is(comment.getDate().format(Dates.FORMATTER))))
                     .andExpect(jsonPath("$.text", Matchers.is(comment.getText())))
                     .andExpect(jsonPath("$.username", Matchers.is(comment.getUsername())))
                     .andExpect(jsonPath("$.news").doesNotExist())
@@ -170,6 +178,24 @@ public class CommentControllerTest {
                     .andDo(MockMvcResultHandlers.print());
         }
 
+        @RepeatedTest(5)
+        @DisplayName("Create comments test")
+        void createCommentsTest(Comment comment) throws Exception {
+            List<CreateCommentRequest> createCommentRequests = List.of(
+                    new CreateCommentRequest("Ожидаемо", "Anton", UUID.randomUUID()),
+                    new CreateCommentRequest(comment.getText(), comment.getUsername(), comment.getNews().getId()));
+
+            mockMvc.perform(post("/comment/batch")
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .content(gson.toJson(createCommentRequests)))
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(jsonPath("$.localDate",
+                            Matchers.is(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")))))
+                    .andDo(MockMvcResultHandlers.print());
+            verifyNoInteractions(commentService);
+        }
+
         @RepeatedTest(5)
         @DisplayName("Read comment test")
         void readCommentTest(Comment comment) throws Exception {
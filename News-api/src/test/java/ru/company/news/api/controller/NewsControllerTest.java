@@ -11,34 +11,65 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.company.news.api.config.CacheConfig;
+import ru.company.news.api.config.CacheETags;
+import ru.company.news.api.config.ExportConfig;
+import ru.company.news.api.config.GuavaCacheManager;
+import ru.company.news.api.config.JsonFields;
+import ru.company.news.api.config.JsonLines;
+import ru.company.news.api.config.JsonResponseCache;
+import ru.company.news.api.config.PageKey;
+import ru.company.news.api.constant.Dates;
 import ru.company.news.api.controller.news.NewsController;
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
+import ru.company.news.api.dto.comment.response.CommentResponse;
 import ru.company.news.api.dto.news.request.CreateNewsRequest;
+import ru.company.news.api.dto.news.request.SearchMode;
 import ru.company.news.api.dto.news.request.UpdateNewsRequest;
+import ru.company.news.api.dto.news.response.NewsDetailsResponse;
+import ru.company.news.api.dto.news.response.NewsResponse;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
+import ru.company.news.api.dto.page.Cursor;
+import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.entity.news.News;
 import ru.company.news.api.parameterResolver.InvalidNewsParameterResolver;
 import ru.company.news.api.parameterResolver.ValidNewsParameterResolver;
 import ru.company.news.api.service.news.NewsService;
 
 import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 
 @DisplayName("News controller test")
 @WebMvcTest(NewsController.class)
+@Import({CacheConfig.class, CacheETags.class, ExportConfig.class, JsonFields.class, JsonLines.class,
+        JsonResponseCache.class})
 public class NewsControllerTest {
 
     @Autowired
@@ -47,6 +78,8 @@ public class NewsControllerTest {
     private NewsService newsService;
     @Autowired
     private Gson gson;
+    @Autowired
+    private GuavaCacheManager cacheManager;
 
     @Nested
     @ExtendWith(MockitoExtension.class)
@@ -56,12 +89,12 @@ public class NewsControllerTest {
         @RepeatedTest(5)
         @DisplayName("Get news test")
         void getNewsTest(News news) throws Exception {
-            List<News> newsList = new ArrayList<>();
-            newsList.add(news);
+            List<NewsSummaryResponse> newsList = new ArrayList<>();
+            newsList.add(summary(news));
 
             Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
 
-            when(newsService.getNews(pageable)).thenReturn(newsList);
+            when(newsService.getNews(pageable, null)).thenReturn(newsList);
 
             mockMvc.perform(MockMvcRequestBuilders.get("/news")
                             .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -71,24 +104,118 @@ public class NewsControllerTest {
                     .andExpect(MockMvcResultMatchers.status().isOk())
                     .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                     .andExpect(jsonPath("$.[*].id", Matchers.contains(news.getId().toString())))
-                    .andExpect(jsonPath("$.[*].date", Matchers.contains(news.getDate())))
+                    .andExpect(jsonPath("$.[*].date", Matchers.contains(news.getDate().format(Dates.FORMATTER))))
                     .andExpect(jsonPath("$.[*].title", Matchers.contains(news.getTitle())))
-                    .andExpect(jsonPath("$.[*].text", Matchers.contains(news.getText())))
+                    .andExpect(jsonPath("$.[*].excerpt", Matchers.contains(news.getText())))
                     .andExpect(jsonPath("$.[*].comments").doesNotExist())
                     .andDo(MockMvcResultHandlers.print());
         }
 
+        @RepeatedTest(5)
+        @DisplayName("Get news gzip test")
+        void getNewsGzipTest(News news) throws Exception {
+            List<NewsSummaryResponse> newsList = Collections.nCopies(20, summary(news));
+            Pageable pageable = PageRequest.of(0, 20, Sort.by("date").ascending());
+
+            when(newsService.getNews(pageable, null)).thenReturn(newsList);
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/news")
+                            .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")
+                            .param("page", "0")
+                            .param("size", "20")
+                            .param("sort", "date"))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                    .andDo(MockMvcResultHandlers.print());
+        }
+
+        @RepeatedTest(5)
+        @DisplayName("Get news not modified test")
+        void getNewsNotModifiedTest(News news) throws Exception {
+            List<NewsSummaryResponse> newsList = List.of(summary(news));
+            Pageable pageable = PageRequest.of(0, 8, Sort.by("date").ascending());
+            cacheManager.getCache("news").put(new PageKey(pageable, null), newsList);
+
+            when(newsService.getNews(pageable, null)).thenReturn(newsList);
+
+            String eTag = mockMvc.perform(MockMvcRequestBuilders.get("/news")
+                            .param("size", "8")
+                            .param("sort", "date"))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/news")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                            .param("size", "8")
+                            .param("sort", "date"))
+                    .andExpect(MockMvcResultMatchers.status().isNotModified())
+                    .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, eTag))
+                    .andExpect(MockMvcResultMatchers.content().bytes(new byte[0]))
+                    .andDo(MockMvcResultHandlers.print());
+
+            // The cached page is read on each request, so that a stale entry is reloaded
+            verify(newsService, times(2)).getNews(pageable, null);
+        }
+
+        @RepeatedTest(5)
+        @DisplayName("Get news fields test")
+        void getNewsFieldsTest(News news) throws Exception {
+            List<NewsSummaryResponse> newsList = List.of(summary(news));
+            Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
+
+            when(newsService.getNews(pageable, Set.of("id", "title"))).thenReturn(newsList);
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/news")
+                            .param("size", "9")
+                            .param("sort", "date")
+                            .param("fields", "id,title"))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(jsonPath("$.[*].id", Matchers.contains(news.getId().toString())))
+                    .andExpect(jsonPath("$.[*].title", Matchers.contains(news.getTitle())))
+                    .andExpect(jsonPath("$.[*].date").doesNotExist())
+                    .andExpect(jsonPath("$.[*].excerpt").doesNotExist())
+                    .andDo(MockMvcResultHandlers.print());
+        }
+
+        @RepeatedTest(5)
+        @DisplayName("Get news by cursor test")
+        void getNewsByCursorTest(News news) throws Exception {
+            List<NewsSummaryResponse> newsList = new ArrayList<>();
+            newsList.add(summary(news));
+            Cursor after = new Cursor(news.getDate().minusDays(1), UUID.randomUUID());
+            Pageable pageable = PageRequest.of(0, 1, Sort.by("date").ascending());
+
+            when(newsService.getNews(Cursor.valueOf(after.toString()), null, pageable, null)).thenReturn(newsList);
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/news")
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .param("after", after.toString())
+                            .param("size", "1")
+                            .param("sort", "date"))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(MockMvcResultMatchers.header().string(Cursor.NEXT_CURSOR_HEADER,
+                            new Cursor(news.getDate(), news.getId()).toString()))
+                    .andExpect(jsonPath("$.[*].id", Matchers.contains(news.getId().toString())))
+                    .andDo(MockMvcResultHandlers.print());
+        }
+
         @RepeatedTest(5)
         @DisplayName("Get news by parameters test")
         void getNewsByParametersTest(News news) throws Exception {
-            List<News> newsList = new ArrayList<>();
-            newsList.add(news);
-            String userInputDate = news.getDate();
+            List<NewsSummaryResponse> newsList = new ArrayList<>();
+            newsList.add(summary(news));
+            String userInputDate = news.getDate().format(Dates.FORMATTER);
             String userInputTitle = news.getTitle();
             String userInputText = news.getText();
             Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
 
-            when(newsService.getNews(userInputDate, userInputTitle, userInputText, pageable)).thenReturn(newsList);
+            when(newsService.getNews(userInputDate, null, null, userInputTitle, userInputText,
+                    SearchMode.FULL_TEXT, pageable, null)).thenReturn(newsList);
 
             mockMvc.perform(MockMvcRequestBuilders.get("/news/parameter")
                             .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -101,9 +228,9 @@ public class NewsControllerTest {
                     .andExpect(MockMvcResultMatchers.status().isOk())
                     .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                     .andExpect(jsonPath("$.[*].id", Matchers.contains(news.getId().toString())))
-                    .andExpect(jsonPath("$.[*].date", Matchers.contains(news.getDate())))
+                    .andExpect(jsonPath("$.[*].date", Matchers.contains(news.getDate().format(Dates.FORMATTER))))
                     .andExpect(jsonPath("$.[*].title", Matchers.contains(news.getTitle())))
-                    .andExpect(jsonPath("$.[*].text", Matchers.contains(news.getText())))
+                    .andExpect(jsonPath("$.[*].excerpt", Matchers.contains(news.getText())))
                     .andExpect(jsonPath("$.[*].comments").doesNotExist())
                     .andDo(MockMvcResultHandlers.print());
         }
@@ -121,7 +248,7 @@ public class NewsControllerTest {
                     .andExpect(MockMvcResultMatchers.status().isCreated())
                     .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                     .andExpect(jsonPath("$.id", Matchers.matchesRegex("^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$")))
-                    .andExpect(jsonPath("$.date", Matchers.is(news.getDate())))
+                    .andExpect(jsonPath("$.date", Matchers.is(news.getDate().format(Dates.FORMATTER))))
                     .andExpect(jsonPath("$.title", Matchers.is(news.getTitle())))
                     .andExpect(jsonPath("$.text", Matchers.is(news.getText())))
                     .andExpect(jsonPath("$.comments").doesNotExist())
@@ -133,7 +260,10 @@ public class NewsControllerTest {
         void readNewsTest(News news) throws Exception {
             Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
 
-            when(newsService.readNews(news.getId(), pageable)).thenReturn(news);
+            NewsDetailsResponse newsDetailsResponse = new NewsDetailsResponse(news.getId(), news.getDate(),
+                    news.getTitle(), news.getText(), toCommentResponses(news.getComments()));
+
+            when(newsService.readNews(news.getId(), pageable, null)).thenReturn(newsDetailsResponse);
 
             mockMvc.perform(MockMvcRequestBuilders.get("/news/details/{id}", news.getId())
                             .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -143,16 +273,63 @@ public class NewsControllerTest {
                     .andExpect(MockMvcResultMatchers.status().isOk())
                     .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                     .andExpect(jsonPath("$.id", Matchers.is(news.getId().toString())))
-                    .andExpect(jsonPath("$.date", Matchers.is(news.getDate())))
+                    .andExpect(jsonPath("$.date", Matchers.is(news.getDate().format(Dates.FORMATTER))))
                     .andExpect(jsonPath("$.title", Matchers.is(news.getTitle())))
                     .andExpect(jsonPath("$.text", Matchers.is(news.getText())))
                     .andExpect(jsonPath("$.comments[:1].id", Matchers.contains(news.getComments().get(0).getId().toString())))
-                    .andExpect(jsonPath("$.comments[:1].date", Matchers.contains(news.getComments().get(0).getDate())))
+                    .andExpect(jsonPath("$.comments[:1].date", Matchers.contains(news.getComments().get(0).getDate().format(Dates.FORMATTER))))
                     .andExpect(jsonPath("$.comments[:1].text", Matchers.contains(news.getComments().get(0).getText())))
                     .andExpect(jsonPath("$.comments[:1].username", Matchers.contains(news.getComments().get(0).getUsername())))
                     .andDo(MockMvcResultHandlers.print());
         }
 
+        @RepeatedTest(5)
+        @DisplayName("Read several news test")
+        void readSeveralNewsTest(News news) throws Exception {
+            UUID missingId = UUID.randomUUID();
+            NewsResponse newsResponse = new NewsResponse(news.getId(), news.getDate(), news.getTitle(), news.getText());
+
+            when(newsService.readNews(List.of(news.getId(), missingId)))
+                    .thenReturn(List.of(BatchReadResponse.of(news.getId(), newsResponse), BatchReadResponse.of(missingId, null)));
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/news/batch")
+                            .param("ids", news.getId() + "," + missingId))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(jsonPath("$.[*].id", Matchers.contains(news.getId().toString(), missingId.toString())))
+                    .andExpect(jsonPath("$.[*].found", Matchers.contains(true, false)))
+                    .andExpect(jsonPath("$[0].entity.title", Matchers.is(news.getTitle())))
+                    .andExpect(jsonPath("$[0].entity.text", Matchers.is(news.getText())))
+                    .andExpect(jsonPath("$[0].entity.comments").doesNotExist())
+                    .andExpect(jsonPath("$[1].entity").doesNotExist())
+                    .andDo(MockMvcResultHandlers.print());
+        }
+
+        @RepeatedTest(5)
+        @DisplayName("Read news fields test")
+        void readNewsFieldsTest(News news) throws Exception {
+            Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
+
+            NewsDetailsResponse newsDetailsResponse = new NewsDetailsResponse(news.getId(), news.getDate(),
+                    news.getTitle(), news.getText(), null);
+
+            cacheManager.getCache("newsDetails").put(news.getId(), newsDetailsResponse);
+
+            when(newsService.readNews(news.getId(), pageable, Set.of("title"))).thenReturn(newsDetailsResponse);
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/news/details/{id}", news.getId())
+                            .param("size", "9")
+                            .param("sort", "date")
+                            .param("fields", "title"))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.ETAG))
+                    .andExpect(jsonPath("$.title", Matchers.is(news.getTitle())))
+                    .andExpect(jsonPath("$.id").doesNotExist())
+                    .andExpect(jsonPath("$.text").doesNotExist())
+                    .andExpect(jsonPath("$.comments").doesNotExist())
+                    .andDo(MockMvcResultHandlers.print());
+        }
+
         @RepeatedTest(5)
         @DisplayName("Update news test")
         void updateNewsTest(News news) throws Exception {
@@ -166,7 +343,7 @@ public class NewsControllerTest {
                     .andExpect(MockMvcResultMatchers.status().isOk())
                     .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                     .andExpect(jsonPath("$.id", Matchers.is(news.getId().toString())))
-                    .andExpect(jsonPath("$.date", Matchers.is(news.getDate())))
+                    .andExpect(jsonPath("$.date", Matchers.is(news.getDate().format(Dates.FORMATTER))))
                     .andExpect(jsonPath("$.title", Matchers.is(news.getTitle())))
                     .andExpect(jsonPath("$.text", Matchers.is(news.getText())))
                     .andExpect(jsonPath("$.comments").doesNotExist())
@@ -187,6 +364,32 @@ public class NewsControllerTest {
                     .andExpect(MockMvcResultMatchers.content().json(gson.toJson(id)))
                     .andDo(MockMvcResultHandlers.print());
         }
+
+        @RepeatedTest(5)
+        @DisplayName("Export news test")
+        void exportNewsTest(News news) throws Exception {
+            LocalDateTime since = news.getDate().toLocalDateTime().withSecond(0).withNano(0);
+            NewsResponse newsResponse = new NewsResponse(news.getId(), news.getDate(), news.getTitle(), news.getText());
+
+            when(newsService.exportNews(eq(since), any())).thenAnswer(invocation -> {
+                Consumer<Object> consumer = invocation.getArgument(1);
+                consumer.accept(newsResponse);
+                return 1L;
+            });
+
+            MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/news/export")
+                            .param("since", since.format(Dates.FORMATTER)))
+                    .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                    .andReturn();
+
+            mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                    .andExpect(jsonPath("$.id", Matchers.is(news.getId().toString())))
+                    .andExpect(jsonPath("$.title", Matchers.is(news.getTitle())))
+                    .andExpect(MockMvcResultMatchers.content().string(Matchers.endsWith("}\n")))
+                    .andDo(MockMvcResultHandlers.print());
+        }
     }
 
 
@@ -198,12 +401,12 @@ public class NewsControllerTest {
         @Test
         @DisplayName("Get news test")
         void getNewsTest(News news) throws Exception {
-            List<News> newsList = new ArrayList<>();
-            newsList.add(news);
+            List<NewsSummaryResponse> newsList = new ArrayList<>();
+            newsList.add(summary(news));
 
             Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
 
-            when(newsService.getNews(pageable)).thenReturn(newsList);
+            when(newsService.getNews(pageable, null)).thenReturn(newsList);
 
             // .param("page") = 1
             mockMvc.perform(MockMvcRequestBuilders.get("/news")
@@ -216,11 +419,56 @@ public class NewsControllerTest {
                     .andExpect(jsonPath("$.[*].id").doesNotExist())
                     .andExpect(jsonPath("$.[*].date").doesNotExist())
                     .andExpect(jsonPath("$.[*].title").doesNotExist())
-                    .andExpect(jsonPath("$.[*].text").doesNotExist())
+                    .andExpect(jsonPath("$.[*].excerpt").doesNotExist())
                     .andExpect(jsonPath("$.[*].comments").doesNotExist())
                     .andDo(MockMvcResultHandlers.print());
         }
 
+        @Test
+        @DisplayName("Get news fields test")
+        void getNewsFieldsTest() throws Exception {
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/news")
+                            .param("size", "9")
+                            .param("sort", "date")
+                            .param("fields", "id,text"))
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andDo(MockMvcResultHandlers.print());
+
+            verifyNoInteractions(newsService);
+        }
+
+        @Test
+        @DisplayName("Get news by cursor test")
+        void getNewsByCursorTest() throws Exception {
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/news")
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .param("after", "not-a-cursor")
+                            .param("size", "9")
+                            .param("sort", "date"))
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andDo(MockMvcResultHandlers.print());
+        }
+
+        @Test
+        @DisplayName("Get news by cursor with unsupported sort test")
+        void getNewsByCursorUnsupportedSortTest() throws Exception {
+
+            mockMvc.perform(MockMvcRequestBuilders.get("/news")
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .param("after", new Cursor(OffsetDateTime.now(), UUID.randomUUID()).toString())
+                            .param("size", "9")
+                            .param("sort", "title"))
+                    .andExpect(MockMvcResultMatchers.status().isBadRequest())
+                    .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andDo(MockMvcResultHandlers.print());
+
+            verifyNoInteractions(newsService);
+        }
+
         @Test
         @DisplayName("Get news by parameters test")
         void getNewsByParametersTest() throws Exception {
@@ -301,4 +549,15 @@ public class NewsControllerTest {
                     .andDo(MockMvcResultHandlers.print());
         }
     }
+
+    private static NewsSummaryResponse summary(News news) {
+        return new NewsSummaryResponse(news.getId(), news.getDate(), news.getTitle(), news.getText());
+    }
+
+    private static List<CommentResponse> toCommentResponses(List<Comment> comments) {
+        return comments.stream()
+                .map(comment -> new CommentResponse(comment.getId(), comment.getDate(), comment.getText(),
+                        comment.getUsername()))
+                .collect(Collectors.toList());
+    }
 }
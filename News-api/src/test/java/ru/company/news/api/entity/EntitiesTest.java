@@ -5,8 +5,7 @@ import org.junit.jupiter.api.Test;
 import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.entity.news.News;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.UUID;
 
@@ -19,8 +18,9 @@ public class EntitiesTest {
     @DisplayName("Test creation news entities")
     void newsCreationTest() {
         UUID uuid = UUID.randomUUID();
+        OffsetDateTime date = OffsetDateTime.now();
         News news1 = new News();
-        News news2 = new News(uuid, LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")),
+        News news2 = new News(uuid, date,
                 "Касаткина выиграла теннисный турнир", "Теперь на ее счету пять титулов на турнирах WTA.");
 
         assertNull(news1.getId());
@@ -30,7 +30,7 @@ public class EntitiesTest {
         assertEquals(new ArrayList<>(), news1.getComments());
 
         assertEquals(uuid, news2.getId());
-        assertEquals(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")), news2.getDate());
+        assertEquals(date, news2.getDate());
         assertEquals("Касаткина выиграла теннисный турнир", news2.getTitle());
         assertEquals("Теперь на ее счету пять титулов на турнирах WTA.", news2.getText());
         assertEquals(new ArrayList<>(), news2.getComments());
@@ -41,11 +41,12 @@ public class EntitiesTest {
     void commentCreationTest() {
         UUID uuid1 = UUID.randomUUID();
         UUID uuid2 = UUID.randomUUID();
+        OffsetDateTime date = OffsetDateTime.now();
 
-        News news = new News(uuid1, LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")),
+        News news = new News(uuid1, date,
                 "Касаткина выиграла теннисный турнир", "Теперь на ее счету пять титулов на турнирах WTA.");
         Comment comment1 = new Comment();
-        Comment comment2 = new Comment(uuid2, LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")),
+        Comment comment2 = new Comment(uuid2, date,
                 "Ожидаемо", "Anton", news);
 
         assertNull(comment1.getId());
@@ -55,7 +56,7 @@ public class EntitiesTest {
         assertNull(comment1.getNews());
 
         assertEquals(uuid2, comment2.getId());
-        assertEquals(LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")), comment2.getDate());
+        assertEquals(date, comment2.getDate());
         assertEquals("Ожидаемо", comment2.getText());
         assertEquals("Anton", comment2.getUsername());
         assertEquals(news, comment2.getNews());
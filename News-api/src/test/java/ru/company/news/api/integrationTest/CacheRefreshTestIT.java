@@ -0,0 +1,122 @@
+package ru.company.news.api.integrationTest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.annotation.Bean;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.company.news.api.config.GuavaCache;
+import ru.company.news.api.config.GuavaCacheManager;
+import ru.company.news.api.entity.news.News;
+import ru.company.news.api.repository.news.NewsRepository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@SpringBootTest(properties = "news-api.cache.caches[commentCount].refresh-after-write=0s")
+@DisplayName("Cache refresh integration test")
+public class CacheRefreshTestIT {
+
+    @Autowired
+    private CommentCounter commentCounter;
+    @Autowired
+    private GuavaCacheManager cacheManager;
+    @Autowired
+    private NewsRepository newsRepository;
+
+    private News news;
+
+    @BeforeEach
+    void dataInitialization() {
+        news = newsRepository.save(News.builder()
+                .date(OffsetDateTime.now())
+                .title("Касаткина выиграла теннисный турнир")
+                .text("Теперь на ее счету пять титулов на турнирах WTA.")
+                .build());
+    }
+
+    @AfterEach
+    void dataCleanup() {
+        newsRepository.deleteById(news.getId());
+    }
+
+    @Test
+    @DisplayName("Refresh of lazy data test")
+    void refreshLazyDataTest() throws Exception {
+        GuavaCache cache = cacheManager.getCache("commentCount");
+
+        Assertions.assertEquals(0, commentCounter.countComments(news.getId()));
+
+        // The entry is older than the refresh time, the cached count is returned and reloaded in the background
+        Assertions.assertEquals(0, commentCounter.countComments(news.getId()));
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (cache.getStats().loadCount() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(2, cache.getStats().loadSuccessCount());
+        Assertions.assertEquals(0, cache.getStats().loadExceptionCount());
+    }
+
+    @Test
+    @DisplayName("Eviction after commit test")
+    void evictAfterCommitTest() {
+        GuavaCache cache = cacheManager.getCache("commentCount");
+        commentCounter.countComments(news.getId());
+        AtomicBoolean cachedAtCommit = new AtomicBoolean();
+
+        commentCounter.evictComments(news.getId(), () -> cachedAtCommit.set(cache.get(news.getId()) != null));
+
+        Assertions.assertTrue(cachedAtCommit.get());
+        Assertions.assertNull(cache.get(news.getId()));
+    }
+
+    @TestConfiguration
+    static class CommentCounterConfig {
+
+        @Bean
+        public CommentCounter commentCounter(NewsRepository newsRepository) {
+            return new CommentCounter(newsRepository);
+        }
+    }
+
+    /**
+     * Cacheable method reading the lazy comments of the news, which needs the session of its transaction.
+     */
+    public static class CommentCounter {
+
+        private final NewsRepository newsRepository;
+
+        public CommentCounter(NewsRepository newsRepository) {
+            this.newsRepository = newsRepository;
+        }
+
+        @Transactional(readOnly = true)
+        @Cacheable(cacheNames = "commentCount", sync = true)
+        public int countComments(UUID id) {
+            return newsRepository.findById(id).orElseThrow().getComments().size();
+        }
+
+        @Transactional
+        @CacheEvict(cacheNames = "commentCount", key = "#id")
+        public void evictComments(UUID id, Runnable afterCommit) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    afterCommit.run();
+                }
+            });
+        }
+    }
+}
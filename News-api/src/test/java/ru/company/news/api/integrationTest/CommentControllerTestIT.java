@@ -8,12 +8,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.company.news.api.constant.Dates;
 import ru.company.news.api.dto.comment.request.CreateCommentRequest;
 import ru.company.news.api.dto.comment.request.UpdateCommentRequest;
 import ru.company.news.api.entity.comment.Comment;
@@ -27,6 +29,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static ru.company.news.api.integrationTest.QueryCountMatchers.clearCaches;
+import static ru.company.news.api.integrationTest.QueryCountMatchers.queryCountAtMost;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -39,12 +43,16 @@ public class CommentControllerTestIT {
     private CommentRepository commentRepository;
     @Autowired
     private Gson gson;
+    @Autowired
+    private CacheManager cacheManager;
 
     private List<Comment> commentList = new ArrayList<>();
 
     @BeforeEach
     void dataInitialization() {
         commentList = commentRepository.findAll();
+        // The query budgets are of the loading path, not of the results cached by the previous tests.
+        clearCaches(cacheManager);
     }
 
     @Test
@@ -73,9 +81,10 @@ public class CommentControllerTestIT {
         mockMvc.perform(MockMvcRequestBuilders.get("/comment/details/{id}", commentList.get(1).getId())
                         .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(queryCountAtMost(1))
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.id", Matchers.is(commentList.get(1).getId().toString())))
-                .andExpect(jsonPath("$.date", Matchers.is(commentList.get(1).getDate())))
+                .andExpect(jsonPath("$.date", Matchers.is(commentList.get(1).getDate().format(Dates.FORMATTER))))
                 .andExpect(jsonPath("$.text", Matchers.is(commentList.get(1).getText())))
                 .andExpect(jsonPath("$.username", Matchers.is(commentList.get(1).getUsername())))
                 .andExpect(jsonPath("$.news").doesNotExist())
@@ -2,32 +2,40 @@ package ru.company.news.api.integrationTest;
 
 import com.google.gson.Gson;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import ru.company.news.api.config.FeedProperties;
+import ru.company.news.api.constant.Dates;
 import ru.company.news.api.dto.news.request.CreateNewsRequest;
 import ru.company.news.api.dto.news.request.UpdateNewsRequest;
 import ru.company.news.api.entity.news.News;
 import ru.company.news.api.repository.news.NewsRepository;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static ru.company.news.api.integrationTest.QueryCountMatchers.clearCaches;
+import static ru.company.news.api.integrationTest.QueryCountMatchers.queryCountAtMost;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -40,6 +48,10 @@ public class NewsControllerTestIT {
     private NewsRepository newsRepository;
     @Autowired
     private Gson gson;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private FeedProperties feedProperties;
 
     private List<News> newsList = new ArrayList<>();
 
@@ -47,6 +59,8 @@ public class NewsControllerTestIT {
     void dataInitialization() {
         Pageable pageable = PageRequest.of(0, 11, Sort.by("date").ascending());
         newsList = newsRepository.findAll(pageable).getContent();
+        // The query budgets are of the loading path, not of the results cached by the previous tests.
+        clearCaches(cacheManager);
     }
 
     @Test
@@ -59,11 +73,12 @@ public class NewsControllerTestIT {
                         .param("size", "2")
                         .param("sort", "date"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(queryCountAtMost(2))
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.[:1].id", Matchers.contains(newsList.get(0).getId().toString())))
-                .andExpect(jsonPath("$.[:1].date", Matchers.contains(newsList.get(0).getDate())))
+                .andExpect(jsonPath("$.[:1].date", Matchers.contains(newsList.get(0).getDate().format(Dates.FORMATTER))))
                 .andExpect(jsonPath("$.[:1].title", Matchers.contains(newsList.get(0).getTitle())))
-                .andExpect(jsonPath("$.[:1].text", Matchers.contains(newsList.get(0).getText())))
+                .andExpect(jsonPath("$.[:1].excerpt", Matchers.contains(excerpt(newsList.get(0).getText()))))
                 .andExpect(jsonPath("$.[:1].comments").doesNotExist())
                 .andDo(MockMvcResultHandlers.print());
     }
@@ -71,7 +86,7 @@ public class NewsControllerTestIT {
     @Test
     @DisplayName("Valid get news by parameters test")
     void validGetNewsByParametersTest() throws Exception {
-        String userInputDate = newsList.get(1).getDate();
+        String userInputDate = newsList.get(1).getDate().format(Dates.FORMATTER);
         String userInputTitle = newsList.get(1).getTitle().toLowerCase();
         String userInputText = newsList.get(1).getText().toUpperCase();
 
@@ -86,13 +101,29 @@ public class NewsControllerTestIT {
                 .andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.[*].id", Matchers.contains(newsList.get(1).getId().toString())))
-                .andExpect(jsonPath("$.[*].date", Matchers.contains(newsList.get(1).getDate())))
+                .andExpect(jsonPath("$.[*].date", Matchers.contains(newsList.get(1).getDate().format(Dates.FORMATTER))))
                 .andExpect(jsonPath("$.[*].title", Matchers.contains(newsList.get(1).getTitle())))
-                .andExpect(jsonPath("$.[*].text", Matchers.contains(newsList.get(1).getText())))
+                .andExpect(jsonPath("$.[*].excerpt", Matchers.contains(excerpt(newsList.get(1).getText()))))
                 .andExpect(jsonPath("$.[*].comments").doesNotExist())
                 .andDo(MockMvcResultHandlers.print());
     }
 
+    @Test
+    @DisplayName("Valid get news by date fragment test")
+    void validGetNewsByDateFragmentTest() throws Exception {
+        // Time of the news, a fragment that is not a whole period
+        String userInputDate = newsList.get(1).getDate().format(Dates.FORMATTER).substring(11);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/news/parameter")
+                        .param("date", userInputDate)
+                        .param("title", newsList.get(1).getTitle())
+                        .param("text", "")
+                        .param("mode", "SUBSTRING"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(jsonPath("$.[*].id", Matchers.contains(newsList.get(1).getId().toString())))
+                .andDo(MockMvcResultHandlers.print());
+    }
+
     @Test
     @DisplayName("Valid create news test")
     void validCreateNewsTest() throws Exception {
@@ -121,18 +152,35 @@ public class NewsControllerTestIT {
                         .param("size", "4")
                         .param("sort", "date"))
                 .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(queryCountAtMost(2))
                 .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.id", Matchers.is(newsList.get(2).getId().toString())))
-                .andExpect(jsonPath("$.date", Matchers.is(newsList.get(2).getDate())))
+                .andExpect(jsonPath("$.date", Matchers.is(newsList.get(2).getDate().format(Dates.FORMATTER))))
                 .andExpect(jsonPath("$.title", Matchers.is(newsList.get(2).getTitle())))
                 .andExpect(jsonPath("$.text", Matchers.is(newsList.get(2).getText())))
                 .andExpect(jsonPath("$.comments[:1].id", Matchers.contains(newsList.get(2).getComments().get(0).getId().toString())))
-                .andExpect(jsonPath("$.comments[:1].date", Matchers.contains(newsList.get(2).getComments().get(0).getDate())))
+                .andExpect(jsonPath("$.comments[:1].date", Matchers.contains(newsList.get(2).getComments().get(0).getDate().format(Dates.FORMATTER))))
                 .andExpect(jsonPath("$.comments[:1].text", Matchers.contains(newsList.get(2).getComments().get(0).getText())))
                 .andExpect(jsonPath("$.comments[:1].username", Matchers.contains(newsList.get(2).getComments().get(0).getUsername())))
                 .andDo(MockMvcResultHandlers.print());
     }
 
+    @Test
+    @DisplayName("Read news fields without comments test")
+    void readNewsFieldsTest() throws Exception {
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/news/details/{id}", newsList.get(2).getId())
+                        .param("size", "4")
+                        .param("sort", "date")
+                        .param("fields", "id,title"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(queryCountAtMost(1))
+                .andExpect(jsonPath("$.id", Matchers.is(newsList.get(2).getId().toString())))
+                .andExpect(jsonPath("$.title", Matchers.is(newsList.get(2).getTitle())))
+                .andExpect(jsonPath("$.comments").doesNotExist())
+                .andDo(MockMvcResultHandlers.print());
+    }
+
     @Test
     @DisplayName("Valid update news test")
     void validUpdateNewsTest() throws Exception {
@@ -180,7 +228,7 @@ public class NewsControllerTestIT {
     @Test
     @DisplayName("Invalid get news by parameters test")
     void invalidGetNewsByParametersTest() throws Exception {
-        String userInputDate = newsList.get(1).getDate();
+        String userInputDate = newsList.get(1).getDate().format(Dates.FORMATTER);
         String userInputTitle = newsList.get(1).getTitle().toLowerCase();
 
         // no  .param("text")
@@ -325,4 +373,26 @@ public class NewsControllerTestIT {
                 .andExpect(jsonPath("$.[:1].title", Matchers.contains(newsList.get(1).getTitle())))
                 .andDo(MockMvcResultHandlers.print());
     }
+
+    @Test
+    @DisplayName("Valid export news test")
+    void validExportNewsTest() throws Exception {
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/news/export"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(MockMvcResultMatchers.content().string(Matchers.containsString(newsList.get(0).getId().toString())))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        Assertions.assertEquals(newsRepository.count(), body.lines().count());
+        Assertions.assertFalse(body.contains("\"comments\""));
+    }
+
+    private String excerpt(String text) {
+        return text.substring(0, Math.min(text.length(), feedProperties.getExcerptLength()));
+    }
 }
@@ -0,0 +1,47 @@
+package ru.company.news.api.integrationTest;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.web.servlet.ResultMatcher;
+import ru.company.news.api.config.QueryCounter;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks of the number of JDBC statements of a request, returned in the "X-Query-Count" header
+ * when "news-api.query-count.header" is enabled.
+ * Only the statements of the request thread are counted: the ones of asynchronous exports, cache refreshes
+ * and the cache warm-up run on other threads and are not in the budget.
+ * A cached result executes no statements, so the caches are cleared with {@link #clearCaches(CacheManager)}
+ * before the measured request to check the budget of the loading path.
+ */
+public class QueryCountMatchers {
+
+    private QueryCountMatchers() {
+    }
+
+    /**
+     * Method for clearing all caches, so that the next request loads its data from the database.
+     *
+     * @param cacheManager cache manager of the application.
+     */
+    public static void clearCaches(CacheManager cacheManager) {
+        cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .forEach(Cache::clear);
+    }
+
+    /**
+     * @param budget maximum number of statements of the request.
+     * @return matcher failing if the request executed more statements than the budget.
+     */
+    public static ResultMatcher queryCountAtMost(int budget) {
+        return result -> {
+            String queryCount = result.getResponse().getHeader(QueryCounter.QUERY_COUNT_HEADER);
+            assertNotNull(queryCount, "No " + QueryCounter.QUERY_COUNT_HEADER + " header in the response");
+            assertTrue(Integer.parseInt(queryCount) <= budget,
+                    "Expected at most " + budget + " statements, but executed " + queryCount);
+        };
+    }
+}
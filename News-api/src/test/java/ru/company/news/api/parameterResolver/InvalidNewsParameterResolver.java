@@ -7,6 +7,8 @@ import org.junit.jupiter.api.extension.ParameterResolver;
 import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.entity.news.News;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -15,11 +17,11 @@ import java.util.UUID;
 public class InvalidNewsParameterResolver implements ParameterResolver {
 
     public static List<News> validNews = Arrays.asList(
-            new News(UUID.randomUUID(), "07-09-2022 17:24", "",
+            new News(UUID.randomUUID(), OffsetDateTime.of(2022, 9, 7, 17, 24, 0, 0, ZoneOffset.UTC), "",
                     "Теперь на ее счету пять титулов на турнирах WTA."),
-            new News(null, "07-10-2022 17:24", "   ",
+            new News(null, OffsetDateTime.of(2022, 10, 7, 17, 24, 0, 0, ZoneOffset.UTC), "   ",
                     "Теперь на ее счету пять титулов на турнирах WTA."),
-            new News(UUID.randomUUID(), "07-11-2022 17:24", "Касаткина выиграла теннисный турнир",
+            new News(UUID.randomUUID(), OffsetDateTime.of(2022, 11, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Касаткина выиграла теннисный турнир",
                     "")
 
     );
@@ -32,7 +34,7 @@ public class InvalidNewsParameterResolver implements ParameterResolver {
     @Override
     public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) throws ParameterResolutionException {
         News news = validNews.get(new Random().nextInt(validNews.size()));
-        news.getComments().add(new Comment(UUID.randomUUID(), "09-08-2022 17:34", "Хорошая новинка", "Anton", news));
+        news.getComments().add(new Comment(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 9, 17, 34, 0, 0, ZoneOffset.UTC), "Хорошая новинка", "Anton", news));
         return validNews.get(new Random().nextInt(validNews.size()));
     }
 }
\ No newline at end of file
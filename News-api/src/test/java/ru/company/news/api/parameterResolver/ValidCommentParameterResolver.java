@@ -7,6 +7,8 @@ import org.junit.jupiter.api.extension.ParameterResolver;
 import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.entity.news.News;
 
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
@@ -15,14 +17,14 @@ import java.util.UUID;
 public class ValidCommentParameterResolver implements ParameterResolver {
 
     public static List<Comment> validComment = Arrays.asList(
-            new Comment(UUID.randomUUID(), "07-08-2022 17:24", "Ожидаемо", "Anton",
-                    new News(UUID.randomUUID(), "07-08-2022 17:24", "Касаткина выиграла теннисный турнир",
+            new Comment(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Ожидаемо", "Anton",
+                    new News(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Касаткина выиграла теннисный турнир",
                             "Теперь на ее счету пять титулов на турнирах WTA.")),
-            new Comment(UUID.randomUUID(), "07-09-2022 17:24", "Прикольно", "Maxim",
-                    new News(UUID.randomUUID(), "07-08-2022 17:24", "Касаткина проиграла теннисный турнир",
+            new Comment(UUID.randomUUID(), OffsetDateTime.of(2022, 9, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Прикольно", "Maxim",
+                    new News(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Касаткина проиграла теннисный турнир",
                             "Теперь на ее счету четыре титулов на турнирах WTA.")),
-            new Comment(UUID.randomUUID(), "06-08-2022 10:24", "Класс", "Anton",
-                    new News(UUID.randomUUID(), "07-08-2022 17:24", "Касаткина была на теннисный турнир",
+            new Comment(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 6, 10, 24, 0, 0, ZoneOffset.UTC), "Класс", "Anton",
+                    new News(UUID.randomUUID(), OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Касаткина была на теннисный турнир",
                             "Теперь на ее счету три титулов на турнирах WTA."))
     );
 
@@ -7,8 +7,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import ru.company.news.api.config.CacheProperties;
+import ru.company.news.api.config.CacheTag;
+import ru.company.news.api.config.GuavaCache;
+import ru.company.news.api.config.GuavaCacheManager;
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
 import ru.company.news.api.dto.comment.request.CreateCommentRequest;
 import ru.company.news.api.dto.comment.request.UpdateCommentRequest;
+import ru.company.news.api.dto.comment.response.CommentDetailsResponse;
 import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.entity.news.News;
 import ru.company.news.api.repository.comment.CommentRepository;
@@ -16,8 +24,8 @@ import ru.company.news.api.service.comment.CommentApiService;
 import ru.company.news.api.repository.news.NewsRepository;
 
 import javax.persistence.EntityNotFoundException;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +39,10 @@ public class CommentServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private NewsRepository newsRepository;
+    @Mock
+    private GuavaCacheManager cacheManager;
+    @Mock
+    private GuavaCache cache;
     @InjectMocks
     private CommentApiService commentApiService;
 
@@ -46,11 +58,11 @@ public class CommentServiceTest {
         uuid1 = UUID.randomUUID();
         uuid2 = UUID.randomUUID();
 
-        news = new News(uuid2, "07-08-2022 17:24", "Касаткина выиграла теннисный турнир",
+        news = new News(uuid2, OffsetDateTime.of(2022, 8, 7, 17, 24, 0, 0, ZoneOffset.UTC), "Касаткина выиграла теннисный турнир",
                 "Теперь на ее счету пять титулов на турнирах WTA.");
-        comment1 = new Comment(null, LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")),
+        comment1 = new Comment(null, OffsetDateTime.now(),
                 "Ожидаемо", "Anton", news);
-        comment2 = new Comment(uuid2, LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")),
+        comment2 = new Comment(uuid2, OffsetDateTime.now(),
                 "Ожидаемо", "Anton", news);
     }
 
@@ -59,10 +71,12 @@ public class CommentServiceTest {
     void validCreateCommentTest() {
         CreateCommentRequest createCommentRequest = new CreateCommentRequest("Ожидаемо", "Anton", uuid2);
 
-        when(commentRepository.save(comment1)).thenReturn(comment1);
-        when(newsRepository.findById(news.getId())).thenReturn(Optional.ofNullable(news));
+        when(commentRepository.save(any(Comment.class))).thenReturn(comment1);
+        when(newsRepository.existsById(uuid2)).thenReturn(true);
+        when(newsRepository.getReferenceById(uuid2)).thenReturn(news);
 
         assertEquals(comment1, commentApiService.createComment(createCommentRequest));
+        verify(newsRepository, never()).findById(uuid2);
     }
 
     @Test
@@ -73,12 +87,68 @@ public class CommentServiceTest {
         assertThrows(EntityNotFoundException.class, () -> commentApiService.createComment(createCommentRequest));
     }
 
+    @Test
+    @DisplayName("Valid add comments test")
+    void validCreateCommentsTest() {
+        List<CreateCommentRequest> createCommentRequests = List.of(
+                new CreateCommentRequest("Ожидаемо", "Anton", uuid2),
+                new CreateCommentRequest("Прикольно", "Maxim", uuid2));
+
+        when(newsRepository.countByIdIn(Set.of(uuid2))).thenReturn(1L);
+        when(newsRepository.getReferenceById(uuid2)).thenReturn(news);
+        when(commentRepository.saveAll(anyList())).thenReturn(List.of(comment1, comment2));
+        when(cacheManager.getCache("newsDetails")).thenReturn(cache);
+
+        assertEquals(List.of(comment1, comment2), commentApiService.createComment(createCommentRequests));
+        verify(newsRepository).countByIdIn(Set.of(uuid2));
+        verify(cache).evict(CacheTag.news(uuid2));
+    }
+
+    @Test
+    @DisplayName("Add comments in transaction test")
+    void createCommentsInTransactionTest() {
+        List<CreateCommentRequest> createCommentRequests = List.of(
+                new CreateCommentRequest("Ожидаемо", "Anton", uuid2));
+
+        when(newsRepository.countByIdIn(Set.of(uuid2))).thenReturn(1L);
+        when(newsRepository.getReferenceById(uuid2)).thenReturn(news);
+        when(commentRepository.saveAll(anyList())).thenReturn(List.of(comment1));
+        when(cacheManager.getCache("newsDetails")).thenReturn(cache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            commentApiService.createComment(createCommentRequests);
+            verify(cache, never()).evict(any());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            verify(cache).evict(CacheTag.news(uuid2));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid add comments test")
+    void invalidCreateCommentsTest() {
+        List<CreateCommentRequest> createCommentRequests = List.of(
+                new CreateCommentRequest("Ожидаемо", "Anton", uuid2),
+                new CreateCommentRequest("Прикольно", "Maxim", uuid1));
+
+        when(newsRepository.countByIdIn(Set.of(uuid1, uuid2))).thenReturn(1L);
+
+        assertThrows(EntityNotFoundException.class, () -> commentApiService.createComment(createCommentRequests));
+        verify(commentRepository, never()).saveAll(anyList());
+    }
+
     @Test
     @DisplayName("Valid read comment test")
     void validReadCommentTest() {
-        when(commentRepository.findById(uuid1)).thenReturn(Optional.ofNullable(comment1));
+        CommentDetailsResponse comment = toDetails(comment1);
+
+        when(commentRepository.getDetailsById(uuid1)).thenReturn(Optional.of(comment));
 
-        assertEquals(comment1, commentApiService.readComment(uuid1));
+        assertEquals(comment, commentApiService.readComment(uuid1));
+        verify(commentRepository, never()).findById(any());
     }
 
     @Test
@@ -87,15 +157,47 @@ public class CommentServiceTest {
         assertThrows(EntityNotFoundException.class, () -> commentApiService.readComment(uuid2));
     }
 
+    @Test
+    @DisplayName("Read several comments test")
+    void readCommentsTest() {
+        UUID uuid3 = UUID.randomUUID();
+        CommentDetailsResponse comment2Details = toDetails(comment2);
+        CommentDetailsResponse comment3 = new CommentDetailsResponse(uuid3, OffsetDateTime.now(), "Неожиданно",
+                "Anton", news.getId());
+
+        GuavaCache commentCache = new GuavaCache("comment", new CacheProperties.Spec());
+        commentCache.put(uuid2, comment2Details);
+
+        when(cacheManager.getCache("comment")).thenReturn(commentCache);
+        when(commentRepository.getDetailsByIdIn(Set.of(uuid1, uuid3))).thenReturn(List.of(comment3));
+
+        List<BatchReadResponse<CommentDetailsResponse>> comments =
+                commentApiService.readComment(List.of(uuid2, uuid1, uuid3));
+
+        assertEquals(List.of(BatchReadResponse.of(uuid2, comment2Details), BatchReadResponse.of(uuid1, null),
+                BatchReadResponse.of(uuid3, comment3)), comments);
+        assertFalse(comments.get(1).isFound());
+        assertEquals(comment3, commentCache.get(uuid3, CommentDetailsResponse.class));
+        assertNull(commentCache.get(uuid1));
+        verify(commentRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("Valid update comment test")
     void validUpdateCommentTest() {
         UpdateCommentRequest updateCommentRequest = new UpdateCommentRequest("Ожидаемо", "Anton", uuid1);
 
-        when(commentRepository.save(comment2)).thenReturn(comment2);
-        when(commentRepository.findById(uuid2)).thenReturn(Optional.ofNullable(comment2));
+        when(commentRepository.getNewsIdById(uuid2)).thenReturn(Optional.of(news.getId()));
+        when(newsRepository.getReferenceById(news.getId())).thenReturn(news);
+        when(commentRepository.updateById(eq(uuid2), any(OffsetDateTime.class), eq(updateCommentRequest.getText()),
+                eq(updateCommentRequest.getUsername()))).thenReturn(1);
+
+        Comment comment = commentApiService.updateComment(uuid2, updateCommentRequest);
 
-        assertEquals(comment2, commentApiService.updateComment(uuid2, updateCommentRequest));
+        assertEquals(uuid2, comment.getId());
+        assertEquals(updateCommentRequest.getText(), comment.getText());
+        assertEquals(news, comment.getNews());
+        verify(commentRepository, never()).save(any(Comment.class));
     }
 
     @Test
@@ -109,9 +211,31 @@ public class CommentServiceTest {
     @Test
     @DisplayName("Valid delete comment test")
     void validDeleteCommentTest() {
-        when(commentRepository.findById(uuid1)).thenReturn(Optional.ofNullable(comment1));
+        when(commentRepository.getNewsIdById(uuid1)).thenReturn(Optional.of(news.getId()));
+        when(commentRepository.removeById(uuid1)).thenReturn(1);
+        when(cacheManager.getCache("newsDetails")).thenReturn(cache);
 
         assertEquals(uuid1, commentApiService.deleteComment(uuid1));
+        verify(cache).evict(CacheTag.news(uuid2));
+    }
+
+    @Test
+    @DisplayName("Delete comment in transaction test")
+    void deleteCommentInTransactionTest() {
+        when(commentRepository.getNewsIdById(uuid1)).thenReturn(Optional.of(news.getId()));
+        when(commentRepository.removeById(uuid1)).thenReturn(1);
+        when(cacheManager.getCache("newsDetails")).thenReturn(cache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertEquals(uuid1, commentApiService.deleteComment(uuid1));
+            verify(cache, never()).evict(any());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            verify(cache).evict(CacheTag.news(uuid2));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -119,4 +243,9 @@ public class CommentServiceTest {
     void invalidDeleteCommentTest() {
         assertThrows(EntityNotFoundException.class, () -> commentApiService.deleteComment(uuid1));
     }
+
+    private CommentDetailsResponse toDetails(Comment comment) {
+        return new CommentDetailsResponse(comment.getId(), comment.getDate(), comment.getText(), comment.getUsername(),
+                comment.getNews().getId());
+    }
 }
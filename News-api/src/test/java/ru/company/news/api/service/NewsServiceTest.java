@@ -7,10 +7,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import ru.company.news.api.config.CacheProperties;
+import ru.company.news.api.config.CacheTag;
+import ru.company.news.api.config.FeedProperties;
+import ru.company.news.api.config.FullTextSearch;
+import ru.company.news.api.config.GuavaCache;
+import ru.company.news.api.config.GuavaCacheManager;
+import ru.company.news.api.constant.Dates;
+import ru.company.news.api.dto.batch.response.BatchReadResponse;
+import ru.company.news.api.dto.comment.response.CommentResponse;
 import ru.company.news.api.dto.news.request.CreateNewsRequest;
+import ru.company.news.api.dto.news.request.SearchMode;
 import ru.company.news.api.dto.news.request.UpdateNewsRequest;
+import ru.company.news.api.dto.news.response.NewsDetailsResponse;
+import ru.company.news.api.dto.news.response.NewsResponse;
+import ru.company.news.api.dto.news.response.NewsSummaryResponse;
+import ru.company.news.api.dto.page.Cursor;
 import ru.company.news.api.entity.comment.Comment;
 import ru.company.news.api.entity.news.News;
 import ru.company.news.api.repository.comment.CommentRepository;
@@ -19,7 +36,10 @@ import ru.company.news.api.repository.news.NewsRepository;
 
 import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +52,14 @@ public class NewsServiceTest {
     private CommentRepository commentRepository;
     @Mock
     private NewsRepository newsRepository;
+    @Mock
+    private FullTextSearch fullTextSearch;
+    @Mock
+    private GuavaCacheManager cacheManager;
+    @Mock
+    private GuavaCache cache;
+    @Spy
+    private FeedProperties feedProperties = new FeedProperties();
     @InjectMocks
     private NewsApiService newsApiService;
 
@@ -40,36 +68,84 @@ public class NewsServiceTest {
     private News news3;
     private News news4;
     private UUID uuid1;
-    List<News> newsList = new ArrayList<>();
+    private NewsSummaryResponse summary2;
+    private NewsSummaryResponse summary3;
+    List<NewsSummaryResponse> summaryList = new ArrayList<>();
 
     @BeforeEach
     void dataInitialization() {
         uuid1 = UUID.randomUUID();
+        OffsetDateTime now = OffsetDateTime.now();
 
-        news1 = new News(null, LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")),
+        news1 = new News(null, now,
                 "Касаткина выиграла теннисный турнир", "Теперь на ее счету пять титулов на турнирах WTA.");
-        news2 = new News(uuid1, LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")),
+        news2 = new News(uuid1, now,
                 "Касаткина выиграла", "Теперь на ее счету пять титулов на турнирах WTA.");
-        news3 = new News(uuid1, LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")),
+        news3 = new News(uuid1, now,
                 "Касаткина выиграла теннисный турнир", "Теперь на ее счету пять титулов на турнирах WTA.");
-        news4 = new News(uuid1, LocalDateTime.now().format(DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm")),
+        news4 = new News(uuid1, now,
                 "Касаткина выиграла теннисный турнир", "Теперь на ее счету пять титулов на турнирах WTA.");
         news3.getComments().add(new Comment(UUID.fromString("5f3319c3-bacf-446b-bb49-6596158807cb"),
-                "09-08-2022 17:34", "Хорошая новинка", "Anton", news3));
+                OffsetDateTime.of(2022, 8, 9, 17, 34, 0, 0, ZoneOffset.UTC), "Хорошая новинка", "Anton", news3));
         news4.getComments().add(new Comment(UUID.fromString("5f3319c3-bacf-446b-bb49-6596158807cb"),
-                "09-08-2022 17:34", "Хорошая новинка", "Anton", news3));
-        newsList.add(news3);
+                OffsetDateTime.of(2022, 8, 9, 17, 34, 0, 0, ZoneOffset.UTC), "Хорошая новинка", "Anton", news3));
+        summary2 = new NewsSummaryResponse(uuid1, now, news2.getTitle(), news2.getText());
+        summary3 = new NewsSummaryResponse(uuid1, now, news3.getTitle(), news3.getText());
+        summaryList.add(summary3);
     }
 
     @Test
     @DisplayName("Get news test")
     void getNewsTest() {
         Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
-        Page<News> newsPage = new PageImpl<>(newsList);
 
-        when(newsRepository.findAll(pageable)).thenReturn(newsPage);
+        when(newsRepository.getSummaries(200, pageable)).thenReturn(summaryList);
+
+        assertEquals(summaryList, newsApiService.getNews(pageable, null));
+    }
+
+    @Test
+    @DisplayName("Get news without excerpt test")
+    void getNewsWithoutExcerptTest() {
+        Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
+
+        when(newsRepository.getSummaries(0, pageable)).thenReturn(summaryList);
 
-        assertEquals(newsList, newsApiService.getNews(pageable));
+        assertEquals(summaryList, newsApiService.getNews(pageable, Set.of("id", "title")));
+    }
+
+    @Test
+    @DisplayName("Get news after cursor test")
+    void getNewsAfterCursorTest() {
+        Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
+        Cursor cursor = new Cursor(news3.getDate(), uuid1);
+
+        when(newsRepository.getSummariesAfter(cursor.getDate(), cursor.getId(), 200, PageRequest.of(0, 9)))
+                .thenReturn(summaryList);
+
+        assertEquals(summaryList, newsApiService.getNews(cursor, null, pageable, null));
+    }
+
+    @Test
+    @DisplayName("Get news before cursor test")
+    void getNewsBeforeCursorTest() {
+        Pageable pageable = PageRequest.of(0, 9, Sort.by("date").descending());
+        Cursor cursor = new Cursor(news3.getDate(), uuid1);
+
+        when(newsRepository.getSummariesAfter(cursor.getDate(), cursor.getId(), 200, PageRequest.of(0, 9)))
+                .thenReturn(Arrays.asList(summary2, summary3));
+
+        assertEquals(Arrays.asList(summary3, summary2), newsApiService.getNews(null, cursor, pageable, null));
+    }
+
+    @Test
+    @DisplayName("Get news by cursor with unsupported sort test")
+    void getNewsByCursorUnsupportedSortTest() {
+        Pageable pageable = PageRequest.of(0, 9, Sort.by("title").ascending());
+        Cursor cursor = new Cursor(news3.getDate(), uuid1);
+
+        assertThrows(UnsupportedSortException.class, () -> newsApiService.getNews(cursor, null, pageable, null));
+        verifyNoInteractions(newsRepository);
     }
 
     @Test
@@ -79,23 +155,99 @@ public class NewsServiceTest {
         String userInputDate = "2022";
         String userInputTitle = "кино";
         String userInputText = "новинка";
+        OffsetDateTime from = LocalDateTime.of(2022, 1, 1, 0, 0).atZone(ZoneId.systemDefault()).toOffsetDateTime();
+        OffsetDateTime to = LocalDateTime.of(2023, 1, 1, 0, 0).atZone(ZoneId.systemDefault()).toOffsetDateTime();
 
-        when(newsRepository.getByDateContainingAndTitleContainingIgnoreCaseAndTextContainingIgnoreCase(
-                userInputDate, userInputTitle, userInputText, pageable)).thenReturn(newsList);
+        when(newsRepository.getSummariesBySubstring(from, to, "", userInputTitle, userInputText, 200, pageable))
+                .thenReturn(summaryList);
 
-        assertEquals(newsList, newsApiService.getNews(userInputDate, userInputTitle, userInputText, pageable));
+        assertEquals(summaryList, newsApiService.getNews(userInputDate, null, null, userInputTitle, userInputText,
+                SearchMode.SUBSTRING, pageable, null));
+    }
+
+    @Test
+    @DisplayName("Get news by date range test")
+    void getNewsByDateRangeTest() {
+        Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
+        LocalDateTime from = LocalDateTime.of(2022, 8, 9, 12, 30);
+        LocalDateTime to = LocalDateTime.of(2022, 8, 10, 0, 0);
+
+        when(newsRepository.getSummariesBySubstring(
+                from.atZone(ZoneId.systemDefault()).toOffsetDateTime(),
+                to.atZone(ZoneId.systemDefault()).toOffsetDateTime(),
+                "", "", "", 200, pageable)).thenReturn(summaryList);
+
+        assertEquals(summaryList, newsApiService.getNews("09-08-2022", from, null, "", "", SearchMode.FULL_TEXT, pageable, null));
+        assertEquals(summaryList, newsApiService.getNews("", from, to, "", "", SearchMode.SUBSTRING, pageable, null));
+    }
+
+    @Test
+    @DisplayName("Get news by date fragment test")
+    void getNewsByDateFragmentTest() {
+        Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
+
+        when(newsRepository.getSummariesBySubstring(Dates.MIN, Dates.MAX, "17:24", "", "", 200, pageable))
+                .thenReturn(summaryList);
+        when(newsRepository.getSummariesBySubstring(Dates.MIN, Dates.MAX, "09-08", "", "", 200, pageable))
+                .thenReturn(summaryList);
+
+        assertEquals(summaryList, newsApiService.getNews("17:24", null, null, "", "", SearchMode.SUBSTRING,
+                pageable, null));
+        assertEquals(summaryList, newsApiService.getNews(" 09-08 ", null, null, "", "", SearchMode.SUBSTRING,
+                pageable, null));
+    }
+
+    @Test
+    @DisplayName("Get news by full-text search test")
+    void getNewsByFullTextTest() {
+        Pageable pageable = PageRequest.of(2, 9, Sort.by("date").ascending());
+
+        when(fullTextSearch.isAvailable()).thenReturn(true);
+        when(newsRepository.getSummariesByFullText("турнир WTA", Dates.MIN, Dates.MAX, "", 200, 9, 18L))
+                .thenReturn(summaryList);
+
+        assertEquals(summaryList, newsApiService.getNews("", null, null, "турнир", "WTA", SearchMode.FULL_TEXT,
+                pageable, null));
+    }
+
+    @Test
+    @DisplayName("Invalid get news by date test")
+    void invalidGetNewsByDateTest() {
+        Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
+
+        assertThrows(DateTimeParseException.class, () -> newsApiService.getNews("вчера", null, null, "", "",
+                SearchMode.SUBSTRING, pageable, null));
+        assertThrows(DateTimeParseException.class, () -> newsApiService.getNews("32-08-2022", null, null, "", "",
+                SearchMode.SUBSTRING, pageable, null));
     }
 
     @Test
     @DisplayName("Valid read news test")
     void validReadNewsTest() {
         Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
-        List<Comment> commentsByPage = Collections.singletonList(news4.getComments().get(0));
+        Comment comment = news4.getComments().get(0);
+        List<CommentResponse> commentsByPage = Collections.singletonList(new CommentResponse(comment.getId(),
+                comment.getDate(), comment.getText(), comment.getUsername()));
+        NewsDetailsResponse newsDetailsResponse = new NewsDetailsResponse(news3.getId(), news3.getDate(),
+                news3.getTitle(), news3.getText(), commentsByPage);
+
+        when(newsRepository.findById(uuid1)).thenReturn(Optional.ofNullable(news3));
+        when(commentRepository.getByNews(news3, pageable)).thenReturn(commentsByPage);
+
+        Assertions.assertEquals(newsDetailsResponse, newsApiService.readNews(uuid1, pageable, null));
+    }
+
+    @Test
+    @DisplayName("Read news without comments test")
+    void readNewsWithoutCommentsTest() {
+        Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
+        NewsDetailsResponse newsDetailsResponse = new NewsDetailsResponse(news3.getId(), news3.getDate(),
+                news3.getTitle(), news3.getText(), null);
 
         when(newsRepository.findById(uuid1)).thenReturn(Optional.ofNullable(news3));
-        when(commentRepository.getByNews(news4, pageable)).thenReturn(commentsByPage);
 
-        Assertions.assertEquals(news3, newsApiService.readNews(uuid1, pageable));
+        assertEquals(newsDetailsResponse, newsApiService.readNews(uuid1, pageable, Set.of("id", "title")));
+        verifyNoInteractions(commentRepository);
     }
 
     @Test
@@ -103,7 +255,28 @@ public class NewsServiceTest {
     void invalidReadNewsTest() {
         Pageable pageable = PageRequest.of(0, 9, Sort.by("date").ascending());
 
-        assertThrows(EntityNotFoundException.class, () -> newsApiService.readNews(uuid1, pageable));
+        assertThrows(EntityNotFoundException.class, () -> newsApiService.readNews(uuid1, pageable, null));
+    }
+
+    @Test
+    @DisplayName("Read several news test")
+    void readSeveralNewsTest() {
+        UUID uuid2 = UUID.randomUUID();
+        UUID uuid3 = UUID.randomUUID();
+        NewsResponse news2Response = new NewsResponse(uuid1, news2.getDate(), news2.getTitle(), news2.getText());
+        NewsResponse news5Response = new NewsResponse(uuid2, OffsetDateTime.now(), "Новый сезон", "Сериал продлили на новый сезон.");
+        GuavaCache newsById = new GuavaCache("newsById", new CacheProperties.Spec());
+        newsById.put(uuid1, news2Response);
+
+        when(cacheManager.getCache("newsById")).thenReturn(newsById);
+        when(newsRepository.getByIdIn(Set.of(uuid3, uuid2))).thenReturn(List.of(news5Response));
+
+        assertEquals(List.of(BatchReadResponse.of(uuid3, null), BatchReadResponse.of(uuid1, news2Response),
+                        BatchReadResponse.of(uuid2, news5Response), BatchReadResponse.of(uuid1, news2Response)),
+                newsApiService.readNews(List.of(uuid3, uuid1, uuid2, uuid1)));
+        assertEquals(news5Response, newsById.get(uuid2, NewsResponse.class));
+        assertNull(newsById.get(uuid3));
+        verify(newsRepository, never()).findAllById(any());
     }
 
     @Test
@@ -112,7 +285,7 @@ public class NewsServiceTest {
         CreateNewsRequest createNewsRequest = new CreateNewsRequest("Касаткина выиграла теннисный турнир",
                 "Теперь на ее счету пять титулов на турнирах WTA.");
 
-        when(newsRepository.save(news1)).thenReturn(news1);
+        when(newsRepository.save(any(News.class))).thenReturn(news1);
 
         Assertions.assertEquals(news1, newsApiService.createNews(createNewsRequest));
     }
@@ -123,10 +296,15 @@ public class NewsServiceTest {
         UpdateNewsRequest updateNewsRequest = new UpdateNewsRequest(uuid1, "Касаткина выиграла",
                 "Теперь на ее счету пять титулов на турнирах WTA.");
 
-        when(newsRepository.findById(updateNewsRequest.getId())).thenReturn(Optional.ofNullable(news2));
-        when(newsRepository.save(news2)).thenReturn(news2);
+        when(newsRepository.updateById(eq(uuid1), any(OffsetDateTime.class), eq(updateNewsRequest.getTitle()),
+                eq(updateNewsRequest.getText()))).thenReturn(1);
+
+        News news = newsApiService.updateNews(updateNewsRequest);
 
-        Assertions.assertEquals(news2, newsApiService.updateNews(updateNewsRequest));
+        assertEquals(uuid1, news.getId());
+        assertEquals(updateNewsRequest.getTitle(), news.getTitle());
+        assertEquals(updateNewsRequest.getText(), news.getText());
+        verify(newsRepository, never()).findById(uuid1);
     }
 
     @Test
@@ -141,9 +319,11 @@ public class NewsServiceTest {
     @Test
     @DisplayName("Valid delete news test")
     void validDeleteNewsTest() {
-        when(newsRepository.findById(uuid1)).thenReturn(Optional.ofNullable(news1));
+        when(newsRepository.removeById(uuid1)).thenReturn(1);
 
         assertEquals(uuid1, newsApiService.deleteNews(uuid1));
+        verify(commentRepository).removeByNewsId(uuid1);
+        verify(newsRepository, never()).findById(uuid1);
     }
 
     @Test
@@ -151,4 +331,36 @@ public class NewsServiceTest {
     void invalidDeleteNewsTest() {
         assertThrows(EntityNotFoundException.class, () -> newsApiService.deleteNews(uuid1));
     }
+
+    @Test
+    @DisplayName("Delete several news test")
+    void deleteSeveralNewsTest() {
+        UUID uuid2 = UUID.randomUUID();
+
+        when(newsRepository.getIdsByIdIn(Set.of(uuid1, uuid2))).thenReturn(List.of(uuid1));
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+
+        assertEquals(List.of(uuid1), newsApiService.deleteNews(Set.of(uuid1, uuid2)));
+        verify(commentRepository).removeByNewsIdIn(List.of(uuid1));
+        verify(newsRepository).removeByIdIn(List.of(uuid1));
+        verify(cache, times(4)).evict(CacheTag.news(uuid1));
+    }
+
+    @Test
+    @DisplayName("Delete several news in transaction test")
+    void deleteSeveralNewsInTransactionTest() {
+        when(newsRepository.getIdsByIdIn(Set.of(uuid1))).thenReturn(List.of(uuid1));
+        when(cacheManager.getCache(anyString())).thenReturn(cache);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertEquals(List.of(uuid1), newsApiService.deleteNews(Set.of(uuid1)));
+            verify(cache, never()).evict(any());
+
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            verify(cache, times(4)).evict(CacheTag.news(uuid1));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }